@@ -36,6 +36,7 @@ import org.eclipse.mosaic.interactions.application.SumoTraciResponse;
 import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.electricity.ChargingStationUpdate;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
 import org.eclipse.mosaic.interactions.electricity.VehicleChargingDenial;
@@ -65,12 +66,14 @@ import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
 import org.eclipse.mosaic.lib.objects.traffic.LaneAreaDetectorInfo;
 import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroupInfo;
 import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
 import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
 import org.eclipse.mosaic.lib.objects.vehicle.BatteryData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.util.FileUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
+import org.eclipse.mosaic.lib.util.scheduling.BucketedEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
@@ -80,6 +83,7 @@ import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionHandlerTable;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
@@ -96,6 +100,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.Nonnull;
 
 /**
@@ -108,6 +115,22 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private final Map<String, VehicleRegistration> vehicleRegistrations = new HashMap<>();
 
+    /**
+     * All times for which a time advance has been requested at the RTI, but which have not been granted yet.
+     * Events may be added concurrently by the {@link MultiThreadedEventScheduler}.
+     */
+    private final NavigableSet<Long> requestedTimes = new ConcurrentSkipListSet<>();
+
+    /**
+     * Number of time advance requests which have not been sent to the RTI, since the same time was already requested.
+     */
+    private final LongAdder suppressedTimeAdvanceRequests = new LongAdder();
+
+    /**
+     * Handlers of all processed interactions, looked up by the type index of received interactions.
+     */
+    private final InteractionHandlerTable interactionHandlers = createInteractionHandlers();
+
     /**
      * Constructor for {@link ApplicationAmbassador}.
      * This will load the configuration, initialize the {@link SimulationKernel},
@@ -129,10 +152,19 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                     "Number of eventSchedulerThreads must be greater than zero."
             );
 
-            if (ambassadorConfig.eventSchedulerThreads == 1) {
+            Validate.isTrue(ambassadorConfig.eventSchedulerType != CApplicationAmbassador.EventSchedulerType.BUCKETED
+                            || ambassadorConfig.eventSchedulerThreads == 1,
+                    "The bucketed event scheduler supports only one eventSchedulerThread."
+            );
+
+            if (ambassadorConfig.eventSchedulerType == CApplicationAmbassador.EventSchedulerType.BUCKETED) {
+                eventScheduler = new BucketedEventScheduler();
+            } else if (ambassadorConfig.eventSchedulerThreads == 1) {
                 eventScheduler = new DefaultEventScheduler();
             } else {
-                eventScheduler = new MultiThreadedEventScheduler(ambassadorConfig.eventSchedulerThreads);
+                eventScheduler = new MultiThreadedEventScheduler(
+                        ambassadorConfig.eventSchedulerThreads, ambassadorConfig.eventSchedulerExecutionMode
+                );
             }
 
             SimulationKernel.SimulationKernel.setConfiguration(ambassadorConfig);
@@ -242,6 +274,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         SimulationKernel.SimulationKernel.getCentralNavigationComponent().close();
 
         log.debug("remaining events: {}", eventScheduler.getAllEvents());
+        log.debug("suppressed time advance requests: {}", getSuppressedTimeAdvanceRequests());
         UnitSimulator.UnitSimulator.removeAllSimulationUnits();
     }
 
@@ -252,6 +285,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 log.debug("processTimeAdvanceGrant({})", TIME.format(time));
             }
             SimulationKernel.SimulationKernel.setCurrentSimulationTime(time);
+            // events added from now on at this time or later require a new time advance request
+            requestedTimes.headSet(time, true).clear();
             final int scheduled = eventScheduler.scheduleEvents(time);
             log.debug("scheduled {} events at time {}", scheduled, TIME.format(time));
             if (log.isTraceEnabled()) {
@@ -262,6 +297,38 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         }
     }
 
+    private InteractionHandlerTable createInteractionHandlers() {
+        return new InteractionHandlerTable()
+                .register(RsuRegistration.class, this::process)
+                .register(ChargingStationRegistration.class, this::process)
+                .register(AgentRegistration.class, this::process)
+                .register(TrafficLightRegistration.class, this::process)
+                .register(VehicleRegistration.class, this::process)
+                .register(ScenarioVehicleRegistration.class, this::process)
+                .register(RoutelessVehicleRegistration.class, this::process)
+                .register(TmcRegistration.class, this::process)
+                .register(ServerRegistration.class, this::process)
+                .register(VehicleChargingDenial.class, this::process)
+                .register(ChargingStationUpdate.class, this::process)
+                .register(VehicleRouteRegistration.class, this::process)
+                .register(V2xMessageReception.class, this::process)
+                .register(V2xMessageReceptions.class, this::process)
+                .register(V2xFullMessageReception.class, this::process)
+                .register(EnvironmentSensorUpdates.class, this::process)
+                .register(TrafficDetectorUpdates.class, this::process)
+                .register(VehicleSeenTrafficSignsUpdate.class, this::process)
+                .register(SumoTraciResponse.class, this::process)
+                .register(V2xMessageAcknowledgement.class, this::process)
+                .register(TrafficLightUpdates.class, this::process)
+                .register(VehicleUpdates.class, this::process)
+                .register(AgentUpdates.class, this::process)
+                .register(LidarUpdates.class, this::process)
+                .register(VehicleBatteryUpdates.class, this::process)
+                .register(VehicleRoutesInitialization.class, this::process)
+                .register(VehicleTypesInitialization.class, this::process)
+                .register(ApplicationInteraction.class, this::process);
+    }
+
     @Override
     protected void processInteraction(final Interaction interaction) throws InternalFederateException {
         if (log.isDebugEnabled()) {
@@ -272,61 +339,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             );
         }
         try {
-            if (interaction.getTypeId().equals(RsuRegistration.TYPE_ID)) {
-                this.process((RsuRegistration) interaction);
-            } else if (interaction.getTypeId().equals(ChargingStationRegistration.TYPE_ID)) {
-                this.process((ChargingStationRegistration) interaction);
-            } else if (interaction.getTypeId().equals(AgentRegistration.TYPE_ID)) {
-                this.process((AgentRegistration) interaction);
-            } else if (interaction.getTypeId().equals(TrafficLightRegistration.TYPE_ID)) {
-                this.process((TrafficLightRegistration) interaction);
-            } else if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
-                this.process((VehicleRegistration) interaction);
-            } else if (interaction.getTypeId().equals(ScenarioVehicleRegistration.TYPE_ID)) {
-                this.process((ScenarioVehicleRegistration) interaction);
-            } else if (interaction.getTypeId().equals(RoutelessVehicleRegistration.TYPE_ID)) {
-                this.process((RoutelessVehicleRegistration) interaction);
-            } else if (interaction.getTypeId().equals(TmcRegistration.TYPE_ID)) {
-                this.process((TmcRegistration) interaction);
-            } else if (interaction.getTypeId().equals(ServerRegistration.TYPE_ID)) {
-                this.process((ServerRegistration) interaction);
-            } else if (interaction.getTypeId().equals(VehicleChargingDenial.TYPE_ID)) {
-                this.process((VehicleChargingDenial) interaction);
-            } else if (interaction.getTypeId().equals(ChargingStationUpdate.TYPE_ID)) {
-                this.process((ChargingStationUpdate) interaction);
-            } else if (interaction.getTypeId().equals(VehicleRouteRegistration.TYPE_ID)) {
-                this.process((VehicleRouteRegistration) interaction);
-            } else if (interaction.getTypeId().equals(V2xMessageReception.TYPE_ID)) {
-                this.process((V2xMessageReception) interaction);
-            } else if (interaction.getTypeId().equals(V2xFullMessageReception.TYPE_ID)) {
-                this.process((V2xFullMessageReception) interaction);
-            } else if (interaction.getTypeId().equals(EnvironmentSensorUpdates.TYPE_ID)) {
-                this.process((EnvironmentSensorUpdates) interaction);
-            } else if (interaction.getTypeId().equals(TrafficDetectorUpdates.TYPE_ID)) {
-                this.process((TrafficDetectorUpdates) interaction);
-            } else if (interaction.getTypeId().equals(VehicleSeenTrafficSignsUpdate.TYPE_ID)) {
-                this.process((VehicleSeenTrafficSignsUpdate) interaction);
-            } else if (interaction.getTypeId().equals(SumoTraciResponse.TYPE_ID)) {
-                this.process((SumoTraciResponse) interaction);
-            } else if (interaction.getTypeId().equals(V2xMessageAcknowledgement.TYPE_ID)) {
-                this.process((V2xMessageAcknowledgement) interaction);
-            } else if (interaction.getTypeId().equals(TrafficLightUpdates.TYPE_ID)) {
-                this.process((TrafficLightUpdates) interaction);
-            } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-                this.process((VehicleUpdates) interaction);
-            } else if (interaction.getTypeId().equals(AgentUpdates.TYPE_ID)) {
-                this.process((AgentUpdates) interaction);
-            } else if (interaction.getTypeId().equals(LidarUpdates.TYPE_ID)) {
-                this.process((LidarUpdates) interaction);
-            } else if (interaction.getTypeId().equals(VehicleBatteryUpdates.TYPE_ID)) {
-                this.process((VehicleBatteryUpdates) interaction);
-            } else if (interaction.getTypeId().equals(VehicleRoutesInitialization.TYPE_ID)) {
-                this.process((VehicleRoutesInitialization) interaction);
-            } else if (interaction.getTypeId().equals(VehicleTypesInitialization.TYPE_ID)) {
-                this.process((VehicleTypesInitialization) interaction);
-            } else if (interaction.getTypeId().equals(ApplicationInteraction.TYPE_ID)) {
-                this.process((ApplicationInteraction) interaction);
-            } else {
+            if (!interactionHandlers.dispatch(interaction)) {
                 log.warn("Unknown interaction received with time {} : {}", TIME.format(interaction.getTime()), interaction.getTypeId());
             }
         } catch (RuntimeException e) {
@@ -504,12 +517,35 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
             log.warn("V2XMessage with id {} is unknown", v2xMessageReception.getMessageId());
             return;
         }
+        addV2xMessageReceptionEvent(
+                v2xMessageReception.getTime(), simulationUnit, v2XMessage, v2xMessageReception.getReceiverInformation()
+        );
+    }
 
-        ReceivedV2xMessage receivedV2xMessage = new ReceivedV2xMessage(
-                v2XMessage,
-                v2xMessageReception.getReceiverInformation());
+    private void process(final V2xMessageReceptions v2xMessageReceptions) {
+        // the message is looked up once for all receivers
+        V2xMessage v2XMessage = SimulationKernel.SimulationKernel.getV2xMessageCache().getItem(v2xMessageReceptions.getMessageId());
+        if (v2XMessage == null) {
+            log.warn("V2XMessage with id {} is unknown", v2xMessageReceptions.getMessageId());
+            return;
+        }
+        for (int i = 0; i < v2xMessageReceptions.size(); i++) {
+            final AbstractSimulationUnit simulationUnit =
+                    UnitSimulator.UnitSimulator.getUnitFromId(v2xMessageReceptions.getReceiverName(i));
+            // we don't simulate vehicles without an application
+            if (simulationUnit != null) {
+                addV2xMessageReceptionEvent(
+                        v2xMessageReceptions.getReceiveTime(i), simulationUnit, v2XMessage, v2xMessageReceptions.getReceiverInformation(i)
+                );
+            }
+        }
+    }
+
+    private void addV2xMessageReceptionEvent(long time, AbstractSimulationUnit simulationUnit, V2xMessage v2XMessage,
+                                             V2xReceiverInformation receiverInformation) {
+        ReceivedV2xMessage receivedV2xMessage = new ReceivedV2xMessage(v2XMessage, receiverInformation);
         final Event event = new Event(
-                v2xMessageReception.getTime(),
+                time,
                 simulationUnit,
                 receivedV2xMessage,
                 EventNicenessPriorityRegister.V2X_MESSAGE_RECEPTION
@@ -690,6 +726,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
 
     private void process(final VehicleUpdates vehicleUpdates) {
         SimulationKernel.SimulationKernel.getCentralPerceptionComponent().updateVehicles(vehicleUpdates);
+        final List<Event> events = new ArrayList<>(vehicleUpdates.getAdded().size() + vehicleUpdates.getUpdated().size() + 2);
         // schedule all added vehicles
         for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
             addVehicleIfNotYetAdded(vehicleUpdates.getTime(), vehicleData.getName());
@@ -704,7 +741,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                     vehicleData,
                     EventNicenessPriorityRegister.VEHICLE_ADDED
             );
-            addEvent(event);
+            events.add(event);
         }
 
         // schedule all updated vehicles
@@ -721,7 +758,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                     vehicleData,
                     EventNicenessPriorityRegister.VEHICLE_UPDATED
             );
-            addEvent(event);
+            events.add(event);
         }
 
         /*
@@ -736,7 +773,7 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 removeUnits,
                 EventNicenessPriorityRegister.REMOVE_UNITS
         );
-        addEvent(event);
+        events.add(event);
 
         /*
          * Finally, a VehicleUpdate interaction is a good (okay, not good, but we
@@ -746,7 +783,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         final Event triggerGarbageCollection = new Event(
                 vehicleUpdates.getTime(),
                 e -> SimulationKernel.SimulationKernel.garbageCollection());
-        addEvent(triggerGarbageCollection);
+        events.add(triggerGarbageCollection);
+        addEvents(events);
     }
 
     private void process(final LidarUpdates lidarUpdates) {
@@ -786,13 +824,45 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 log.trace("event.processors: {}", event.getProcessors());
             }
         }
+        requestAdvanceTime(event.getTime());
+    }
 
+    @Override
+    public void addEvents(@Nonnull Collection<Event> events) {
+        eventScheduler.addEvents(events);
+        if (log.isDebugEnabled()) {
+            log.debug("add {} events to the scheduler", events.size());
+        }
+        for (Event event : events) {
+            requestAdvanceTime(event.getTime());
+        }
+    }
+
+    /**
+     * Returns the number of time advance requests which were not sent to the RTI,
+     * since a time advance for the same time was requested before and has not been granted yet.
+     *
+     * @return the number of suppressed time advance requests
+     */
+    public long getSuppressedTimeAdvanceRequests() {
+        return suppressedTimeAdvanceRequests.sum();
+    }
+
+    /**
+     * Requests a time advance at the RTI, if the given time has not been requested already.
+     */
+    private void requestAdvanceTime(long time) {
+        if (!requestedTimes.add(time)) {
+            suppressedTimeAdvanceRequests.increment();
+            return;
+        }
         try {
-            rti.requestAdvanceTime(event.getTime());
+            rti.requestAdvanceTime(time);
             if (log.isDebugEnabled()) {
-                log.debug("requestAdvanceTime({})", TIME.format(event.getTime()));
+                log.debug("requestAdvanceTime({})", TIME.format(time));
             }
         } catch (IllegalValueException ex) {
+            requestedTimes.remove(time);
             log.error(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), ex);
             throw new RuntimeException(ErrorRegister.AMBASSADOR_RequestingAdvanceTime.toString(), ex);
         }
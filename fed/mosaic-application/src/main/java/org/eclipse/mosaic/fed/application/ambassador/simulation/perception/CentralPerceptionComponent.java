@@ -23,6 +23,7 @@ import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.geo.CartesianRectangle;
 import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroup;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.routing.VehicleRouting;
 import org.eclipse.mosaic.lib.routing.database.DatabaseRouting;
@@ -33,7 +34,7 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 
@@ -57,9 +58,11 @@ public class CentralPerceptionComponent {
     private TrafficObjectIndex trafficObjectIndex;
 
     /**
-     * The last {@link VehicleUpdates} interaction which is used to update the vehicleIndex.
+     * The vehicles of all {@link VehicleUpdates} interactions received since the last update of the vehicleIndex.
+     * As {@link VehicleUpdates} may only contain vehicles whose state has changed, the vehicles of subsequent interactions
+     * are merged, so that no change is lost if the index is not updated in between.
      */
-    private final Map<String, VehicleUpdates> latestVehicleUpdates = new HashMap<>();
+    private final Map<String, VehicleData> pendingVehicleUpdates = new LinkedHashMap<>();
 
     /**
      * The last {@link TrafficLightUpdates} interaction which is used to update the vehicleIndex.
@@ -130,10 +133,8 @@ public class CentralPerceptionComponent {
         if (updateVehicleIndex) {
             // do not update index until next VehicleUpdates interaction is received
             updateVehicleIndex = false;
-            for (VehicleUpdates updates: latestVehicleUpdates.values()) {
-                // using Iterables.concat allows iterating over both lists subsequently without creating a new list
-                trafficObjectIndex.updateVehicles(Iterables.concat(updates.getAdded(), updates.getUpdated()));
-            }
+            trafficObjectIndex.updateVehicles(pendingVehicleUpdates.values());
+            pendingVehicleUpdates.clear();
         }
         if (updateTrafficLightIndex) {
             // do not update index until next TrafficLightUpdates interaction is received
@@ -160,7 +161,10 @@ public class CentralPerceptionComponent {
      * @param vehicleUpdates the interaction holding all vehicle updates
      */
     public void updateVehicles(VehicleUpdates vehicleUpdates) {
-        latestVehicleUpdates.put(vehicleUpdates.getSenderId(), vehicleUpdates);
+        for (VehicleData vehicleData : Iterables.concat(vehicleUpdates.getAdded(), vehicleUpdates.getUpdated())) {
+            pendingVehicleUpdates.put(vehicleData.getName(), vehicleData);
+        }
+        pendingVehicleUpdates.keySet().removeAll(vehicleUpdates.getRemovedNames());
         updateVehicleIndex = true;
         // we need to remove arrived vehicles in every simulation step, otherwise we could have dead vehicles in the index
         if (trafficObjectIndex.getNumberOfVehicles() > 0) {
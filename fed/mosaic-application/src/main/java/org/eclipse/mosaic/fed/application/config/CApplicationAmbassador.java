@@ -18,6 +18,8 @@ package org.eclipse.mosaic.fed.application.config;
 import org.eclipse.mosaic.lib.routing.config.CPublicTransportRouting;
 import org.eclipse.mosaic.lib.routing.config.CVehicleRouting;
 import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
+import org.eclipse.mosaic.lib.util.scheduling.BucketedEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.MultiThreadedEventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 
@@ -54,6 +56,21 @@ public class CApplicationAmbassador implements Serializable {
      */
     public int eventSchedulerThreads = 1;
 
+    /**
+     * Defines how the {@link MultiThreadedEventScheduler} distributes events with the same time
+     * and nice value among its threads. With {@code ORDERED_PER_PROCESSOR}, all events of the same simulation
+     * unit are executed sequentially in the order they have been scheduled, while different units are processed
+     * in parallel. Only relevant, if {@link #eventSchedulerThreads} is greater than 1.
+     */
+    public MultiThreadedEventScheduler.ExecutionMode eventSchedulerExecutionMode = MultiThreadedEventScheduler.ExecutionMode.CONCURRENT;
+
+    /**
+     * Defines the data structure which holds all pending events. {@code BUCKETED} stores events in buckets
+     * per time stamp, which is faster if many events are scheduled on the same time stamps.
+     * {@code BUCKETED} can only be used with a single {@link #eventSchedulerThreads event scheduler thread}.
+     */
+    public EventSchedulerType eventSchedulerType = EventSchedulerType.PRIORITY_QUEUE;
+
     /**
      * Configuration options for route calculation via public transport.
      * Requires paths to OSM and GTFS files.
@@ -72,6 +89,17 @@ public class CApplicationAmbassador implements Serializable {
      */
     public CPerception perceptionConfiguration = new CPerception();
 
+    public enum EventSchedulerType {
+        /**
+         * Events are stored in a single priority queue, see {@link DefaultEventScheduler}.
+         */
+        PRIORITY_QUEUE,
+        /**
+         * Events are stored in buckets per time stamp, see {@link BucketedEventScheduler}.
+         */
+        BUCKETED
+    }
+
     /**
      * Extends the {@link CVehicleRouting} configuration with a type parameter
      * allowing to define the actual {@link org.eclipse.mosaic.lib.routing.VehicleRouting}
@@ -44,6 +44,7 @@ import org.eclipse.mosaic.fed.application.app.api.Application;
 import org.eclipse.mosaic.interactions.application.ApplicationInteraction;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
 import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
@@ -188,6 +189,33 @@ public class ApplicationAmbassadorTest {
         );
     }
 
+    /**
+     * Several events for the same time result in a single time advance request, until this time is granted.
+     */
+    @Test
+    public void addEvent_timeAdvanceRequestsCoalesced() throws Exception {
+        final ApplicationAmbassador ambassador = createAmbassador();
+        ambassador.initialize(0L, END_TIME);
+        Mockito.verify(rtiAmbassador, times(1)).requestAdvanceTime(eq(END_TIME));
+
+        ambassador.addEvent(new Event(5 * TIME.SECOND, e -> {}));
+        ambassador.addEvent(new Event(5 * TIME.SECOND, e -> {}));
+        ambassador.addEvents(Arrays.asList(new Event(5 * TIME.SECOND, e -> {}), new Event(6 * TIME.SECOND, e -> {})));
+
+        Mockito.verify(rtiAmbassador, times(1)).requestAdvanceTime(eq(5 * TIME.SECOND));
+        Mockito.verify(rtiAmbassador, times(1)).requestAdvanceTime(eq(6 * TIME.SECOND));
+        assertEquals(2, ambassador.getSuppressedTimeAdvanceRequests());
+
+        // after the time has been granted, the time must be requested again
+        ambassador.processTimeAdvanceGrant(5 * TIME.SECOND);
+        ambassador.addEvent(new Event(5 * TIME.SECOND, e -> {}));
+        ambassador.addEvent(new Event(6 * TIME.SECOND, e -> {}));
+
+        Mockito.verify(rtiAmbassador, times(2)).requestAdvanceTime(eq(5 * TIME.SECOND));
+        Mockito.verify(rtiAmbassador, times(1)).requestAdvanceTime(eq(6 * TIME.SECOND));
+        assertEquals(3, ambassador.getSuppressedTimeAdvanceRequests());
+    }
+
     /**
      * The ApplicationAmbassador receives an VehicleRegistration interaction. The application of the vehicle will
      * be added to the simulator and initialized. After the simulation has been finished, the application
@@ -396,6 +424,49 @@ public class ApplicationAmbassadorTest {
         ambassador.finishSimulation();
     }
 
+    /**
+     * After a vehicle has been added to the ApplicationAmbassador, it receives a V2xMessageReceptions Interaction
+     * addressing this vehicle and a vehicle without application. Only the application of the simulated vehicle
+     * should receive the message.
+     */
+    @Test
+    public void processInteraction_V2xMessageReceptions() throws InternalFederateException, IOException {
+        final ApplicationAmbassador ambassador = createAmbassador();
+
+        // init ambassador
+        ambassador.initialize(0L, END_TIME);
+
+        // add unit to ambassador
+        TestVehicleApplication app = testAddUnit(
+                ambassador,
+                "veh_0",
+                InteractionTestHelper.createVehicleRegistrationInteraction("veh_0", 5, TestVehicleApplication.class)
+        );
+
+        // store mocked message in cache
+        final V2xMessage v2xMessage = mock(V2xMessage.class);
+        SimulationKernel.SimulationKernel.getV2xMessageCache().putItem(9 * TIME.SECOND, v2xMessage);
+
+        // RUN: Send message V2xMessageReceptions
+        V2xMessageReceptions v2xMessageReceptions = new V2xMessageReceptions(10 * TIME.SECOND, 0, 9 * TIME.SECOND,
+                new String[]{"veh_1", "veh_0"}, new long[]{10 * TIME.SECOND, 10 * TIME.SECOND});
+        ambassador.processInteraction(v2xMessageReceptions);
+
+        // ASSERT + RUN: process event, which has been created by the ambassador
+        assertEquals(10 * TIME.SECOND, recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(recentAdvanceTime);
+
+        // ASSERT: Verify, that the method v2xMessageReception has been
+        // called in the application by the simulation kernel with the expected arguments
+        Mockito.verify(app.getApplicationSpy()).onMessageReceived(argThat(argument -> argument.getMessage() == v2xMessage
+                && argument.getReceiverInformation().getSendTime() == 9 * TIME.SECOND));
+
+        // finish simulation
+        ambassador.processTimeAdvanceGrant(recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(END_TIME);
+        ambassador.finishSimulation();
+    }
+
     /**
      * After a vehicle has been added to the ApplicationAmbassador, the ambassador received
      * various VehicleUpdates interactions, each with information for added vehicles, updated vehicles,
@@ -34,6 +34,7 @@ import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.LastKnownVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -63,7 +64,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 /**
  * Ambassador for the Cell network simulator which handles the interaction with Eclipse MOSAIC.
@@ -101,9 +101,9 @@ public class CellAmbassador extends AbstractFederateAmbassador {
     private final Map<String, AtomicReference<CellConfiguration>> registeredVehicles = new HashMap<>();
 
     /**
-     * Store latest {@link VehicleUpdates} as they may be needed twice after enabling cell modules for vehicles.
+     * Stores the last known state of all vehicles, as it may be needed after enabling cell modules for vehicles.
      */
-    private VehicleUpdates latestVehicleUpdates;
+    private final LastKnownVehicleData lastKnownVehicleData = new LastKnownVehicleData();
 
     /**
      * Manager for detailed statistic of network load (e.g. of Upstream and Downstream) in individual regions / cells.
@@ -356,7 +356,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
      * @param vehicleUpdates Vehicle movement object
      */
     private void process(VehicleUpdates vehicleUpdates) throws InternalFederateException {
-        latestVehicleUpdates = vehicleUpdates;
+        lastKnownVehicleData.update(vehicleUpdates);
 
         final long currentTime = vehicleUpdates.getTime();
         final List<HandoverInfo> handovers = new ArrayList<>();
@@ -532,14 +532,7 @@ public class CellAmbassador extends AbstractFederateAmbassador {
     }
 
     private VehicleData fetchVehicleDataFromLastUpdate(String vehicleId) {
-        if (latestVehicleUpdates == null) {
-            return null;
-        }
-        // see if vehicle was added or updated within the last vehicle update
-        Optional<VehicleData> vehicleData = Stream.concat(latestVehicleUpdates.getAdded().stream(), latestVehicleUpdates.getUpdated().stream())
-                .filter(v -> v.getName().equals(vehicleId))
-                .findFirst();
-        return vehicleData.orElse(null);
+        return lastKnownVehicleData.get(vehicleId);
     }
 
     private void handleEntityCellConfiguration(String nodeId, CellConfiguration cellConfiguration, long interactionTime) {
@@ -16,15 +16,20 @@
 package org.eclipse.mosaic.fed.cell.data;
 
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
+import org.eclipse.mosaic.lib.spatial.NodeRegistry;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -44,16 +49,31 @@ public enum SimulationData {
     private static final Logger log = LoggerFactory.getLogger(SimulationData.class);
 
     /**
-     * A simulation node with specific information about it.
+     * Size of the cells of the grid indexing node positions in meters.
      */
-    private static class SimulationNode {
-        private CartesianPoint position;
-        private CNetworkProperties region;
-        private Double speed;
-        private CellConfiguration cellConfiguration;
-    }
+    private static final double GRID_CELL_SIZE = 250d;
+
+    /**
+     * Positions and region assignments of all nodes by handle. Regions are assigned by their index in {@link #regions}.
+     */
+    private final NodeRegistry nodeRegistry = new NodeRegistry(GRID_CELL_SIZE);
+
+    private final List<CNetworkProperties> regions = new ArrayList<>();
 
-    private final Map<String, SimulationNode> simulationNodeMap = new HashMap<>();
+    private final Map<CNetworkProperties, Integer> regionIndices = new IdentityHashMap<>();
+
+    /**
+     * Position of each node by handle as last set, which is returned without creating a new point on each request.
+     * The coordinates are additionally held by {@link #nodeRegistry} to index the nodes spatially.
+     */
+    private CartesianPoint[] positions = new CartesianPoint[0];
+
+    /**
+     * Speed of each node by handle, {@link Double#NaN} if not set.
+     */
+    private double[] speeds = new double[0];
+
+    private CellConfiguration[] cellConfigurations = new CellConfiguration[0];
 
     /**
      * Set or update the position for a node.
@@ -64,7 +84,9 @@ public enum SimulationData {
      */
     public void setPositionOfNode(String nodeId, CartesianPoint position) {
         if (nodeId != null && position != null) {
-            getOrCreate(nodeId).position = position;
+            final int handle = getOrCreate(nodeId);
+            positions[handle] = position;
+            nodeRegistry.setPosition(handle, position);
         } else {
             throw new RuntimeException(
                     "Unable to setPositionOfNode for nodeId=" + nodeId + ", position=" + position);
@@ -81,7 +103,10 @@ public enum SimulationData {
         Validate.notNull(region, "Unable to setRegionOfNode for nodeId=" + nodeId + ", because the given region is null");
         Validate.notNull(nodeId, "Unable to setRegionOfNode for nodeId=" + nodeId + ", region=" + region.id);
 
-        getOrCreate(nodeId).region = region;
+        nodeRegistry.setRegion(getOrCreate(nodeId), regionIndices.computeIfAbsent(region, r -> {
+            regions.add(r);
+            return regions.size() - 1;
+        }));
     }
 
     /**
@@ -93,7 +118,8 @@ public enum SimulationData {
      */
     public void setSpeedOfNode(String nodeId, double speed) {
         if (nodeId != null && speed >= 0) {
-            getOrCreate(nodeId).speed = speed;
+            final int handle = getOrCreate(nodeId);
+            speeds[handle] = speed;
         } else {
             throw new RuntimeException(
                     "Unable to setSpeedOfNode for nodeId=" + nodeId + ", speed=" + speed + "(negative speeds not allowed)");
@@ -108,25 +134,34 @@ public enum SimulationData {
      */
     public void setCellConfigurationOfNode(String nodeId, CellConfiguration config) {
         if (nodeId != null && config != null) {
-            getOrCreate(nodeId).cellConfiguration = config;
+            final int handle = getOrCreate(nodeId);
+            cellConfigurations[handle] = config;
         } else {
             throw new RuntimeException("Unable to set Configuration of Node for nodeId=" + nodeId);
         }
     }
 
     /**
-     * Get the simulation node or generate a new simulation node.
+     * Get the handle of the simulation node or register a new simulation node.
      *
      * @param nodeId the id of the simulation node.
-     * @return the simulation node of existing or new created simulation node.
+     * @return the handle of the existing or newly registered simulation node.
      */
-    private SimulationNode getOrCreate(String nodeId) {
-        SimulationNode node = simulationNodeMap.get(nodeId);
-        if (node == null) {
-            node = new SimulationNode();
-            simulationNodeMap.put(nodeId, node);
+    private int getOrCreate(String nodeId) {
+        int handle = nodeRegistry.getHandle(nodeId);
+        if (handle == NodeRegistry.NO_NODE) {
+            handle = nodeRegistry.register(nodeId);
+            if (handle >= speeds.length) {
+                final int capacity = Math.max(64, speeds.length * 2);
+                positions = Arrays.copyOf(positions, capacity);
+                speeds = Arrays.copyOf(speeds, capacity);
+                cellConfigurations = Arrays.copyOf(cellConfigurations, capacity);
+            }
+            positions[handle] = null;
+            speeds[handle] = Double.NaN;
+            cellConfigurations[handle] = null;
         }
-        return node;
+        return handle;
     }
 
     /**
@@ -136,7 +171,11 @@ public enum SimulationData {
      * @param nodeId the id of the node to remove.
      */
     public void removeNode(String nodeId) {
-        simulationNodeMap.remove(nodeId);
+        final int handle = nodeRegistry.remove(nodeId);
+        if (handle != NodeRegistry.NO_NODE) {
+            positions[handle] = null;
+            cellConfigurations[handle] = null;
+        }
     }
 
     /**
@@ -145,7 +184,19 @@ public enum SimulationData {
      * @return A set of all nodes.
      */
     public Set<String> getAllNodesInSimulation() {
-        return simulationNodeMap.keySet();
+        return nodeRegistry.getNames();
+    }
+
+    /**
+     * Gets all nodes located within the given area. Nodes without position are not considered.
+     *
+     * @param area the area to search nodes in
+     * @return a list of the ids of all nodes within the area
+     */
+    public List<String> getNodesInArea(Area<CartesianPoint> area) {
+        final List<String> nodes = new ArrayList<>();
+        nodeRegistry.forEachNodeInArea(area, handle -> nodes.add(nodeRegistry.getName(handle)));
+        return nodes;
     }
 
     /**
@@ -156,8 +207,8 @@ public enum SimulationData {
      * @return Position of the node, null if non existing.
      */
     public CartesianPoint getPositionOfNode(String nodeId) {
-        SimulationNode node = simulationNodeMap.get(nodeId);
-        return node != null ? node.position : null;
+        final int handle = nodeRegistry.getHandle(nodeId);
+        return handle != NodeRegistry.NO_NODE ? positions[handle] : null;
     }
 
     /**
@@ -168,8 +219,11 @@ public enum SimulationData {
      * @return Region of the node if existing else null.
      */
     public CNetworkProperties getRegionOfNode(String nodeId) {
-        SimulationNode node = simulationNodeMap.get(nodeId);
-        return node != null ? node.region : null;
+        final int handle = nodeRegistry.getHandle(nodeId);
+        if (handle == NodeRegistry.NO_NODE || nodeRegistry.getRegion(handle) == NodeRegistry.NO_REGION) {
+            return null;
+        }
+        return regions.get(nodeRegistry.getRegion(handle));
     }
 
     /**
@@ -180,9 +234,9 @@ public enum SimulationData {
      * @return Speed of the node, -1.0 if not there (should not happen)
      */
     public double getSpeedOfNode(String nodeId) {
-        SimulationNode node = simulationNodeMap.get(nodeId);
-        if (node != null && node.speed != null) {
-            return node.speed;
+        final int handle = nodeRegistry.getHandle(nodeId);
+        if (handle != NodeRegistry.NO_NODE && !Double.isNaN(speeds[handle])) {
+            return speeds[handle];
         } else {
             log.debug("Tried getting speed of node {}, but isn't there.", nodeId);
             return -1.0d;
@@ -197,15 +251,14 @@ public enum SimulationData {
      * @throws InternalFederateException if no {@link CellConfiguration} was found for the given node
      */
     public CellConfiguration getCellConfigurationOfNode(@Nonnull String nodeId) throws InternalFederateException {
-        SimulationNode node;
+        final int handle = nodeRegistry.getHandle(nodeId);
         try {
-            node = simulationNodeMap.get(nodeId);
-            Validate.notNull(node.cellConfiguration);
+            Validate.notNull(handle != NodeRegistry.NO_NODE ? cellConfigurations[handle] : null);
         } catch (NullPointerException e) {
             log.warn("Tried getting cell configuration of node {}, but it was not available", nodeId);
             throw new InternalFederateException(e);
         }
-        return node.cellConfiguration;
+        return cellConfigurations[handle];
     }
 
     /**
@@ -216,7 +269,7 @@ public enum SimulationData {
      * @return Returns true if a cell configuration is configured for the id nodeId.
      */
     public boolean containsCellConfigurationOfNode(String nodeId) {
-        SimulationNode node = simulationNodeMap.get(nodeId);
-        return node != null && (node.cellConfiguration != null);
+        final int handle = nodeRegistry.getHandle(nodeId);
+        return handle != NodeRegistry.NO_NODE && cellConfigurations[handle] != null;
     }
 }
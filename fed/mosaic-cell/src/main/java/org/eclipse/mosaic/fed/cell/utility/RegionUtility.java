@@ -139,15 +139,7 @@ public class RegionUtility {
      */
     public static List<String> getNodesForDestinationArea(GeoArea geoArea) {
         final CartesianArea area = geoArea.toCartesian();
-        List<String> nodes = new ArrayList<>();
-        for (String n : SimulationData.INSTANCE.getAllNodesInSimulation()) {
-            CartesianPoint nodePos = SimulationData.INSTANCE.getPositionOfNode(n);
-            if (nodePos != null && area.contains(nodePos)) {
-                nodes.add(n);
-            }
-        }
-
-        return nodes;
+        return SimulationData.INSTANCE.getNodesInArea(area);
     }
 
     /**
@@ -161,8 +153,9 @@ public class RegionUtility {
         List<CNetworkProperties> regions = new ArrayList<>();
 
         if (geoArea instanceof GeoCircle geoCircle) {
-            for (CMobileNetworkProperties region : ConfigurationData.INSTANCE.getRegionConfig().regions) {
-                if (isCircleIntersectingPolygon(geoCircle.toCartesian(), region.getCapoArea())){
+            final CartesianCircle destCircle = geoCircle.toCartesian();
+            for (CMobileNetworkProperties region : regionsIndex.getRegionCandidates(destCircle)) {
+                if (isCircleIntersectingPolygon(destCircle, region.getCapoArea())){
                     regions.add(region);
                 }
             }
@@ -171,7 +164,7 @@ public class RegionUtility {
                 geoArea = geoRectangle.toPolygon();
             }
             CartesianPolygon destPolygon = ((GeoPolygon) geoArea).toCartesian();
-            for (CMobileNetworkProperties region : ConfigurationData.INSTANCE.getRegionConfig().regions) {
+            for (CMobileNetworkProperties region : regionsIndex.getRegionCandidates(destPolygon)) {
                 if (region.getCapoArea().isIntersectingPolygon(destPolygon)) {
                     regions.add(region);
                 }
@@ -22,18 +22,23 @@ import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.Bounds;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.spatial.BoundingBox;
 import org.eclipse.mosaic.lib.spatial.KdTree;
 import org.eclipse.mosaic.lib.spatial.SpatialItemAdapter;
 import org.eclipse.mosaic.lib.spatial.SpatialTree;
+import org.eclipse.mosaic.lib.spatial.SpatialTreeTraverser;
 import org.eclipse.mosaic.lib.spatial.SpatialTreeTraverser.Nearest;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Provides a spatial index for regions. This enables a fast lookup of all regions which
- * cover a given point (see {@link CRegion}.
+ * cover a given point (see {@link CRegion}, as well as of all regions which may intersect a given area.
  */
 public class RegionsIndex {
 
@@ -46,13 +51,13 @@ public class RegionsIndex {
      * @param regions Collection of the regions.
      */
     public RegionsIndex(final Collection<CMobileNetworkProperties> regions) {
-        this.regionIndex = new KdTree<>(
-                new SpatialItemAdapter.AreaAdapter<>(),
-                regions.stream()
-                        .filter(region -> region.getCapoArea() != null)
-                        .map(MobileNetworkPropertiesWrapper::new)
-                        .toList()
-        );
+        final List<MobileNetworkPropertiesWrapper> wrappedRegions = new ArrayList<>();
+        for (CMobileNetworkProperties region : regions) {
+            if (region.getCapoArea() != null) {
+                wrappedRegions.add(new MobileNetworkPropertiesWrapper(region, wrappedRegions.size()));
+            }
+        }
+        this.regionIndex = new KdTree<>(new SpatialItemAdapter.AreaAdapter<>(), wrappedRegions);
     }
 
     public CNetworkProperties getRegion(CartesianPoint cartesianPoint) {
@@ -63,6 +68,25 @@ public class RegionsIndex {
         return inArea.getNearest() != null ? inArea.getNearest().areaRegion : null;
     }
 
+    /**
+     * Returns all regions whose bounds overlap the bounds of the given area, in the order they have been configured.
+     * The areas of the returned regions still need to be checked for an actual intersection with the given area.
+     *
+     * @param area the area to find regions for
+     * @return all regions which may intersect the area
+     */
+    public List<CMobileNetworkProperties> getRegionCandidates(Area<CartesianPoint> area) {
+        final InBounds inBounds = new InBounds(area.getBounds());
+        inBounds.traverse(regionIndex);
+        inBounds.result.sort(Comparator.comparingInt(region -> region.index));
+
+        final List<CMobileNetworkProperties> candidates = new ArrayList<>(inBounds.result.size());
+        for (MobileNetworkPropertiesWrapper region : inBounds.result) {
+            candidates.add(region.areaRegion);
+        }
+        return candidates;
+    }
+
 
     private static class MobileNetworkPropertiesWrapper implements Area<CartesianPoint> {
 
@@ -71,8 +95,14 @@ public class RegionsIndex {
         @SuppressWarnings(value = "SE_BAD_FIELD", justification = "That's fine, we do not serialize this class.")
         private final CMobileNetworkProperties areaRegion;
 
-        private MobileNetworkPropertiesWrapper(CMobileNetworkProperties region) {
+        /**
+         * Position of the region in the configuration.
+         */
+        private final int index;
+
+        private MobileNetworkPropertiesWrapper(CMobileNetworkProperties region, int index) {
             this.areaRegion = region;
+            this.index = index;
         }
 
         @Override
@@ -112,4 +142,46 @@ public class RegionsIndex {
             }
         }
     }
+
+    private static class InBounds extends SpatialTreeTraverser<MobileNetworkPropertiesWrapper> {
+
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private final List<MobileNetworkPropertiesWrapper> result = new ArrayList<>();
+
+        private InBounds(Bounds<CartesianPoint> bounds) {
+            minX = Math.min(bounds.getA().getX(), bounds.getB().getX());
+            minY = Math.min(bounds.getA().getY(), bounds.getB().getY());
+            maxX = Math.max(bounds.getA().getX(), bounds.getB().getX());
+            maxY = Math.max(bounds.getA().getY(), bounds.getB().getY());
+        }
+
+        @Override
+        protected void traverseChildren(SpatialTree<MobileNetworkPropertiesWrapper>.Node node,
+                                        SpatialTree<MobileNetworkPropertiesWrapper> tree) {
+            for (SpatialTree<MobileNetworkPropertiesWrapper>.Node child : node.getChildren()) {
+                final BoundingBox childBounds = child.getBounds();
+                if (overlaps(childBounds.min.x, childBounds.min.y, childBounds.max.x, childBounds.max.y)) {
+                    traverseNode(child, tree);
+                }
+            }
+        }
+
+        @Override
+        protected void traverseLeaf(SpatialTree<MobileNetworkPropertiesWrapper>.Node node,
+                                    SpatialTree<MobileNetworkPropertiesWrapper> tree) {
+            final SpatialItemAdapter<MobileNetworkPropertiesWrapper> adapter = tree.getItemAdapter();
+            for (MobileNetworkPropertiesWrapper item : node.getItems()) {
+                if (overlaps(adapter.getMinX(item), adapter.getMinY(item), adapter.getMaxX(item), adapter.getMaxY(item))) {
+                    result.add(item);
+                }
+            }
+        }
+
+        private boolean overlaps(double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+            return otherMinX <= maxX && otherMaxX >= minX && otherMinY <= maxY && otherMaxY >= minY;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
 import org.eclipse.mosaic.fed.cell.data.SimulationData;
 import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
 import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoCircle;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoPolygon;
@@ -31,6 +32,7 @@ import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
 import org.eclipse.mosaic.lib.geo.UtmPoint;
 import org.eclipse.mosaic.lib.geo.UtmZone;
 import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
 import org.eclipse.mosaic.lib.transform.GeoProjection;
 
 import org.junit.Rule;
@@ -38,7 +40,9 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Class that tests methods of the RegionUtility of the cell.
@@ -166,4 +170,28 @@ public class RegionUtilityTest {
         assertEquals(sampleRegion3.id, RegionUtility.getRegionForNode("nodeWithinBoundary3").id);
         assertEquals(GLOBAL_NETWORK_ID, RegionUtility.getRegionForNode("nodeOutsideBoundary3").id);
     }
+
+    /**
+     * Tests if all nodes within a geocast destination area are returned, also after nodes moved or have been removed.
+     */
+    @Test
+    public void testGetNodesForDestinationArea() {
+        final GeoPoint center = GeoPoint.latLon(52.5, 13.4);
+        final CartesianPoint origin = center.toCartesian();
+        for (int i = 0; i < 50; i++) {
+            // nodes every 100 meters to the east of the center
+            SimulationData.INSTANCE.setPositionOfNode("veh_" + i, CartesianPoint.xy(origin.getX() + i * 100, origin.getY()));
+        }
+        SimulationData.INSTANCE.setCellConfigurationOfNode("rsu_0", new CellConfiguration("rsu_0", true));
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", CartesianPoint.xy(origin.getX(), origin.getY() + 1000));
+        SimulationData.INSTANCE.setPositionOfNode("veh_45", CartesianPoint.xy(origin.getX(), origin.getY() - 250));
+        SimulationData.INSTANCE.removeNode("veh_2");
+
+        // RUN
+        final List<String> nodes = RegionUtility.getNodesForDestinationArea(new GeoCircle(center, 350));
+
+        // ASSERT
+        assertEquals(Set.of("veh_0", "veh_3", "veh_45"), new HashSet<>(nodes));
+        assertEquals(3, nodes.size());
+    }
 }
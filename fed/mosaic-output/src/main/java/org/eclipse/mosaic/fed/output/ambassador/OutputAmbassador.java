@@ -15,6 +15,8 @@
 
 package org.eclipse.mosaic.fed.output.ambassador;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.lib.math.MathUtils;
 import org.eclipse.mosaic.lib.util.XmlUtils;
 import org.eclipse.mosaic.rti.TIME;
@@ -193,6 +195,15 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
     @Override
     public void processInteraction(Interaction interaction) {
+        if (interaction instanceof V2xMessageReceptions) {
+            // batched receptions are passed to the output generators as single receptions,
+            // which keeps the output independent of whether receptions are batched or not
+            for (V2xMessageReception reception : ((V2xMessageReceptions) interaction).toReceptions()) {
+                processInteraction(reception);
+            }
+            return;
+        }
+
         String type = interaction.getTypeId();
         long interactionTime = interaction.getTime();
         log.trace("Process interaction with type '{}' at time: {}", type, interactionTime);
@@ -20,11 +20,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
@@ -170,6 +173,31 @@ public class VisualizationAmbassadorTest {
         verify(generator2, times(1)).handleUnregisteredInteraction(isA(VehicleUpdates.class));
     }
 
+    @Test
+    public void visualizeBatchedReceptions() throws InternalFederateException {
+        //PREPARE
+        output.initialize(0, Long.MAX_VALUE);
+
+        AbstractOutputGenerator generator1 = output.generators.get("generator1").getGenerator();
+        AbstractOutputGenerator generator2 = output.generators.get("generator2").getGenerator();
+
+        //RUN
+        output.processInteraction(new V2xMessageReceptions(TIME.SECOND, 7, TIME.SECOND / 2,
+                new String[]{"veh_0", "veh_1"}, new long[]{TIME.SECOND, 3 * TIME.SECOND / 2}));
+        output.processTimeAdvanceGrant(2 * TIME.SECOND);
+
+        //ASSERT
+        verify(generator2, times(1)).handleUnregisteredInteraction(argThat((V2xMessageReception reception) ->
+                reception.getReceiverName().equals("veh_0") && reception.getTime() == TIME.SECOND && reception.getMessageId() == 7
+        ));
+        verify(generator2, times(1)).handleUnregisteredInteraction(argThat((V2xMessageReception reception) ->
+                reception.getReceiverName().equals("veh_1") && reception.getTime() == 3 * TIME.SECOND / 2
+                        && reception.getReceiverInformation().getSendTime() == TIME.SECOND / 2
+        ));
+        verify(generator2, never()).handleUnregisteredInteraction(isA(V2xMessageReceptions.class));
+        verify(generator1, never()).handleUnregisteredInteraction(isA(V2xMessageReception.class));
+    }
+
     @Test
     public void visualizeMessageInInterval() throws InternalFederateException {
         //PREPARE
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.spatial.NodeRegistry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single hop connectivity of a set of {@link SimulationNode}s, which is computed once for the positions
+ * and communication radii the nodes have at the time of creation. Each node is addressed by an index,
+ * and all nodes within the communication radius of a node, its neighbors, are held in one primitive array.
+ * As radii differ between nodes, the graph is directed, i.e. node B being a neighbor of node A does
+ * not imply that A is a neighbor of B.
+ */
+public final class NeighborGraph {
+
+    /**
+     * Upper bound for the number of cells per axis of the grid used to find neighbors.
+     */
+    private static final int MAX_CELLS_PER_AXIS = 256;
+
+    private final String[] names;
+
+    private final Map<String, Integer> indices;
+
+    private final double[] x;
+
+    private final double[] y;
+
+    private final double[] z;
+
+    private final double[] radius;
+
+    /**
+     * The neighbors of node {@code i} are stored in {@link #neighbors} from {@code neighborOffsets[i]}
+     * to {@code neighborOffsets[i + 1]} (exclusive).
+     */
+    private final int[] neighborOffsets;
+
+    private int[] neighbors;
+
+    /**
+     * Computes the graph for the given nodes. Indices are assigned in the iteration order of the given map.
+     *
+     * @param nodes all nodes by their name
+     */
+    public NeighborGraph(Map<String, SimulationNode> nodes) {
+        this(nodes.size());
+        int index = 0;
+        for (Map.Entry<String, SimulationNode> node : nodes.entrySet()) {
+            final CartesianPoint position = node.getValue().getPosition();
+            add(index++, node.getKey(), position.getX(), position.getY(), position.getZ(), node.getValue().getRadius());
+        }
+        this.neighbors = computeNeighbors();
+    }
+
+    /**
+     * Computes the graph for all nodes of the given registry which have a position. Positions and radii are
+     * read from the registry directly, and indices are assigned in the order of the handles of the nodes.
+     *
+     * @param registry the registry holding all nodes
+     */
+    NeighborGraph(NodeRegistry registry) {
+        this(countLocated(registry));
+        int index = 0;
+        for (int handle = 0; handle < registry.getHandleLimit(); handle++) {
+            if (registry.isRegistered(handle) && registry.hasPosition(handle)) {
+                add(index++, registry.getName(handle),
+                        registry.getX(handle), registry.getY(handle), registry.getZ(handle), registry.getRadius(handle)
+                );
+            }
+        }
+        this.neighbors = computeNeighbors();
+    }
+
+    private NeighborGraph(int size) {
+        this.names = new String[size];
+        this.indices = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        this.x = new double[size];
+        this.y = new double[size];
+        this.z = new double[size];
+        this.radius = new double[size];
+        this.neighborOffsets = new int[size + 1];
+    }
+
+    private static int countLocated(NodeRegistry registry) {
+        int count = 0;
+        for (int handle = 0; handle < registry.getHandleLimit(); handle++) {
+            if (registry.isRegistered(handle) && registry.hasPosition(handle)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void add(int index, String name, double nodeX, double nodeY, double nodeZ, double nodeRadius) {
+        names[index] = name;
+        indices.put(name, index);
+        x[index] = nodeX;
+        y[index] = nodeY;
+        z[index] = nodeZ;
+        radius[index] = nodeRadius;
+    }
+
+    /**
+     * Sorts all nodes into a temporary uniform grid, so that only nodes in the cells covered by
+     * the communication range of a node need to be checked.
+     */
+    private int[] computeNeighbors() {
+        final int size = names.length;
+        if (size == 0) {
+            return new int[0];
+        }
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            minX = Math.min(minX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxX = Math.max(maxX, x[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        // the median radius is used as cell size, as single nodes may have very large radii
+        final double[] sortedRadius = radius.clone();
+        Arrays.sort(sortedRadius);
+        double cellSize = Math.max(sortedRadius[size / 2], Math.max(maxX - minX, maxY - minY) / MAX_CELLS_PER_AXIS);
+        if (!Double.isFinite(cellSize) || cellSize < 1) {
+            cellSize = Math.max(1, Math.max(maxX - minX, maxY - minY) / MAX_CELLS_PER_AXIS);
+        }
+        final int cols = (int) ((maxX - minX) / cellSize) + 1;
+        final int rows = (int) ((maxY - minY) / cellSize) + 1;
+
+        // counting sort of all nodes by their cell
+        final int[] cellOffsets = new int[cols * rows + 1];
+        final int[] nodeCells = new int[size];
+        for (int i = 0; i < size; i++) {
+            nodeCells[i] = toCell(x[i], minX, cellSize, cols) * rows + toCell(y[i], minY, cellSize, rows);
+            cellOffsets[nodeCells[i] + 1]++;
+        }
+        for (int cell = 0; cell < cols * rows; cell++) {
+            cellOffsets[cell + 1] += cellOffsets[cell];
+        }
+        final int[] cellNodes = new int[size];
+        final int[] cellFill = Arrays.copyOf(cellOffsets, cols * rows);
+        for (int i = 0; i < size; i++) {
+            cellNodes[cellFill[nodeCells[i]]++] = i;
+        }
+
+        int[] result = new int[size * 8];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            neighborOffsets[i] = count;
+            final int minCol = toCell(x[i] - radius[i], minX, cellSize, cols);
+            final int maxCol = toCell(x[i] + radius[i], minX, cellSize, cols);
+            final int minRow = toCell(y[i] - radius[i], minY, cellSize, rows);
+            final int maxRow = toCell(y[i] + radius[i], minY, cellSize, rows);
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int row = minRow; row <= maxRow; row++) {
+                    final int cell = col * rows + row;
+                    for (int k = cellOffsets[cell]; k < cellOffsets[cell + 1]; k++) {
+                        final int j = cellNodes[k];
+                        if (j != i && distance(i, x[j], y[j], z[j]) <= radius[i]) {
+                            if (count == result.length) {
+                                result = Arrays.copyOf(result, result.length * 2);
+                            }
+                            result[count++] = j;
+                        }
+                    }
+                }
+            }
+        }
+        neighborOffsets[size] = count;
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int toCell(double coordinate, double min, double cellSize, int cells) {
+        final double cell = Math.floor((coordinate - min) / cellSize);
+        return (int) Math.max(0, Math.min(cells - 1, cell));
+    }
+
+    private double distance(int index, double otherX, double otherY, double otherZ) {
+        final double dx = otherX - x[index];
+        final double dy = otherY - y[index];
+        final double dz = otherZ - z[index];
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
+    /**
+     * Returns the number of nodes in this graph.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the index of the node with the given name, or {@code -1} if the node is not part of this graph.
+     */
+    public int indexOf(String name) {
+        final Integer index = indices.get(name);
+        return index != null ? index : -1;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the number of nodes within the communication radius of the given node.
+     */
+    public int getNeighborCount(int index) {
+        return neighborOffsets[index + 1] - neighborOffsets[index];
+    }
+
+    /**
+     * Returns the index of the n-th node within the communication radius of the given node.
+     *
+     * @param index the index of the node
+     * @param n     a number between 0 (inclusive) and {@link #getNeighborCount(int)} (exclusive)
+     * @return the index of the neighbor
+     */
+    public int getNeighbor(int index, int n) {
+        return neighbors[neighborOffsets[index] + n];
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getZ(int index) {
+        return z[index];
+    }
+}
@@ -15,51 +15,113 @@
 
 package org.eclipse.mosaic.fed.sns.ambassador;
 
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.spatial.NodeRegistry;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Represents all simulation entities in the simulation that are capable to communicate via Ad-hoc network.
+ * All online nodes are held in a {@link NodeRegistry}, which assigns a handle to each node and indexes their
+ * positions spatially. Maps of online nodes are views on this registry, which resolve nodes via their handle.
  */
 enum SimulationEntities {
     INSTANCE;
 
+    /**
+     * Size of the cells of the grid indexing online nodes in meters, which is in the
+     * order of typical communication ranges.
+     */
+    private static final double GRID_CELL_SIZE = 250d;
+
     /**
      * There are two kinds of nodes: those who are online (and can send and receive messages).
+     * Their names, positions and radii are held by handle, including a spatial index which is updated along with their positions.
+     */
+    private final NodeRegistry onlineNodes = new NodeRegistry(GRID_CELL_SIZE);
+
+    /**
+     * All online nodes by their handle in {@link #onlineNodes}.
      */
-    private final HashMap<String, SimulationNode> onlineNodes = new HashMap<>();
+    private SimulationNode[] onlineNodesByHandle = new SimulationNode[64];
+
+    /**
+     * View on all online nodes by their name.
+     */
+    private final Map<String, SimulationNode> allOnlineNodes = new AllOnlineNodes();
 
     /**
      * Offline nodes (may get switched on).
      */
     private final HashMap<String, CartesianPoint> offlineNodes = new HashMap<>();
 
+    /**
+     * Single hop connectivity of all online nodes, which is computed on first use
+     * and discarded whenever a position, radius, or the set of online nodes changes.
+     */
+    private NeighborGraph onlineNodesGraph;
+
     /**
      * Gets all nodes currently known as online (initialized, Wifi enabled) in the simulation.
      *
-     * @return A set of all nodes.
+     * @return an unmodifiable view on all online nodes by their name
      */
     public Map<String, SimulationNode> getAllOnlineNodes() {
-        return onlineNodes;
+        return allOnlineNodes;
     }
 
     /**
      * Gets information (position, communication radius) for one individual node currently known as online.
      *
-     * @return A set of all nodes.
+     * @return the node, or {@code null} if the node is not online
      */
     public SimulationNode getOnlineNode(String nodeName) {
-        return onlineNodes.get(nodeName);
+        final int handle = onlineNodes.getHandle(nodeName);
+        return handle != NodeRegistry.NO_NODE ? onlineNodesByHandle[handle] : null;
+    }
+
+    /**
+     * Gets all nodes currently known as online which are located within the given area. The result only
+     * holds the handles of the found nodes and is valid as long as the set of online nodes does not change.
+     * Nodes may be removed from the result, e.g. to exclude the sender of a transmission.
+     *
+     * @param area the area to search nodes in
+     * @return a map of all online nodes within the area by their name
+     */
+    public Map<String, SimulationNode> getOnlineNodesInArea(Area<CartesianPoint> area) {
+        final OnlineNodesInArea result = new OnlineNodesInArea(onlineNodesByHandle);
+        onlineNodes.forEachNodeInArea(area, result::add);
+        Arrays.sort(result.handles, 0, result.size);
+        return result;
+    }
+
+    /**
+     * Gets the single hop connectivity of all nodes currently known as online. The graph is computed once
+     * and reused until any online node is changed, usually with the next position update.
+     *
+     * @return the {@link NeighborGraph} of all online nodes
+     */
+    public synchronized NeighborGraph getOnlineNodesGraph() {
+        if (onlineNodesGraph == null) {
+            onlineNodesGraph = new NeighborGraph(onlineNodes);
+        }
+        return onlineNodesGraph;
     }
 
     public boolean isNodeSimulated(String nodeName) {
-        return onlineNodes.containsKey(nodeName) || offlineNodes.containsKey(nodeName);
+        return isNodeOnline(nodeName) || offlineNodes.containsKey(nodeName);
     }
 
     public boolean isNodeOnline(String nodeName) {
-        return onlineNodes.containsKey(nodeName);
+        return onlineNodes.getHandle(nodeName) != NodeRegistry.NO_NODE;
     }
 
     public boolean isNodeOffline(String nodeName) {
@@ -75,10 +137,7 @@ enum SimulationEntities {
      */
     public void createOnlineNode(String nodeName, CartesianPoint position, double radius) {
         if (nodeName != null && position != null) {
-            SimulationNode nodeData = new SimulationNode();
-            nodeData.setPosition(position);
-            nodeData.setRadius(radius);
-            onlineNodes.put(nodeName, nodeData);
+            createOnlineNodeInternal(nodeName, position, radius);
         } else {
             throw new RuntimeException("Unable to move node=" + nodeName + " to position=" + position);
         }
@@ -91,8 +150,11 @@ enum SimulationEntities {
      * @param position the updated position
      */
     public void updateOnlineNode(String nodeName, CartesianPoint position) {
-        if (nodeName != null && position != null) {
-            onlineNodes.get(nodeName).setPosition(position);
+        final int handle = nodeName != null ? onlineNodes.getHandle(nodeName) : NodeRegistry.NO_NODE;
+        if (handle != NodeRegistry.NO_NODE && position != null) {
+            onlineNodesByHandle[handle].setPosition(position);
+            onlineNodes.setPosition(handle, position);
+            onlineNodesGraph = null;
         } else {
             throw new RuntimeException("Unable to update node=" + nodeName + " to position=" + position);
         }
@@ -113,11 +175,11 @@ enum SimulationEntities {
     }
 
     /**
-     * Removes the node (due to simplicity and speed from both maps - on/offlineNodes).
+     * Removes the node (due to simplicity and speed from both online and offline nodes).
      */
     public void removeNode(String nodeId) {
-        onlineNodes.remove(nodeId);
         offlineNodes.remove(nodeId);
+        removeOnlineNode(nodeId);
     }
 
     /**
@@ -128,13 +190,12 @@ enum SimulationEntities {
      */
     public void enableWifi(String nodeName, double communicationRadius) {
         if (isNodeOffline(nodeName)) {
-            SimulationNode nodeData = new SimulationNode();
-            nodeData.setPosition(offlineNodes.get(nodeName));
-            nodeData.setRadius(communicationRadius);
-            onlineNodes.put(nodeName, nodeData);
-            offlineNodes.remove(nodeName);
+            createOnlineNodeInternal(nodeName, offlineNodes.remove(nodeName), communicationRadius);
         } else {
-            onlineNodes.get(nodeName).setRadius(communicationRadius);
+            final int handle = onlineNodes.getHandle(nodeName);
+            onlineNodesByHandle[handle].setRadius(communicationRadius);
+            onlineNodes.setRadius(handle, communicationRadius);
+            onlineNodesGraph = null;
         }
     }
 
@@ -144,17 +205,198 @@ enum SimulationEntities {
      * @param nodeName name of the node
      */
     public void disableWifi(String nodeName) {
-        if (isNodeOnline(nodeName)) {
-            offlineNodes.put(nodeName, onlineNodes.get(nodeName).getPosition());
-            onlineNodes.remove(nodeName);
+        final SimulationNode node = removeOnlineNode(nodeName);
+        if (node != null) {
+            offlineNodes.put(nodeName, node.getPosition());
         }
     }
 
     /**
-     * Clears all used maps and thereby resets the state of the entities.
+     * Clears all online and offline nodes and thereby resets the state of the entities.
      */
     public void reset() {
         onlineNodes.clear();
+        Arrays.fill(onlineNodesByHandle, null);
         offlineNodes.clear();
+        onlineNodesGraph = null;
+    }
+
+    private void createOnlineNodeInternal(String nodeName, CartesianPoint position, double radius) {
+        final SimulationNode nodeData = new SimulationNode();
+        nodeData.setPosition(position);
+        nodeData.setRadius(radius);
+        final int handle = onlineNodes.register(nodeName);
+        onlineNodes.setPosition(handle, position);
+        onlineNodes.setRadius(handle, radius);
+        if (handle >= onlineNodesByHandle.length) {
+            onlineNodesByHandle = Arrays.copyOf(onlineNodesByHandle, onlineNodesByHandle.length * 2);
+        }
+        onlineNodesByHandle[handle] = nodeData;
+        onlineNodesGraph = null;
+    }
+
+    private SimulationNode removeOnlineNode(String nodeName) {
+        final int handle = onlineNodes.remove(nodeName);
+        if (handle == NodeRegistry.NO_NODE) {
+            return null;
+        }
+        final SimulationNode node = onlineNodesByHandle[handle];
+        onlineNodesByHandle[handle] = null;
+        onlineNodesGraph = null;
+        return node;
+    }
+
+    /**
+     * Unmodifiable view on all online nodes, which resolves nodes via their handle in the registry.
+     */
+    private final class AllOnlineNodes extends AbstractMap<String, SimulationNode> {
+
+        private final Set<Entry<String, SimulationNode>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, SimulationNode>> iterator() {
+                return new Iterator<>() {
+                    private int handle = nextHandle(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return handle < onlineNodes.getHandleLimit();
+                    }
+
+                    @Override
+                    public Entry<String, SimulationNode> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final Entry<String, SimulationNode> entry =
+                                new SimpleImmutableEntry<>(onlineNodes.getName(handle), onlineNodesByHandle[handle]);
+                        handle = nextHandle(handle + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return onlineNodes.size();
+            }
+        };
+
+        private int nextHandle(int handle) {
+            while (handle < onlineNodes.getHandleLimit() && !onlineNodes.isRegistered(handle)) {
+                handle++;
+            }
+            return handle;
+        }
+
+        @Override
+        public SimulationNode get(Object key) {
+            return key instanceof String ? getOnlineNode((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && isNodeOnline((String) key);
+        }
+
+        @Override
+        public int size() {
+            return onlineNodes.size();
+        }
+
+        @Override
+        public Set<Entry<String, SimulationNode>> entrySet() {
+            return entries;
+        }
+    }
+
+    /**
+     * Result of a range query, which holds the sorted handles of all found nodes. Looking up a node by its
+     * name resolves its handle in the registry and searches the handle in this result.
+     */
+    private final class OnlineNodesInArea extends AbstractMap<String, SimulationNode> {
+
+        private final SimulationNode[] nodesByHandle;
+
+        private int[] handles = new int[16];
+
+        private int size;
+
+        private OnlineNodesInArea(SimulationNode[] nodesByHandle) {
+            this.nodesByHandle = nodesByHandle;
+        }
+
+        private void add(int handle) {
+            if (size == handles.length) {
+                handles = Arrays.copyOf(handles, size * 2);
+            }
+            handles[size++] = handle;
+        }
+
+        private int indexOf(Object key) {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            final int handle = onlineNodes.getHandle((String) key);
+            return handle != NodeRegistry.NO_NODE ? Arrays.binarySearch(handles, 0, size, handle) : -1;
+        }
+
+        @Override
+        public SimulationNode get(Object key) {
+            final int index = indexOf(key);
+            return index >= 0 ? nodesByHandle[handles[index]] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public SimulationNode remove(Object key) {
+            final int index = indexOf(key);
+            if (index < 0) {
+                return null;
+            }
+            final SimulationNode node = nodesByHandle[handles[index]];
+            System.arraycopy(handles, index + 1, handles, index, size - index - 1);
+            size--;
+            return node;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, SimulationNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, SimulationNode>> iterator() {
+                    return new Iterator<>() {
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < size;
+                        }
+
+                        @Override
+                        public Entry<String, SimulationNode> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int handle = handles[index++];
+                            return new SimpleImmutableEntry<>(onlineNodes.getName(handle), nodesByHandle[handle]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
     }
 }
@@ -18,12 +18,15 @@ package org.eclipse.mosaic.fed.sns.ambassador;
 import org.eclipse.mosaic.fed.sns.config.CSns;
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.LastKnownVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.enums.DestinationType;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.lib.model.delay.GammaSpeedDelay;
 import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
@@ -42,9 +45,13 @@ import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of the Simple Network Simulator (SNS).
@@ -70,10 +77,20 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
     private double singlehopRadius;
 
     /**
-     * Stores the latest {@link VehicleUpdates} interaction, so it can be used
+     * If {@code true}, all ad hoc transmissions of a time advance are collected and simulated in parallel.
+     */
+    private boolean parallelTransmissions;
+
+    /**
+     * If {@code true}, all receptions of a message are sent in one {@link V2xMessageReceptions} interaction.
+     */
+    private boolean batchReceptions;
+
+    /**
+     * Stores the last known state of all vehicles, so it can be used
      * to look up the last known position of vehicle which wants to enable its adhoc module.
      */
-    private VehicleUpdates latestVehicleUpdates;
+    private final LastKnownVehicleData lastKnownVehicleData = new LastKnownVehicleData();
 
     /**
      * Construct the Ambassador.
@@ -99,6 +116,12 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                 log.info("Detected GammaSpeedDelay for. The SNS is currently ignoring speed of entities in its evaluation of delay values");
             }
             this.singlehopRadius = configuration.singlehopRadius;
+            this.parallelTransmissions = configuration.parallelTransmissions;
+            this.batchReceptions = configuration.batchReceptions;
+            if (batchReceptions) {
+                log.warn("Receptions are sent as batched V2xMessageReceptions, which are only processed by the application simulator"
+                        + " and the output generator. Disable 'batchReceptions' if other federates require single V2xMessageReception.");
+            }
             final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
             transmissionSimulator = new TransmissionSimulator(rng, configuration);
         } catch (InstantiationException e) {
@@ -108,6 +131,27 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         log.info("Initialized SNS");
     }
 
+    @Override
+    protected void processInteractions(List<Interaction> interactions) throws InternalFederateException {
+        if (!parallelTransmissions) {
+            super.processInteractions(interactions);
+            return;
+        }
+        final List<V2xMessageTransmission> transmissions = new ArrayList<>();
+        for (Interaction interaction : interactions) {
+            if (interaction.getTypeId().equals(V2xMessageTransmission.TYPE_ID)
+                    && isAdHocTransmission((V2xMessageTransmission) interaction)) {
+                transmissions.add((V2xMessageTransmission) interaction);
+            } else {
+                // any other interaction may change the state of the nodes, therefore simulate all transmissions sent before
+                processTransmissions(transmissions);
+                transmissions.clear();
+                processInteraction(interaction);
+            }
+        }
+        processTransmissions(transmissions);
+    }
+
     @Override
     protected void processInteraction(Interaction interaction) throws InternalFederateException {
         try {
@@ -165,7 +209,7 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                         updated.getName(), updated.getPosition(), TIME.format(interaction.getTime()));
             }
         }
-        latestVehicleUpdates = interaction;
+        lastKnownVehicleData.update(interaction);
     }
 
     private void process(AdHocCommunicationConfiguration interaction) {
@@ -192,9 +236,10 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                     SimulationEntities.INSTANCE.enableWifi(nodeId, communicationRadius);
                 } else {
                     registeredVehicles.put(nodeId, communicationRadius);
-                    if (latestVehicleUpdates != null) {
-                        // progress the latest vehicle updates again to eventually activate the adhoc configuration
-                        process(latestVehicleUpdates);
+                    final VehicleData lastKnownState = lastKnownVehicleData.get(nodeId);
+                    if (lastKnownState != null) {
+                        // use the last known state of the vehicle to eventually activate the adhoc configuration
+                        addOrUpdateVehicle(lastKnownState);
                     }
                 }
                 log.info("Radio configured in mode {} with communication radius {} for node id={} @time={}",
@@ -205,8 +250,7 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
     }
 
     private void process(V2xMessageTransmission interaction) throws InternalFederateException {
-        DestinationType type = interaction.getMessage().getRouting().getDestination().getType();
-        if (type != DestinationType.AD_HOC_GEOCAST && type != DestinationType.AD_HOC_TOPOCAST) {
+        if (!isAdHocTransmission(interaction)) {
             return;
         }
         // Calculate transmission
@@ -215,6 +259,37 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         prepareV2xMessageReceptions(transmissionResults, interaction);
     }
 
+    private static boolean isAdHocTransmission(V2xMessageTransmission interaction) {
+        DestinationType type = interaction.getMessage().getRouting().getDestination().getType();
+        return type == DestinationType.AD_HOC_GEOCAST || type == DestinationType.AD_HOC_TOPOCAST;
+    }
+
+    /**
+     * Simulates the given transmissions in parallel. As the transmissions do not depend on each other, each
+     * of them is simulated with its own {@link RandomNumberGenerator}. The seeds of those are drawn in the order
+     * of the transmissions, and the receptions are sent in the same order, which keeps the results reproducible.
+     *
+     * @param transmissions ad hoc transmissions which have been sent within the same time advance
+     */
+    private void processTransmissions(List<V2xMessageTransmission> transmissions) throws InternalFederateException {
+        if (transmissions.isEmpty()) {
+            return;
+        }
+        final long[] seeds = new long[transmissions.size()];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = transmissionSimulator.nextSeed();
+        }
+        final List<Map<String, TransmissionResult>> transmissionResults = IntStream.range(0, seeds.length)
+                .parallel()
+                .mapToObj(i -> transmissionSimulator.preProcessInteraction(
+                        transmissions.get(i), new DefaultRandomNumberGenerator(seeds[i])
+                ))
+                .collect(Collectors.toList());
+        for (int i = 0; i < seeds.length; i++) {
+            prepareV2xMessageReceptions(transmissionResults.get(i), transmissions.get(i));
+        }
+    }
+
     /**
      * Adds or Updates vehicles positions (which is the same from the view of SNS - mainly new positions).
      *
@@ -274,6 +349,10 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         if (transmissionResults == null) {
             return;
         }
+        if (batchReceptions) {
+            prepareV2xMessageReceptionsBatch(transmissionResults, v2xMessageTransmission);
+            return;
+        }
         for (Map.Entry<String, TransmissionResult> transmissionResultEntry : transmissionResults.entrySet()) {
             if (transmissionResultEntry.getValue().success) {
                 long receiveTime = v2xMessageTransmission.getTime() + transmissionResultEntry.getValue().delay;
@@ -300,6 +379,48 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
 
     }
 
+    /**
+     * Creates one {@link V2xMessageReceptions} interaction holding all successful receivers of the transmission.
+     *
+     * @param transmissionResults    Set of successful receivers
+     * @param v2xMessageTransmission Originally sent message (for messageId and sending time)
+     */
+    private void prepareV2xMessageReceptionsBatch(Map<String, TransmissionResult> transmissionResults,
+                                                  V2xMessageTransmission v2xMessageTransmission) throws InternalFederateException {
+        final String[] receiverNames = new String[transmissionResults.size()];
+        final long[] receiveTimes = new long[transmissionResults.size()];
+        long earliestReceiveTime = Long.MAX_VALUE;
+        int receivers = 0;
+        for (Map.Entry<String, TransmissionResult> transmissionResultEntry : transmissionResults.entrySet()) {
+            if (transmissionResultEntry.getValue().success) {
+                receiverNames[receivers] = transmissionResultEntry.getKey();
+                receiveTimes[receivers] = v2xMessageTransmission.getTime() + transmissionResultEntry.getValue().delay;
+                earliestReceiveTime = Math.min(earliestReceiveTime, receiveTimes[receivers]);
+                receivers++;
+            }
+        }
+        if (receivers == 0) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Receive v2xMessage.id={} on {} nodes @time={}",
+                    v2xMessageTransmission.getMessageId(), receivers, TIME.format(earliestReceiveTime)
+            );
+        }
+        final V2xMessageReceptions v2xMessageReceptions = new V2xMessageReceptions(
+                earliestReceiveTime,
+                v2xMessageTransmission.getMessageId(),
+                v2xMessageTransmission.getTime(),
+                Arrays.copyOf(receiverNames, receivers),
+                Arrays.copyOf(receiveTimes, receivers)
+        );
+        try {
+            rti.triggerInteraction(v2xMessageReceptions);
+        } catch (IllegalValueException | InternalFederateException e) {
+            throw new InternalFederateException(e);
+        }
+    }
+
     @Override
     public void finishSimulation() throws InternalFederateException {
         log.info("Finished simulation");
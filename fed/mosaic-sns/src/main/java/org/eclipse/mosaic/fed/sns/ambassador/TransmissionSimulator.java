@@ -83,6 +83,19 @@ public class TransmissionSimulator {
     }
 
     Map<String, TransmissionResult> preProcessInteraction(V2xMessageTransmission interaction) {
+        return preProcessInteraction(interaction, randomNumberGenerator);
+    }
+
+    /**
+     * Simulates the given transmission using the given {@link RandomNumberGenerator} instead of the shared one.
+     * The state of the simulated nodes is only read, thus transmissions can be simulated concurrently
+     * as long as each of them uses its own random number generator.
+     *
+     * @param interaction the transmission to simulate
+     * @param rng         the {@link RandomNumberGenerator} to be used for this transmission only
+     * @return the transmission results by receiver name, or {@code null} if the transmission could not be simulated
+     */
+    Map<String, TransmissionResult> preProcessInteraction(V2xMessageTransmission interaction, RandomNumberGenerator rng) {
         final String senderName = interaction.getSourceName();
         if (!isValidSender(senderName)) {
             return null;
@@ -96,14 +109,14 @@ public class TransmissionSimulator {
                             interaction.getMessage().getId(), senderName, TIME.format(interaction.getTime())
                     );
                 }
-                return sendMessageAsTopocast(senderName, dac);
+                return sendMessageAsTopocast(senderName, dac, rng);
             case AD_HOC_GEOCAST:
                 if (log.isDebugEnabled()) {
                     log.debug( "Send v2xMessage.id={} from={} as Geocast (geo routing) @time={}",
                             interaction.getMessage().getId(), senderName, TIME.format(interaction.getTime())
                     );
                 }
-                return sendMessageAsGeocast(senderName, dac);
+                return sendMessageAsGeocast(senderName, dac, rng);
             default:
                 log.debug("V2XMessage is not an ad hoc message. Skip this message. V2XMessage.id={}",
                         interaction.getMessage().getId()
@@ -137,9 +150,12 @@ public class TransmissionSimulator {
      *
      * @param senderName The Sender of the message.
      * @param dac        {@link DestinationAddressContainer} containing information about the destination for the message.
+     * @param rng        {@link RandomNumberGenerator} to be used for the transmission calculation
      * @return a Map containing the summarized transmission results
      */
-    protected Map<String, TransmissionResult> sendMessageAsTopocast(String senderName, DestinationAddressContainer dac) {
+    protected Map<String, TransmissionResult> sendMessageAsTopocast(
+            String senderName, DestinationAddressContainer dac, RandomNumberGenerator rng
+    ) {
         final NetworkAddress destinationAddress = dac.getAddress();
 
         if (destinationAddress.isBroadcast() && dac.getTimeToLive() != SINGLE_HOP_TTL) {
@@ -147,10 +163,11 @@ public class TransmissionSimulator {
         }
 
         final TransmissionParameter transmissionParameter = new TransmissionParameter(
-                randomNumberGenerator,
+                rng,
                 config.singlehopDelay,
                 config.singlehopTransmission,
-                getTtl(dac)
+                getTtl(dac),
+                SimulationEntities.INSTANCE::getOnlineNodesGraph
         );
         // accumulate all potential receivers in direct communication range
         final SimulationNode sender = SimulationEntities.INSTANCE.getOnlineNode(senderName);
@@ -193,9 +210,12 @@ public class TransmissionSimulator {
      *
      * @param senderName The Sender of the message.
      * @param dac        {@link DestinationAddressContainer} containing information about the destination for the message.
+     * @param rng        {@link RandomNumberGenerator} to be used for the transmission calculation
      * @return a Map containing the summarized transmission results
      */
-    protected Map<String, TransmissionResult> sendMessageAsGeocast(String senderName, DestinationAddressContainer dac) {
+    protected Map<String, TransmissionResult> sendMessageAsGeocast(
+            String senderName, DestinationAddressContainer dac, RandomNumberGenerator rng
+    ) {
         if (dac.getGeoArea() == null) {
             log.error("No target area given for Geographic routing. No message will be send.");
             return Map.of();
@@ -206,8 +226,9 @@ public class TransmissionSimulator {
         final Map<String, SimulationNode> allReceivers;
         if (destinationAddress.isUnicast()) {
             final String destinationNodeId = IpResolver.getSingleton().reverseLookup(destinationAddress.getIPv4Address());
-            if (getPotentialBroadcastReceivers(destinationArea).containsKey(destinationNodeId)) {
-                allReceivers = Map.of(destinationNodeId, SimulationEntities.INSTANCE.getOnlineNode(destinationNodeId));
+            final SimulationNode destination = SimulationEntities.INSTANCE.getOnlineNode(destinationNodeId);
+            if (destination != null && isNodeInArea(destination.getPosition(), destinationArea)) {
+                allReceivers = Map.of(destinationNodeId, destination);
             } else {
                 return Map.of();
             }
@@ -224,16 +245,25 @@ public class TransmissionSimulator {
 
         // get ttl value, this will be ignored for the simple transmission model
         final TransmissionParameter transmissionParameter = new TransmissionParameter(
-                randomNumberGenerator,
+                rng,
                 config.singlehopDelay,
                 config.singlehopTransmission,
-                getTtl(dac)
+                getTtl(dac),
+                SimulationEntities.INSTANCE::getOnlineNodesGraph
         );
         return transmissionModel.simulateGeocast(
                 senderName, allReceivers, transmissionParameter, SimulationEntities.INSTANCE.getAllOnlineNodes()
         );
     }
 
+    /**
+     * Draws a seed from the shared {@link RandomNumberGenerator}, which can be used to create a
+     * separate random number generator for a single transmission.
+     */
+    long nextSeed() {
+        return randomNumberGenerator.nextLong(0, Long.MAX_VALUE);
+    }
+
     private int getTtl(DestinationAddressContainer dac) {
         if (dac.getTimeToLive() == -1) {
             return config.maximumTtl;
@@ -253,12 +283,13 @@ public class TransmissionSimulator {
      * @return a map containing the
      */
     private static Map<String, SimulationNode> getPotentialBroadcastReceivers(Area<CartesianPoint> destinationArea) {
-        return getEntitiesInArea(SimulationEntities.INSTANCE.getAllOnlineNodes(), destinationArea);
+        return SimulationEntities.INSTANCE.getOnlineNodesInArea(destinationArea);
     }
 
     /**
-     * This method collects all entities, that are within the given {@link GeoArea}.
-     * It is static because it is also required in some of the {@link AdhocTransmissionModel}s.
+     * This method collects all entities, that are within the given {@link GeoArea}, by checking each of the given entities.
+     * It is static because it is also required in some of the {@link AdhocTransmissionModel}s. To find all online nodes
+     * within an area, use {@link SimulationEntities#getOnlineNodesInArea} instead, which uses a spatial index.
      *
      * @param relevantEntities a map of all entities and their names, which should be checked against the area
      * @param range            the {@link GeoArea} within which the entities should be.
@@ -58,4 +58,20 @@ public class CSns {
      * Transmission configuration for a single hop.
      */
     public CTransmission singlehopTransmission = new CTransmission();
+
+    /**
+     * If set to {@code true}, all ad hoc transmissions of a time step are collected and simulated in parallel.
+     * Each transmission then uses its own random number generator, seeded from the random number generator
+     * of the federate, which keeps results reproducible but different to those of the sequential simulation.
+     */
+    public boolean parallelTransmissions = false;
+
+    /**
+     * If set to {@code true}, all receptions of a V2X message are sent in one single
+     * {@link org.eclipse.mosaic.interactions.communication.V2xMessageReceptions} interaction instead of one
+     * {@link org.eclipse.mosaic.interactions.communication.V2xMessageReception} per receiver. Only the application
+     * simulator and the output generator, which logs each reception as single {@code V2xMessageReception}, process
+     * this interaction. Therefore, this option must not be used with other federates processing receptions.
+     */
+    public boolean batchReceptions = false;
 }
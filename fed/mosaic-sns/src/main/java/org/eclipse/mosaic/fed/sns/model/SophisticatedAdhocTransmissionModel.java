@@ -15,10 +15,8 @@
 
 package org.eclipse.mosaic.fed.sns.model;
 
+import org.eclipse.mosaic.fed.sns.ambassador.NeighborGraph;
 import org.eclipse.mosaic.fed.sns.ambassador.SimulationNode;
-import org.eclipse.mosaic.fed.sns.ambassador.TransmissionSimulator;
-import org.eclipse.mosaic.lib.geo.CartesianArea;
-import org.eclipse.mosaic.lib.geo.CartesianCircle;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.misc.Tuple;
 import org.eclipse.mosaic.lib.model.delay.Delay;
@@ -27,6 +25,8 @@ import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -50,7 +50,8 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
             String senderName, String receiverName, SimulationNode receiver,
             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
         final Map<String, SimulationNode> receivers = Map.of(receiverName, receiver);
-        final Tuple<String, TransmissionResult> forwardingResult = forwarding(senderName, receivers, transmissionParameter, currentNodes);
+        final NeighborGraph neighborGraph = getNeighborGraph(transmissionParameter, currentNodes);
+        final Tuple<String, TransmissionResult> forwardingResult = forwarding(senderName, receivers, transmissionParameter, neighborGraph);
         return forwardingResult != null ? forwardingResult.getB() : new TransmissionResult(false);
     }
 
@@ -58,13 +59,14 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
     public Map<String, TransmissionResult> simulateGeocast(
             String senderName, Map<String, SimulationNode> receivers,
             TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
+        final NeighborGraph neighborGraph = getNeighborGraph(transmissionParameter, currentNodes);
 
         // sender in destination area or can reach unit in destination area (flooding)
         if (canReachEntityInDestinationArea(senderName, receivers, currentNodes)) {
-            return flooding(senderName, receivers, transmissionParameter, currentNodes);
+            return flooding(senderName, receivers, transmissionParameter, neighborGraph);
         } else { // sender outside destination area (forwarding then flooding)
             final Tuple<String, TransmissionResult> nodeInsideDestinationArea = forwarding(
-                    senderName, receivers, transmissionParameter, currentNodes
+                    senderName, receivers, transmissionParameter, neighborGraph
             );
             if (nodeInsideDestinationArea == null) { // if no node has been reached while forwarding GeoArea, set all results to failed
                 Map<String, TransmissionResult> unsuccessfulForwardAndFlood = new HashMap<>();
@@ -76,7 +78,9 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
                 final String floodingInitiatorName = nodeInsideDestinationArea.getA(); // get name of node that was reached using greedy forwarding
                 final TransmissionResult forwardingTransmission = nodeInsideDestinationArea.getB(); // get hops/delay from node that was reached
                 transmissionParameter.ttl -= forwardingTransmission.numberOfHops; // subtract number of hops from forwarding
-                final Map<String, TransmissionResult> results = flooding(floodingInitiatorName, receivers, transmissionParameter, currentNodes);
+                final Map<String, TransmissionResult> results = flooding(
+                        floodingInitiatorName, receivers, transmissionParameter, neighborGraph
+                );
                 // add delay that was accumulated during greedy forwarding to all nodes
                 results.forEach((receiverName, transmissionResult) -> {
                     transmissionResult.delay += forwardingTransmission.delay;
@@ -89,6 +93,14 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
         }
     }
 
+    /**
+     * Returns the shared single hop connectivity of all online nodes if provided by the transmission parameter,
+     * otherwise the connectivity of the given nodes is computed.
+     */
+    private static NeighborGraph getNeighborGraph(TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
+        return transmissionParameter.neighborGraph != null ? transmissionParameter.neighborGraph.get() : new NeighborGraph(currentNodes);
+    }
+
     /**
      * The Flood Transmission simulates a flooding approach to using multihop messages.
      * A vehicle sends messages to every vehicle in range which in turn relay the message to all vehicles in their range.
@@ -102,73 +114,80 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
      * @param senderName            The Sender of the transmission.
      * @param receivers             The receivers of the transmission.
      * @param transmissionParameter Data class holding the maximumTtl, the {@link Delay} and the current map of simulated entities
-     * @param currentNodes          a reference to all currently online nodes
+     * @param neighborGraph         the single hop connectivity of all currently online nodes
      * @return List of the transmission results.
      */
     private Map<String, TransmissionResult> flooding(
             String senderName, Map<String, SimulationNode> receivers,
-            TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
-        // this map is used to represent all entities, that will be flooding
-        Map<String, SimulationNode> floodingEntities = new HashMap<>();
-        floodingEntities.put(senderName, currentNodes.get(senderName));
+            TransmissionParameter transmissionParameter, NeighborGraph neighborGraph) {
+        Map<String, TransmissionResult> results = new HashMap<>();
+        receivers.forEach((receiverName, receiver) -> results.put(receiverName, new TransmissionResult(false, 0)));
+
+        final int sender = neighborGraph.indexOf(senderName);
+        if (sender < 0) {
+            return results;
+        }
 
         // in the beginning this reflects all receivers except the sender
-        Map<String, SimulationNode> receiversUnsatisfied = new HashMap<>(receivers);
-        receiversUnsatisfied.remove(senderName);
+        final boolean[] receiversUnsatisfied = new boolean[neighborGraph.size()];
+        int numberOfReceiversUnsatisfied = 0;
+        for (String receiverName : receivers.keySet()) {
+            final int receiver = neighborGraph.indexOf(receiverName);
+            if (receiver >= 0 && receiver != sender) {
+                receiversUnsatisfied[receiver] = true;
+                numberOfReceiversUnsatisfied++;
+            }
+        }
 
-        Map<String, TransmissionResult> results = new HashMap<>();
-        receivers.forEach((receiverName, receiver) -> results.put(receiverName, new TransmissionResult(false, 0)));
+        // accumulated number of hops and delay of all satisfied receivers, which is 0 for the sender
+        final int[] numberOfHops = new int[neighborGraph.size()];
+        final long[] delays = new long[neighborGraph.size()];
 
-        // this map holds all entities, that can be reached with a single hop
-        Map<String, SimulationNode> entitiesInReach;
+        // these arrays are used to represent all entities, that will be flooding in the current and in the next step
+        int[] floodingEntities = new int[neighborGraph.size()];
+        int[] nextFloodingEntities = new int[neighborGraph.size()];
+        floodingEntities[0] = sender;
+        int numberOfFloodingEntities = 1;
 
         int currentDepth = 0;
-        while (!receiversUnsatisfied.isEmpty() && currentDepth < transmissionParameter.ttl) {
+        while (numberOfReceiversUnsatisfied > 0 && currentDepth < transmissionParameter.ttl) {
             ++currentDepth;
 
             boolean floodingProgressed = false;
-
-            // this map reflects all future sender after a flooding step is completed
-            Map<String, SimulationNode> foundAndSuccessfulTransmission = new HashMap<>();
+            int numberOfNextFloodingEntities = 0;
 
             // do this for all the currently sending entities
-            for (Map.Entry<String, SimulationNode> floodingEntityEntry : floodingEntities.entrySet()) {
-                final CartesianArea singleHopReachArea = new CartesianCircle(
-                        floodingEntityEntry.getValue().getPosition(),
-                        floodingEntityEntry.getValue().getRadius()
-                );
-                // only search for unsatisfied receivers
-                entitiesInReach = TransmissionSimulator.getEntitiesInArea(receiversUnsatisfied, singleHopReachArea);
-
-                // simulate transmission for unsatisfied receivers in reach
-                final Map<String, TransmissionResult> transmissionResults = new HashMap<>();
-                for (Map.Entry<String, SimulationNode> entry : entitiesInReach.entrySet()) {
+            for (int i = 0; i < numberOfFloodingEntities; i++) {
+                final int floodingEntity = floodingEntities[i];
+                // only search for unsatisfied receivers within single hop reach
+                for (int n = 0; n < neighborGraph.getNeighborCount(floodingEntity); n++) {
+                    final int receiver = neighborGraph.getNeighbor(floodingEntity, n);
+                    if (!receiversUnsatisfied[receiver]) {
+                        continue;
+                    }
                     floodingProgressed = true;
-                    transmissionResults.put(
-                            entry.getKey(),
-                            simulateTransmission(
-                                    transmissionParameter.randomNumberGenerator,
-                                    transmissionParameter.delay, transmissionParameter.transmission
-                            )
+                    final TransmissionResult transmissionResult = simulateTransmission(
+                            transmissionParameter.randomNumberGenerator,
+                            transmissionParameter.delay, transmissionParameter.transmission
                     );
-                }
-
-                int previousNumberOfHops = floodingEntityEntry.getKey().equals(senderName)
-                        ? 0 : results.get(floodingEntityEntry.getKey()).numberOfHops; // determine previous numberOfHops
-                long previousDelay = floodingEntityEntry.getKey().equals(senderName)
-                        ? 0 : results.get(floodingEntityEntry.getKey()).delay; // determine previous delay
-                transmissionResults.forEach((receiverName, transmissionResult) -> {
                     // if entity hasn't been satisfied yet use it as new sender
-                    if (transmissionResult.success && receiversUnsatisfied.remove(receiverName) != null) {
-                        transmissionResult.numberOfHops = previousNumberOfHops + 1;
-                        transmissionResult.delay += previousDelay;
-                        foundAndSuccessfulTransmission.put(receiverName, receivers.get(receiverName));
-                        results.put(receiverName, transmissionResult);
+                    if (transmissionResult.success) {
+                        receiversUnsatisfied[receiver] = false;
+                        numberOfReceiversUnsatisfied--;
+                        transmissionResult.numberOfHops = numberOfHops[floodingEntity] + 1;
+                        transmissionResult.delay += delays[floodingEntity];
+                        numberOfHops[receiver] = transmissionResult.numberOfHops;
+                        delays[receiver] = transmissionResult.delay;
+                        nextFloodingEntities[numberOfNextFloodingEntities++] = receiver;
+                        results.put(neighborGraph.getName(receiver), transmissionResult);
                     }
-                });
+                }
             }
-            floodingEntities.clear(); // reset flooding entities
-            floodingEntities.putAll(foundAndSuccessfulTransmission); // new entities which will be used as start nodes
+            // new entities which will be used as start nodes
+            final int[] previousFloodingEntities = floodingEntities;
+            floodingEntities = nextFloodingEntities;
+            nextFloodingEntities = previousFloodingEntities;
+            numberOfFloodingEntities = numberOfNextFloodingEntities;
 
             if (!floodingProgressed) {
                 return results;
@@ -189,31 +208,27 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
      * @param senderName            The name of the sender of the transmission.
      * @param receivers             The receivers of the transmission.
      * @param transmissionParameter Data class holding the maximumTtl, the {@link Delay} and the current map of simulated entities
-     * @param currentNodes          a reference to all currently online nodes
+     * @param neighborGraph         the single hop connectivity of all currently online nodes
      * @return Map containing the first entity reached out of the receivers map
      */
     private Tuple<String, TransmissionResult> forwarding(
             String senderName, Map<String, SimulationNode> receivers,
-            TransmissionParameter transmissionParameter, Map<String, SimulationNode> currentNodes) {
+            TransmissionParameter transmissionParameter, NeighborGraph neighborGraph) {
+
+        int currentEntity = neighborGraph.indexOf(senderName);
+        if (currentEntity < 0) {
+            return null;
+        }
+        final ReceiverPositions receiverPositions = new ReceiverPositions(receivers);
 
-        String currentEntityName = senderName;
-        SimulationNode currentEntity;
         TransmissionResult previousTransmissionResult = new TransmissionResult(true, 0);
         int currentDepth = 0;
         while (currentDepth < transmissionParameter.ttl) {
             ++currentDepth;
 
-            currentEntity = currentNodes.get(currentEntityName);
-            CartesianCircle singleHopReach = new CartesianCircle(
-                    currentEntity.getPosition(),
-                    currentEntity.getRadius()
-            );
-            // get all reachable entities within singlehop range
-            final Map<String, SimulationNode> reachableEntities = TransmissionSimulator.getEntitiesInArea(currentNodes, singleHopReach);
-
             // try to find next entity to build forwarding-chain towards destination area
-            final String forwardingEntityName = getForwardingEntity(reachableEntities, receivers);
-            if (forwardingEntityName == null || forwardingEntityName.equals(currentEntityName)) {
+            final int forwardingEntity = getForwardingEntity(currentEntity, neighborGraph, receivers, receiverPositions);
+            if (forwardingEntity == currentEntity) {
                 // if no entity to forward the message to was found, or if this entity is already closest, forwarding fails
                 return null;
             }
@@ -229,12 +244,13 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
 
             // if an entity in the destination-area was found return it with the accumulated TransmissionResult
             // (this is especially relevant for the delay, which will be added to the other delays)
+            final String forwardingEntityName = neighborGraph.getName(forwardingEntity);
             if (receivers.containsKey(forwardingEntityName)) {
                 return new Tuple<>(forwardingEntityName, transmissionResult);
             }
 
             previousTransmissionResult = transmissionResult;
-            currentEntityName = forwardingEntityName;
+            currentEntity = forwardingEntity;
         }
         // if destination area couldn't be reached in ttl, fail
         return null;
@@ -263,30 +279,101 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
     }
 
     /**
-     * This method tries to find an entity, which is closest to a node in the destination area.
+     * This method tries to find an entity within single hop reach of the current entity, which is closest to a node in the
+     * destination area. The current entity itself is considered first, thus another entity is only chosen if it is closer.
      *
-     * @param reachableEntities a map of all entities reachable within the communication range
+     * @param currentEntity     the index of the entity currently holding the message
+     * @param neighborGraph     the single hop connectivity of all currently online nodes
      * @param receivers         a map of all entities in the destination area
-     * @return the name of the found entity
+     * @param receiverPositions the positions of all entities in the destination area
+     * @return the index of the found entity, which is the current entity if no closer entity was found
      */
-    private String getForwardingEntity(Map<String, SimulationNode> reachableEntities,
-                                       Map<String, SimulationNode> receivers) {
-        double currentDistance = Double.MAX_VALUE;
-        double candidateDistance;
-        String currentEntityName = null;
-        for (Map.Entry<String, SimulationNode> reachableEntityEntry : reachableEntities.entrySet()) {
-            for (Map.Entry<String, SimulationNode> receiverEntry : receivers.entrySet()) {
-                candidateDistance = reachableEntityEntry.getValue().getPosition().distanceTo(receiverEntry.getValue().getPosition());
-
-                if (candidateDistance == 0) { // if this distance is 0 a node in the destination area has been found
-                    return reachableEntityEntry.getKey();
-                }
-                if (candidateDistance < currentDistance) { // shorter distance
-                    currentDistance = candidateDistance;
-                    currentEntityName = reachableEntityEntry.getKey();
+    private int getForwardingEntity(int currentEntity, NeighborGraph neighborGraph,
+                                    Map<String, SimulationNode> receivers, ReceiverPositions receiverPositions) {
+        double currentDistance = getDistanceToReceivers(currentEntity, neighborGraph, receivers, receiverPositions);
+        int forwardingEntity = currentEntity;
+        for (int n = 0; n < neighborGraph.getNeighborCount(currentEntity) && currentDistance > 0; n++) {
+            final int candidate = neighborGraph.getNeighbor(currentEntity, n);
+            final double candidateDistance = getDistanceToReceivers(candidate, neighborGraph, receivers, receiverPositions);
+            if (candidateDistance < currentDistance) { // shorter distance
+                currentDistance = candidateDistance;
+                forwardingEntity = candidate;
+            }
+        }
+        return forwardingEntity;
+    }
+
+    private double getDistanceToReceivers(int entity, NeighborGraph neighborGraph,
+                                          Map<String, SimulationNode> receivers, ReceiverPositions receiverPositions) {
+        if (receivers.containsKey(neighborGraph.getName(entity))) {
+            // a node in the destination area has been found
+            return 0;
+        }
+        return receiverPositions.getMinimumDistance(neighborGraph.getX(entity), neighborGraph.getY(entity), neighborGraph.getZ(entity));
+    }
+
+    /**
+     * Positions of all receivers sorted by their x-coordinate, which allows finding the closest receiver
+     * of a point without calculating the distance to each receiver.
+     */
+    private static final class ReceiverPositions {
+
+        private final double[] x;
+        private final double[] y;
+        private final double[] z;
+
+        private ReceiverPositions(Map<String, SimulationNode> receivers) {
+            final CartesianPoint[] positions = new CartesianPoint[receivers.size()];
+            int i = 0;
+            for (SimulationNode receiver : receivers.values()) {
+                positions[i++] = receiver.getPosition();
+            }
+            Arrays.sort(positions, Comparator.comparingDouble(CartesianPoint::getX));
+            x = new double[positions.length];
+            y = new double[positions.length];
+            z = new double[positions.length];
+            for (i = 0; i < positions.length; i++) {
+                x[i] = positions[i].getX();
+                y[i] = positions[i].getY();
+                z[i] = positions[i].getZ();
+            }
+        }
+
+        /**
+         * Searches from the x-coordinate of the given point into both directions, until
+         * the distance on the x-axis alone exceeds the closest distance found so far.
+         */
+        private double getMinimumDistance(double pointX, double pointY, double pointZ) {
+            double minimumDistance = Double.MAX_VALUE;
+            final int start = lowerBound(pointX);
+            for (int i = start; i < x.length && x[i] - pointX <= minimumDistance; i++) {
+                minimumDistance = Math.min(minimumDistance, distance(i, pointX, pointY, pointZ));
+            }
+            for (int i = start - 1; i >= 0 && pointX - x[i] <= minimumDistance; i--) {
+                minimumDistance = Math.min(minimumDistance, distance(i, pointX, pointY, pointZ));
+            }
+            return minimumDistance;
+        }
+
+        private int lowerBound(double value) {
+            int low = 0;
+            int high = x.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (x[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
                 }
             }
+            return low;
+        }
+
+        private double distance(int i, double pointX, double pointY, double pointZ) {
+            final double dx = pointX - x[i];
+            final double dy = pointY - y[i];
+            final double dz = pointZ - z[i];
+            return Math.sqrt(dx * dx + dy * dy + dz * dz);
         }
-        return currentEntityName;
     }
 }
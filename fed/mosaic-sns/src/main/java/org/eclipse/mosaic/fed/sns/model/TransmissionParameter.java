@@ -15,10 +15,13 @@
 
 package org.eclipse.mosaic.fed.sns.model;
 
+import org.eclipse.mosaic.fed.sns.ambassador.NeighborGraph;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.lib.model.delay.Delay;
 import org.eclipse.mosaic.lib.model.transmission.CTransmission;
 
+import java.util.function.Supplier;
+
 /**
  * Class holding all necessary information for the calculation of a transmission.
  */
@@ -43,6 +46,12 @@ public class TransmissionParameter {
      */
     public int ttl;
 
+    /**
+     * Provides the single hop connectivity of all currently online nodes, which is shared by all transmissions
+     * and only computed if a transmission model requires it. If {@code null}, models compute the connectivity themselves.
+     */
+    public Supplier<NeighborGraph> neighborGraph;
+
     /**
      * Creates a {@link TransmissionParameter}-object.
      *
@@ -53,9 +62,23 @@ public class TransmissionParameter {
      */
     public TransmissionParameter(RandomNumberGenerator randomNumberGenerator, Delay delay, CTransmission transmission,
                                  int ttl) {
+        this(randomNumberGenerator, delay, transmission, ttl, null);
+    }
+
+    /**
+     * Creates a {@link TransmissionParameter}-object.
+     *
+     * @param randomNumberGenerator {@link RandomNumberGenerator} to be used for transmission calculation
+     * @param delay                 delay for the transmission
+     * @param ttl                   time to live for the transmission
+     * @param neighborGraph         provides the single hop connectivity of all currently online nodes
+     */
+    public TransmissionParameter(RandomNumberGenerator randomNumberGenerator, Delay delay, CTransmission transmission,
+                                 int ttl, Supplier<NeighborGraph> neighborGraph) {
         this.randomNumberGenerator = randomNumberGenerator;
         this.delay = delay;
         this.transmission = transmission;
         this.ttl = ttl;
+        this.neighborGraph = neighborGraph;
     }
 }
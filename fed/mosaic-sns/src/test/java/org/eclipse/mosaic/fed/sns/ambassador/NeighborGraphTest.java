@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+public class NeighborGraphTest {
+
+    @After
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Test
+    public void neighborsDependOnRadiusOfNode() {
+        final Map<String, SimulationNode> nodes = new HashMap<>();
+        nodes.put("veh_0", node(0, 0, 150));
+        nodes.put("veh_1", node(100, 0, 50));
+        nodes.put("veh_2", node(300, 0, 250));
+
+        // RUN
+        final NeighborGraph graph = new NeighborGraph(nodes);
+
+        // ASSERT
+        assertEquals(3, graph.size());
+        assertEquals(-1, graph.indexOf("veh_3"));
+        assertEquals(Set.of("veh_1"), getNeighbors(graph, "veh_0"));
+        assertEquals(Set.of(), getNeighbors(graph, "veh_1"));
+        assertEquals(Set.of("veh_1"), getNeighbors(graph, "veh_2"));
+    }
+
+    @Test
+    public void sameNeighborsAsCircleLookup() {
+        final Random random = new Random(42);
+        final Map<String, SimulationNode> nodes = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            // some nodes have a much larger radius, such as road side units
+            final double radius = i % 50 == 0 ? 2000 : 100 + random.nextDouble() * 400;
+            nodes.put("veh_" + i, node(random.nextDouble() * 10000, random.nextDouble() * 500, radius));
+        }
+
+        // RUN
+        final NeighborGraph graph = new NeighborGraph(nodes);
+
+        // ASSERT
+        for (Map.Entry<String, SimulationNode> node : nodes.entrySet()) {
+            final CartesianCircle range = new CartesianCircle(node.getValue().getPosition(), node.getValue().getRadius());
+            final Set<String> expected = new HashSet<>();
+            nodes.forEach((name, other) -> {
+                if (!name.equals(node.getKey()) && range.contains(other.getPosition())) {
+                    expected.add(name);
+                }
+            });
+            assertEquals(expected, getNeighbors(graph, node.getKey()));
+        }
+    }
+
+    @Test
+    public void onlineNodesGraphIsReusedUntilNodesChange() {
+        SimulationEntities.INSTANCE.createOnlineNode("veh_0", CartesianPoint.xy(0, 0), 100);
+        SimulationEntities.INSTANCE.createOnlineNode("veh_1", CartesianPoint.xy(50, 0), 100);
+
+        // RUN
+        final NeighborGraph first = SimulationEntities.INSTANCE.getOnlineNodesGraph();
+        final NeighborGraph second = SimulationEntities.INSTANCE.getOnlineNodesGraph();
+        SimulationEntities.INSTANCE.updateOnlineNode("veh_1", CartesianPoint.xy(500, 0));
+        final NeighborGraph third = SimulationEntities.INSTANCE.getOnlineNodesGraph();
+
+        // ASSERT
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(Set.of("veh_1"), getNeighbors(first, "veh_0"));
+        assertEquals(Set.of(), getNeighbors(third, "veh_0"));
+    }
+
+    private static Set<String> getNeighbors(NeighborGraph graph, String name) {
+        final int index = graph.indexOf(name);
+        final Set<String> neighbors = new HashSet<>();
+        for (int n = 0; n < graph.getNeighborCount(index); n++) {
+            neighbors.add(graph.getName(graph.getNeighbor(index, n)));
+        }
+        return neighbors;
+    }
+
+    private static SimulationNode node(double x, double y, double radius) {
+        final SimulationNode node = new SimulationNode();
+        node.setPosition(CartesianPoint.xy(x, y));
+        node.setRadius(radius);
+        return node;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures position updates and the lookup of single hop broadcast receivers in {@link SimulationEntities}, whose online nodes
+ * are held in a {@link org.eclipse.mosaic.lib.spatial.NodeRegistry}. The range query of the registry is compared with
+ * a scan over all online nodes. Vehicles are placed on a dense 3-lane highway of 10 km length
+ * (both directions), and each vehicle sends one broadcast per simulation step, as it happens when all vehicles send CAMs.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.mosaic.fed.sns.ambassador.SimulationEntitiesBenchmark}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationEntitiesBenchmark {
+
+    private static final double HIGHWAY_LENGTH = 10_000;
+
+    private static final double COMMUNICATION_RADIUS = 300;
+
+    @State(Scope.Benchmark)
+    public static class Highway {
+
+        @Param({"1000", "5000"})
+        public int vehicles;
+
+        @Param({"fullScan", "registry"})
+        public String implementation;
+
+        private String[] names;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            final Random random = new Random(0);
+            SimulationEntities.INSTANCE.reset();
+            names = new String[vehicles];
+            for (int i = 0; i < vehicles; i++) {
+                names[i] = "veh_" + i;
+                // 6 lanes with 3.5 m width each
+                final CartesianPoint position = CartesianPoint.xy(random.nextDouble() * HIGHWAY_LENGTH, random.nextInt(6) * 3.5);
+                SimulationEntities.INSTANCE.createOnlineNode(names[i], position, COMMUNICATION_RADIUS);
+            }
+        }
+
+        private Map<String, SimulationNode> getReceivers(CartesianCircle range) {
+            if ("registry".equals(implementation)) {
+                return SimulationEntities.INSTANCE.getOnlineNodesInArea(range);
+            }
+            // checks each online node, as TransmissionSimulator#getEntitiesInArea does for any other set of nodes
+            final Map<String, SimulationNode> results = new HashMap<>();
+            for (var entityEntry : SimulationEntities.INSTANCE.getAllOnlineNodes().entrySet()) {
+                if (range.contains(entityEntry.getValue().getPosition())) {
+                    results.put(entityEntry.getKey(), entityEntry.getValue());
+                }
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Moves all vehicles and lets each vehicle look up the receivers of its broadcast.
+     */
+    @Benchmark
+    public int simulationStep(Highway highway) {
+        int receivers = 0;
+        for (String name : highway.names) {
+            final SimulationNode node = SimulationEntities.INSTANCE.getOnlineNode(name);
+            final CartesianPoint position = node.getPosition();
+            SimulationEntities.INSTANCE.updateOnlineNode(name,
+                    CartesianPoint.xy((position.getX() + 3) % HIGHWAY_LENGTH, position.getY()));
+        }
+        for (String name : highway.names) {
+            final SimulationNode node = SimulationEntities.INSTANCE.getOnlineNode(name);
+            receivers += highway.getReceivers(new CartesianCircle(node.getPosition(), node.getRadius())).size();
+        }
+        return receivers;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SimulationEntitiesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
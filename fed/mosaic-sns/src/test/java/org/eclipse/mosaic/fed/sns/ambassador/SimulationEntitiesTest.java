@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+public class SimulationEntitiesTest {
+
+    private final SimulationEntities entities = SimulationEntities.INSTANCE;
+
+    @Before
+    public void setup() {
+        entities.reset();
+        entities.createOnlineNode("veh_0", CartesianPoint.xy(0, 0), 100);
+        entities.createOnlineNode("veh_1", CartesianPoint.xy(50, 0), 100);
+        entities.createOnlineNode("veh_2", CartesianPoint.xy(500, 0), 100);
+        entities.createOrUpdateOfflineNode("veh_3", CartesianPoint.xy(20, 0));
+    }
+
+    @After
+    public void tearDown() {
+        entities.reset();
+    }
+
+    @Test
+    public void getAllOnlineNodes() {
+        // RUN
+        entities.disableWifi("veh_0");
+        entities.enableWifi("veh_3", 200);
+
+        // ASSERT
+        final Map<String, SimulationNode> onlineNodes = entities.getAllOnlineNodes();
+        assertEquals(Set.of("veh_1", "veh_2", "veh_3"), onlineNodes.keySet());
+        assertSame(entities.getOnlineNode("veh_3"), onlineNodes.get("veh_3"));
+        assertEquals(200, onlineNodes.get("veh_3").getRadius(), 0d);
+        assertNull(onlineNodes.get("veh_0"));
+        assertTrue(entities.isNodeOffline("veh_0"));
+        assertFalse(entities.isNodeOffline("veh_3"));
+    }
+
+    @Test
+    public void getOnlineNodesInArea() {
+        // RUN
+        entities.updateOnlineNode("veh_2", CartesianPoint.xy(80, 0));
+        final Map<String, SimulationNode> nodesInArea = entities.getOnlineNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 100));
+
+        // ASSERT
+        assertEquals(Set.of("veh_0", "veh_1", "veh_2"), nodesInArea.keySet());
+        assertSame(entities.getOnlineNode("veh_2"), nodesInArea.get("veh_2"));
+        assertFalse(nodesInArea.containsKey("veh_3"));
+
+        // RUN
+        nodesInArea.remove("veh_1");
+
+        // ASSERT
+        assertEquals(Map.of("veh_0", entities.getOnlineNode("veh_0"), "veh_2", entities.getOnlineNode("veh_2")), nodesInArea);
+        assertEquals(3, entities.getAllOnlineNodes().size());
+    }
+
+    @Test
+    public void getOnlineNodesGraph() {
+        // RUN
+        entities.removeNode("veh_1");
+        final NeighborGraph graph = entities.getOnlineNodesGraph();
+
+        // ASSERT
+        assertEquals(2, graph.size());
+        assertEquals(-1, graph.indexOf("veh_1"));
+        assertEquals(0, graph.getNeighborCount(graph.indexOf("veh_0")));
+
+        // RUN
+        entities.updateOnlineNode("veh_2", CartesianPoint.xy(80, 0));
+
+        // ASSERT
+        final NeighborGraph updatedGraph = entities.getOnlineNodesGraph();
+        assertEquals(1, updatedGraph.getNeighborCount(updatedGraph.indexOf("veh_0")));
+        assertEquals("veh_2", updatedGraph.getName(updatedGraph.getNeighbor(updatedGraph.indexOf("veh_0"), 0)));
+    }
+}
@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.sns.ambassador;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -23,6 +24,7 @@ import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReceptions;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
@@ -43,6 +45,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
@@ -91,6 +94,7 @@ public class SnsAmbassadorTest {
 
     private final Map<String, GeoPoint> vehToPosition = new HashMap<>();
     private final List<V2xMessageReception> messagesSent = new ArrayList<>();
+    private final List<V2xMessageReceptions> batchedMessagesSent = new ArrayList<>();
 
     @Before
     public void setup() throws Exception {
@@ -110,6 +114,10 @@ public class SnsAmbassadorTest {
             messagesSent.add(((V2xMessageReception) invocationOnMock.getArguments()[0]));
             return null;
         }).when(rtiMock).triggerInteraction(isA(V2xMessageReception.class));
+        doAnswer((invocationOnMock) -> {
+            batchedMessagesSent.add(((V2xMessageReceptions) invocationOnMock.getArguments()[0]));
+            return null;
+        }).when(rtiMock).triggerInteraction(isA(V2xMessageReceptions.class));
 
     }
 
@@ -183,6 +191,104 @@ public class SnsAmbassadorTest {
 
     }
 
+    @Test
+    public void parallelTransmissions_reproducibleBatchedReceptions() throws Exception {
+        // RUN
+        final List<Map<String, Long>> firstRun = simulateParallelBroadcasts();
+        SimulationEntities.INSTANCE.reset();
+        final List<Map<String, Long>> secondRun = simulateParallelBroadcasts();
+
+        // ASSERT
+        assertTrue(messagesSent.isEmpty());
+        assertEquals(20, firstRun.size());
+        assertEquals(firstRun, secondRun);
+        for (int i = 0; i < firstRun.size(); i++) {
+            assertEquals(19, firstRun.get(i).size());
+            assertFalse(firstRun.get(i).containsKey("veh_" + i));
+            for (long receiveTime : firstRun.get(i).values()) {
+                assertTrue(receiveTime >= TIME.SECOND + TIME.MILLI_SECOND && receiveTime <= TIME.SECOND + 10 * TIME.MILLI_SECOND);
+            }
+        }
+    }
+
+    @Test
+    public void parallelTransmissions_vehicleUpdatesInBetween() throws Exception {
+        // PREPARE
+        ambassador = createAmbassador("sns_config_parallel.json");
+        addVehicle("veh_0");
+        addVehicle("veh_1");
+        configureAdHoc("veh_0", 100d);
+        configureAdHoc("veh_1", 100d);
+        moveVehicle("veh_0", GeoPoint.latLon(52.31, 13.40));
+        moveVehicle("veh_1", GeoPoint.latLon(52.31, 13.4001));
+
+        final MessageRouting routing = new AdHocMessageRoutingBuilder("veh_0", vehToPosition.get("veh_0"))
+                .channel(AdHocChannel.CCH).singlehop().broadcast().topological().build();
+        final GeoPoint farAway = GeoPoint.latLon(52.32, 13.40);
+        final VehicleData vehicleData = new VehicleData.Builder(0, "veh_1").position(farAway, farAway.toCartesian()).create();
+
+        // RUN
+        ambassador.processInteractions(List.of(
+                new V2xMessageTransmission(0, createMessage(routing)),
+                new VehicleUpdates(0, Lists.newArrayList(), Lists.newArrayList(vehicleData), Lists.newArrayList()),
+                new V2xMessageTransmission(0, createMessage(routing))
+        ));
+
+        // ASSERT
+        assertEquals(1, batchedMessagesSent.size());
+        assertEquals(1, batchedMessagesSent.get(0).size());
+        assertEquals("veh_1", batchedMessagesSent.get(0).getReceiverName(0));
+    }
+
+    /**
+     * Lets 20 vehicles send a broadcast at the same time, and returns the reception times by receiver for each of them.
+     */
+    private List<Map<String, Long>> simulateParallelBroadcasts() throws Exception {
+        when(rtiMock.createRandomNumberGenerator()).thenReturn(new DefaultRandomNumberGenerator(89989123L));
+        ambassador = createAmbassador("sns_config_parallel.json");
+        batchedMessagesSent.clear();
+
+        final List<Interaction> transmissions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            addVehicle("veh_" + i);
+            configureAdHoc("veh_" + i, 500d);
+            moveVehicle("veh_" + i, GeoPoint.latLon(52.31, 13.40 + i * 0.0001));
+            final MessageRouting routing = new AdHocMessageRoutingBuilder("veh_" + i, vehToPosition.get("veh_" + i))
+                    .channel(AdHocChannel.CCH).singlehop().broadcast().topological().build();
+            transmissions.add(new V2xMessageTransmission(TIME.SECOND, createMessage(routing)));
+        }
+        ambassador.processInteractions(transmissions);
+
+        final List<Map<String, Long>> result = new ArrayList<>();
+        for (V2xMessageReceptions receptions : batchedMessagesSent) {
+            final Map<String, Long> receiveTimes = new HashMap<>();
+            for (int i = 0; i < receptions.size(); i++) {
+                receiveTimes.put(receptions.getReceiverName(i), receptions.getReceiveTime(i));
+            }
+            result.add(receiveTimes);
+        }
+        return result;
+    }
+
+    private SnsAmbassador createAmbassador(String configuration) throws Exception {
+        final File configurationFile =
+                new File(Objects.requireNonNull(this.getClass().getClassLoader().getResource(configuration)).toURI());
+        final SnsAmbassador snsAmbassador = new SnsAmbassador(new AmbassadorParameter("sns", configurationFile));
+        snsAmbassador.setRtiAmbassador(rtiMock);
+        snsAmbassador.initialize(0, 1000 * TIME.SECOND);
+        return snsAmbassador;
+    }
+
+    private static V2xMessage createMessage(MessageRouting routing) {
+        return new V2xMessage(routing) {
+            @Nonnull
+            @Override
+            public EncodedPayload getPayload() {
+                return new EncodedPayload(0);
+            }
+        };
+    }
+
     private void assertReceivedMessages(String... vehicleNames) {
         Set<String> sent = new HashSet<>();
         for (V2xMessageReception message : messagesSent) {
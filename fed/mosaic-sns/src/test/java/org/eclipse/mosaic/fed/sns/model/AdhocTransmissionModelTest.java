@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.mosaic.fed.sns.ambassador.NeighborGraph;
 import org.eclipse.mosaic.fed.sns.ambassador.SimulationNode;
 import org.eclipse.mosaic.lib.geo.CartesianArea;
 import org.eclipse.mosaic.lib.geo.CartesianCircle;
@@ -227,6 +228,36 @@ public class AdhocTransmissionModelTest {
         assertEquals(4, floodingTransmissionResults.get("25").delay);
     }
 
+    /**
+     * The connectivity provided by the transmission parameter is used instead of computing it from the given nodes.
+     */
+    @Test
+    public void simulateGeoBroadcast_sharedNeighborGraphIsUsed() {
+        // SETUP
+        // the shared graph reflects reduced transmission radii, the given nodes do not
+        for (Map.Entry<String, SimulationNode> entry : nodesRandomlyDistributed.entrySet()) {
+            when(entry.getValue().getRadius()).thenReturn(145d);
+        }
+        final NeighborGraph sharedGraph = new NeighborGraph(allNodes);
+        for (Map.Entry<String, SimulationNode> entry : nodesRandomlyDistributed.entrySet()) {
+            when(entry.getValue().getRadius()).thenReturn(155d);
+        }
+        TransmissionParameter transmissionParameter = generateTransmissionParameter_NoLoss(4);
+        transmissionParameter.neighborGraph = () -> sharedGraph;
+
+        // RUN
+        Map<String, TransmissionResult> floodingTransmissionResults = sophisticatedTransmissionModel.simulateGeocast(
+                "30", getAllRandomlyDistributedEntitiesRemoveSender("30"), transmissionParameter, allNodes
+        );
+
+        // ASSERT the same receivers are unreachable as with reduced radii
+        assertEquals(9, floodingTransmissionResults.size());
+        for (String unreachableEntity : new String[]{"23", "26", "27", "28"}) {
+            assertFalse(floodingTransmissionResults.get(unreachableEntity).success);
+        }
+        assertTrue(floodingTransmissionResults.get("25").success);
+    }
+
     /**
      * This test limits the Time to live, so that not all receivers can be reached.
      */
@@ -94,6 +94,7 @@ import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.FederateExecutor;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InteractionHandlerTable;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.federatestarter.ExecutableFederateExecutor;
 import org.eclipse.mosaic.rti.api.federatestarter.NopFederateExecutor;
@@ -121,10 +122,16 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -166,6 +173,11 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     private final List<Interaction> interactionList = new ArrayList<>();
 
+    /**
+     * Handlers of the interactions processed in {@link #processInteractionAdvanced}, looked up by their type index.
+     */
+    private final InteractionHandlerTable interactionHandlers = createInteractionHandlers();
+
     /**
      * List of vehicles that are simulated externally.
      */
@@ -219,6 +231,31 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
      */
     final HashMap<String, VehicleRoute> routes = new HashMap<>();
 
+    /**
+     * The route ids of all vehicles simulated by SUMO at the time their route has been checked last.
+     */
+    private final Map<String, String> vehicleRouteIds = new HashMap<>();
+
+    /**
+     * Indicates whether any interaction has been received since the last simulation step has been sent to SUMO.
+     */
+    boolean interactionReceivedSinceLastStep = false;
+
+    /**
+     * Executes speculative simulation steps, if {@link CSumo#pipelinedSimulationSteps} is enabled.
+     */
+    private ExecutorService speculativeStepExecutor;
+
+    /**
+     * The simulation step which has been sent to SUMO speculatively, but whose result has not been received yet.
+     */
+    private Future<TraciSimulationStepResult> speculativeStep;
+
+    /**
+     * The result of the speculative simulation step, which is published at the next time advance.
+     */
+    private TraciSimulationStepResult speculativeStepResult;
+
     /**
      * Creates a new {@link AbstractSumoAmbassador} object.
      *
@@ -464,12 +501,37 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
     @Override
     public void processInteraction(Interaction interaction) throws InternalFederateException {
         interactionList.add(interaction);
+        interactionReceivedSinceLastStep = true;
 
         if (log.isTraceEnabled()) {
             log.trace("Got new interaction {} with time {} ns", interaction.getTypeId(), interaction.getTime());
         }
     }
 
+    private InteractionHandlerTable createInteractionHandlers() {
+        return new InteractionHandlerTable()
+                .register(VehicleFederateAssignment.class, this::receiveInteraction)
+                .register(VehicleUpdates.class, this::receiveInteraction)
+                .register(VehicleSlowDown.class, this::receiveInteraction)
+                .register(VehicleRouteChange.class, this::receiveInteraction)
+                .register(TrafficLightStateChange.class, this::receiveInteraction)
+                .register(SumoTraciRequest.class, this::receiveInteraction)
+                .register(VehicleLaneChange.class, this::receiveInteraction)
+                .register(VehicleStop.class, this::receiveInteraction)
+                .register(VehicleResume.class, this::receiveInteraction)
+                .register(VehicleParametersChange.class, this::receiveInteraction)
+                .register(VehicleSensorActivation.class, this::receiveInteraction)
+                .register(VehicleSpeedChange.class, this::receiveInteraction)
+                .register(VehicleSightDistanceConfiguration.class, this::receiveInteraction)
+                .register(InductionLoopDetectorSubscription.class, this::receiveInteraction)
+                .register(LaneAreaDetectorSubscription.class, this::receiveInteraction)
+                .register(TrafficLightSubscription.class, this::receiveInteraction)
+                .register(LanePropertyChange.class, this::receiveInteraction)
+                .register(TrafficSignRegistration.class, this::receiveInteraction)
+                .register(TrafficSignSpeedLimitChange.class, this::receiveInteraction)
+                .register(TrafficSignLaneAssignmentChange.class, this::receiveInteraction);
+    }
+
     /**
      * This processes all other types of interactions as part of {@link #processTimeAdvanceGrant}.
      *
@@ -483,47 +545,7 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             throw new InternalFederateException("Interaction time lies in the future:" + interaction.getTime() + ", current time:" + time);
         }
 
-        if (interaction.getTypeId().equals(VehicleFederateAssignment.TYPE_ID)) {
-            receiveInteraction((VehicleFederateAssignment) interaction);
-        } else if (interaction.getTypeId().equals(VehicleUpdates.TYPE_ID)) {
-            receiveInteraction((VehicleUpdates) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSlowDown.TYPE_ID)) {
-            receiveInteraction((VehicleSlowDown) interaction);
-        } else if (interaction.getTypeId().equals(VehicleRouteChange.TYPE_ID)) {
-            receiveInteraction((VehicleRouteChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightStateChange.TYPE_ID)) {
-            receiveInteraction((TrafficLightStateChange) interaction);
-        } else if (interaction.getTypeId().equals(SumoTraciRequest.TYPE_ID)) {
-            receiveInteraction((SumoTraciRequest) interaction);
-        } else if (interaction.getTypeId().equals(VehicleLaneChange.TYPE_ID)) {
-            receiveInteraction((VehicleLaneChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleStop.TYPE_ID)) {
-            receiveInteraction((VehicleStop) interaction);
-        } else if (interaction.getTypeId().equals(VehicleResume.TYPE_ID)) {
-            receiveInteraction((VehicleResume) interaction);
-        } else if (interaction.getTypeId().equals(VehicleParametersChange.TYPE_ID)) {
-            receiveInteraction((VehicleParametersChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSensorActivation.TYPE_ID)) {
-            receiveInteraction((VehicleSensorActivation) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSpeedChange.TYPE_ID)) {
-            receiveInteraction((VehicleSpeedChange) interaction);
-        } else if (interaction.getTypeId().equals(VehicleSightDistanceConfiguration.TYPE_ID)) {
-            receiveInteraction((VehicleSightDistanceConfiguration) interaction);
-        } else if (interaction.getTypeId().equals(InductionLoopDetectorSubscription.TYPE_ID)) {
-            receiveInteraction((InductionLoopDetectorSubscription) interaction);
-        } else if (interaction.getTypeId().equals(LaneAreaDetectorSubscription.TYPE_ID)) {
-            receiveInteraction((LaneAreaDetectorSubscription) interaction);
-        } else if (interaction.getTypeId().equals(TrafficLightSubscription.TYPE_ID)) {
-            this.receiveInteraction((TrafficLightSubscription) interaction);
-        } else if (interaction.getTypeId().equals(LanePropertyChange.TYPE_ID)) {
-            receiveInteraction((LanePropertyChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignRegistration.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignRegistration) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignSpeedLimitChange.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignSpeedLimitChange) interaction);
-        } else if (interaction.getTypeId().equals(TrafficSignLaneAssignmentChange.TYPE_ID)) {
-            this.receiveInteraction((TrafficSignLaneAssignmentChange) interaction);
-        } else {
+        if (!interactionHandlers.dispatch(interaction)) {
             log.warn(UNKNOWN_INTERACTION + interaction.getTypeId());
         }
     }
@@ -1193,11 +1215,21 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             throw new InternalFederateException("Error during advance time (" + time + "): Sumo not yet ready.");
         }
 
-        // send cached interactions
-        for (Interaction interaction : interactionList) {
-            processInteractionAdvanced(interaction, time);
+        // no other command must be sent to SUMO while a speculative step is still in progress
+        if (speculativeStep != null) {
+            speculativeStepResult = awaitSpeculativeStep();
+            if (!interactionList.isEmpty()) {
+                log.debug("Received {} interactions during speculative simulation step, which are applied with the next step",
+                        interactionList.size());
+            }
+        }
+
+        // send cached interactions, all commands without result are sent to SUMO at once
+        if (bridge != null) {
+            bridge.executeBatch(() -> processCachedInteractions(time));
+        } else {
+            processCachedInteractions(time);
         }
-        interactionList.clear();
 
         if (time < nextTimeStep) {
             // process time advance only if time is equal or greater than the next simulation time step
@@ -1224,8 +1256,15 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
                 firstAdvanceTime = false;
             }
 
-            setExternalVehiclesToLatestPositions(time);
-            TraciSimulationStepResult simulationStepResult = bridge.getSimulationControl().simulateUntil(time);
+            final TraciSimulationStepResult simulationStepResult;
+            if (speculativeStepResult != null) {
+                simulationStepResult = speculativeStepResult;
+                speculativeStepResult = null;
+            } else {
+                setExternalVehiclesToLatestPositions(time);
+                interactionReceivedSinceLastStep = false;
+                simulationStepResult = bridge.getSimulationControl().simulateUntil(time);
+            }
 
             VehicleUpdates vehicleUpdates = simulationStepResult.getVehicleUpdates();
             log.trace("Leaving advance time: {}", time);
@@ -1240,16 +1279,79 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
             rti.triggerInteraction(simulationStepResult.getTrafficDetectorUpdates());
             this.rti.triggerInteraction(simulationStepResult.getTrafficLightUpdates());
 
-            rti.requestAdvanceTime(nextTimeStep, 0, FederatePriority.higher(descriptor.getPriority()));
+            final byte nextStepPriority = FederatePriority.higher(descriptor.getPriority());
+            rti.requestAdvanceTime(nextTimeStep, 0, nextStepPriority);
 
             lastAdvanceTime = time;
+
+            if (isSpeculativeStepPossible(nextStepPriority)) {
+                flushNotYetAddedVehicles(time);
+                startSpeculativeStep(nextTimeStep);
+            }
         } catch (InternalFederateException | IOException | IllegalValueException e) {
             log.error("Error during advanceTime(" + time + ")", e);
             throw new InternalFederateException(e);
         }
     }
 
-    private void setExternalVehiclesToLatestPositions(long time) {
+    /**
+     * Checks if the next simulation step can be sent to SUMO before the time advance for it has been granted. This is only
+     * the case if no interaction has been received since the last step, no event or external vehicle requires
+     * to send any command to SUMO before the next step, and no interaction which is due before the next step is
+     * queued already or may still be sent by any other federate.
+     *
+     * @param nextStepPriority the priority of the time advance requested for the next step
+     */
+    private boolean isSpeculativeStepPossible(byte nextStepPriority) {
+        return sumoConfig.pipelinedSimulationSteps
+                && bridge instanceof TraciClientBridge
+                && !interactionReceivedSinceLastStep
+                && interactionList.isEmpty()
+                && externalVehicles.isEmpty()
+                && (eventScheduler.isEmpty() || eventScheduler.getNextEventTime() > nextTimeStep)
+                && nextTimeStep <= getEndTime()
+                && !interactionQueue.hasInteractionsUntil(nextTimeStep)
+                && !rti.mayReceiveInteractionsBefore(nextTimeStep, nextStepPriority);
+    }
+
+    private void startSpeculativeStep(long time) {
+        if (speculativeStepExecutor == null) {
+            speculativeStepExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "sumo-speculative-step");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        log.trace("Simulate speculatively until {}", time);
+        interactionReceivedSinceLastStep = false;
+        speculativeStep = speculativeStepExecutor.submit(() -> bridge.getSimulationControl().simulateUntil(time));
+    }
+
+    private TraciSimulationStepResult awaitSpeculativeStep() throws InternalFederateException {
+        try {
+            return speculativeStep.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException("Interrupted while waiting for speculative simulation step", e);
+        } catch (ExecutionException e) {
+            throw new InternalFederateException("Could not execute speculative simulation step", e);
+        } finally {
+            speculativeStep = null;
+        }
+    }
+
+    private void processCachedInteractions(long time) throws InternalFederateException {
+        for (Interaction interaction : interactionList) {
+            processInteractionAdvanced(interaction, time);
+        }
+        interactionList.clear();
+    }
+
+    private void setExternalVehiclesToLatestPositions(long time) throws InternalFederateException {
+        bridge.executeBatch(() -> moveExternalVehicles(time));
+    }
+
+    private void moveExternalVehicles(long time) {
         for (Map.Entry<String, ExternalVehicleState> external : externalVehicles.entrySet()) {
             final String externalVehicle = external.getKey();
             final ExternalVehicleState externalState = external.getValue();
@@ -1308,32 +1410,27 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
     }
 
     /**
-     * This handles the case that sumo handles routing and creates new routes while doing so.
+     * This handles the case that sumo handles routing and creates new routes while doing so. Only vehicles
+     * whose route id has changed since their last update are checked, and all new routes are read at once.
      *
      * @param vehicleUpdates Vehicle movement in the simulation.
      * @param time           Time at which the vehicle has moved.
      * @throws InternalFederateException Exception if an error occurred while propagating new routes.
      */
     private void propagateNewRoutes(VehicleUpdates vehicleUpdates, long time) throws InternalFederateException {
-        // cache all new routes
-        ArrayList<VehicleRoute> newRoutes = new ArrayList<>();
-
-        // check added vehicles for new routes
-        for (VehicleData vehicleData : vehicleUpdates.getAdded()) {
-            if (!routes.containsKey(vehicleData.getRouteId())) {
-                newRoutes.add(readRouteFromTraci(vehicleData.getRouteId()));
-            }
-        }
-
-        // check updated vehicles for new routes
-        for (VehicleData vehicleData : vehicleUpdates.getUpdated()) {
-            if (!routes.containsKey(vehicleData.getRouteId())) {
-                newRoutes.add(readRouteFromTraci(vehicleData.getRouteId()));
-            }
+        // collect new routes of added and updated vehicles, each route only once
+        final Set<String> newRouteIds = new LinkedHashSet<>();
+        collectNewRouteIds(vehicleUpdates.getAdded(), newRouteIds);
+        collectNewRouteIds(vehicleUpdates.getUpdated(), newRouteIds);
+        for (String removedVehicle : vehicleUpdates.getRemovedNames()) {
+            vehicleRouteIds.remove(removedVehicle);
+        }
+        if (newRouteIds.isEmpty()) {
+            return;
         }
 
         // now create VehicleRouteRegistration interactions for each and add route to cache
-        for (VehicleRoute route : newRoutes) {
+        for (VehicleRoute route : readRoutesFromTraci(new ArrayList<>(newRouteIds))) {
             // propagate new route
             final VehicleRouteRegistration vehicleRouteRegistration = new VehicleRouteRegistration(time, route);
             try {
@@ -1347,23 +1444,37 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
         }
     }
 
+    private void collectNewRouteIds(List<VehicleData> vehicles, Set<String> newRouteIds) {
+        for (VehicleData vehicleData : vehicles) {
+            final String routeId = vehicleData.getRouteId();
+            final String previousRouteId = vehicleRouteIds.put(vehicleData.getName(), routeId);
+            if (!Objects.equals(previousRouteId, routeId) && !routes.containsKey(routeId)) {
+                newRouteIds.add(routeId);
+            }
+        }
+    }
+
     private void propagateSumoVehiclesToRti(long time) throws InternalFederateException {
         List<String> routeFileVehicles = getRouteFileVehicles();
-        String vehicleTypeId;
-        VehicleType vehicleType;
-        for (String vehicleId : routeFileVehicles) {
-            vehiclesAddedViaRouteFile.add(vehicleId);
-            vehicleTypeId = bridge.getVehicleControl().getVehicleTypeId(vehicleId);
-            vehicleType = bridge.getVehicleControl().getVehicleType(vehicleTypeId);
-            try {
-                rti.triggerInteraction(new ScenarioVehicleRegistration(time, vehicleId, vehicleType));
-            } catch (IllegalValueException e) {
-                throw new InternalFederateException(e);
-            }
-            if (sumoConfig.subscribeToAllVehicles) { // this is required as vehicles with no apps can't be subscribed to otherwise
-                bridge.getSimulationControl().subscribeForVehicle(vehicleId, time, this.getEndTime());
-            }
+        if (routeFileVehicles.isEmpty()) {
+            return;
         }
+        List<String> vehicleTypeIds = bridge.getVehicleControl().getVehicleTypeIds(routeFileVehicles);
+        bridge.executeBatch(() -> {
+            for (int i = 0; i < routeFileVehicles.size(); i++) {
+                String vehicleId = routeFileVehicles.get(i);
+                vehiclesAddedViaRouteFile.add(vehicleId);
+                VehicleType vehicleType = bridge.getVehicleControl().getVehicleType(vehicleTypeIds.get(i));
+                try {
+                    rti.triggerInteraction(new ScenarioVehicleRegistration(time, vehicleId, vehicleType));
+                } catch (IllegalValueException e) {
+                    throw new InternalFederateException(e);
+                }
+                if (sumoConfig.subscribeToAllVehicles) { // this is required as vehicles with no apps can't be subscribed to otherwise
+                    bridge.getSimulationControl().subscribeForVehicle(vehicleId, time, this.getEndTime());
+                }
+            }
+        });
     }
 
     private List<String> getRouteFileVehicles() throws InternalFederateException {
@@ -1392,9 +1503,36 @@ public abstract class AbstractSumoAmbassador extends AbstractFederateAmbassador
         return new VehicleRoute(routeId, bridge.getRouteControl().getRouteEdges(routeId), new ArrayList<>(), 0d);
     }
 
+    /**
+     * Reads several routes from the SUMO Traci at once.
+     *
+     * @param routeIds The Ids of the routes.
+     * @return The routes from the Traci, in the order of the given Ids.
+     * @throws InternalFederateException Exception is thrown if an error is occurred by reading routes from the Traci.
+     */
+    List<VehicleRoute> readRoutesFromTraci(List<String> routeIds) throws InternalFederateException {
+        final List<List<String>> routeEdges = bridge.getRouteControl().getRouteEdges(routeIds);
+        final List<VehicleRoute> vehicleRoutes = new ArrayList<>(routeIds.size());
+        for (int i = 0; i < routeIds.size(); i++) {
+            // this route will always be generated with an empty list of nodes
+            vehicleRoutes.add(new VehicleRoute(routeIds.get(i), routeEdges.get(i), new ArrayList<>(), 0d));
+        }
+        return vehicleRoutes;
+    }
+
     @Override
     public void finishSimulation() {
         log.info("Closing SUMO connection");
+        if (speculativeStep != null) {
+            try {
+                awaitSpeculativeStep();
+            } catch (InternalFederateException e) {
+                log.warn("Speculative simulation step could not be finished", e);
+            }
+        }
+        if (speculativeStepExecutor != null) {
+            speculativeStepExecutor.shutdownNow();
+        }
         if (bridge != null) {
             bridge.close();
         }
@@ -98,6 +98,7 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
      */
     @Override
     public synchronized void processInteraction(Interaction interaction) throws InternalFederateException {
+        interactionReceivedSinceLastStep = true;
         // Init and VehicleRegistration are processed directly...
         if (interaction.getTypeId().equals(VehicleRoutesInitialization.TYPE_ID)) {
             this.receiveInteraction((VehicleRoutesInitialization) interaction);
@@ -216,17 +217,20 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
      * @throws InternalFederateException if Traci connection couldn't be established
      */
     private void readInitialRoutesFromTraci() throws InternalFederateException {
+        final List<String> newRouteIds = new ArrayList<>();
         for (String id : bridge.getRouteControl().getRouteIds()) {
             if (!routes.containsKey(id)) {
-                VehicleRoute route = readRouteFromTraci(id);
-                routes.put(route.getId(), route);
-                // propagate new route
-                final VehicleRouteRegistration vehicleRouteRegistration = new VehicleRouteRegistration(super.nextTimeStep, route);
-                try {
-                    rti.triggerInteraction(vehicleRouteRegistration);
-                } catch (IllegalValueException e) {
-                    throw new InternalFederateException(e);
-                }
+                newRouteIds.add(id);
+            }
+        }
+        for (VehicleRoute route : readRoutesFromTraci(newRouteIds)) {
+            routes.put(route.getId(), route);
+            // propagate new route
+            final VehicleRouteRegistration vehicleRouteRegistration = new VehicleRouteRegistration(super.nextTimeStep, route);
+            try {
+                rti.triggerInteraction(vehicleRouteRegistration);
+            } catch (IllegalValueException e) {
+                throw new InternalFederateException(e);
             }
         }
     }
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.AbstractTraciCommand;
 import org.eclipse.mosaic.fed.sumo.util.MosaicConformVehicleIdTransformer;
 import org.eclipse.mosaic.lib.util.objects.IdTransformer;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -105,4 +106,27 @@ public interface Bridge {
     void emergencyExit(Throwable e);
 
     void onCommandCompleted();
+
+    /**
+     * Runs the given commands as one batch. Commands without result, such as the setters of the {@link VehicleFacade},
+     * are not sent one by one, but are queued and sent to SUMO together once the batch has completed. Since the
+     * caller does not wait for the response of such a command, failures reported by SUMO are logged instead of
+     * being thrown. Commands which return a result are sent immediately, after all commands queued before.
+     * Per default, each command is sent immediately.
+     *
+     * @param commands the commands to run within the batch
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The connection to SUMO is shut down.
+     */
+    default void executeBatch(BatchedCommands commands) throws InternalFederateException {
+        commands.run();
+    }
+
+    /**
+     * Commands to run within a batch, see {@link #executeBatch(BatchedCommands)}.
+     */
+    @FunctionalInterface
+    interface BatchedCommands {
+
+        void run() throws InternalFederateException;
+    }
 }
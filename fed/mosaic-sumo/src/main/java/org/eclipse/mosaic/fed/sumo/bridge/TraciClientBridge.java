@@ -23,6 +23,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.TraciCommandBatch;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.lib.objects.traffic.SumoTraciResult;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -32,7 +33,6 @@ import org.apache.commons.io.output.TeeOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
@@ -53,8 +53,7 @@ public class TraciClientBridge implements Bridge {
     private final CommandRegister commandRegister;
 
     private final Socket sumoServerSocket;
-    private final DataInputStream in;
-    private final DataOutputStream out;
+    private final TraciTransport transport;
 
     private final SimulationFacade simulationControl;
     private final VehicleFacade vehicleControl;
@@ -64,6 +63,8 @@ public class TraciClientBridge implements Bridge {
 
     private final SimulationTraciRequest simulationTraciRequest;
 
+    private final TraciCommandBatch commandBatch = new TraciCommandBatch();
+
     private SumoVersion currentVersion;
     private ByteArrayOutputStream outCapture;
     private ByteArrayOutputStream inCapture;
@@ -92,11 +93,12 @@ public class TraciClientBridge implements Bridge {
         if (sumoConfiguration.debugTraciCalls) {
             inCapture = new ByteArrayOutputStream();
             outCapture = new ByteArrayOutputStream();
-            this.in = new DataInputStream(new TeeInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()), inCapture));
-            this.out = new DataOutputStream(new TeeOutputStream(sumoServerSocket.getOutputStream(), outCapture));
+            this.transport = new TraciTransport(
+                    new TeeInputStream(sumoServerSocket.getInputStream(), inCapture),
+                    new TeeOutputStream(sumoServerSocket.getOutputStream(), outCapture)
+            );
         } else {
-            this.in = new DataInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()));
-            this.out = new DataOutputStream(sumoServerSocket.getOutputStream());
+            this.transport = new TraciTransport(sumoServerSocket.getInputStream(), sumoServerSocket.getOutputStream());
         }
         this.sumoServerSocket = sumoServerSocket;
         this.commandRegister = commandRegister;
@@ -210,18 +212,30 @@ public class TraciClientBridge implements Bridge {
 
     @Override
     public DataInputStream getIn() {
-        return in;
+        return transport.getIn();
     }
 
     @Override
     public DataOutputStream getOut() {
-        return out;
+        return transport.getOut();
     }
 
     public CommandRegister getCommandRegister() {
         return commandRegister;
     }
 
+    /**
+     * Returns the batch which queues the commands executed within {@link #executeBatch(BatchedCommands)}.
+     */
+    public TraciCommandBatch getCommandBatch() {
+        return commandBatch;
+    }
+
+    @Override
+    public void executeBatch(BatchedCommands commands) throws InternalFederateException {
+        commandBatch.execute(this, commands);
+    }
+
     @Override
     public void emergencyExit(Throwable e) {
         log.error("Close all TraCI streams due to an error", e);
@@ -248,8 +262,7 @@ public class TraciClientBridge implements Bridge {
     }
 
     private void closeStreamsAndSockets() {
-        closeWithWarning(getIn(), "Could not close input stream to TraCI properly.");
-        closeWithWarning(getOut(), "Could not close output stream from TraCI properly.");
+        closeWithWarning(transport, "Could not close streams to TraCI properly.");
         closeWithWarning(sumoServerSocket, "Could not close server socket properly.");
     }
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Wire layer of the TraCI connection. Outgoing messages are assembled in a reusable buffer and written
+ * to the socket with a single call as soon as they are flushed, or at the latest before the response is read.
+ * Incoming messages are read as a whole into a reusable buffer, using the length given in the header of each
+ * message, and are decoded from this buffer afterwards. Thereby, each message requires only a few calls
+ * to the socket, instead of one call per written or read value.
+ *
+ * <p>The streams returned by {@link #getIn()} and {@link #getOut()} must be used by one thread at a time.</p>
+ */
+class TraciTransport implements Closeable {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Size of the length field which precedes every TraCI message.
+     */
+    private static final int HEADER_LENGTH = 4;
+
+    private final InputStream socketIn;
+    private final OutputStream socketOut;
+
+    private final MessageOutputStream messageOut = new MessageOutputStream();
+    private final MessageInputStream messageIn = new MessageInputStream();
+
+    private final DataInputStream in = new DataInputStream(messageIn);
+    private final DataOutputStream out = new DataOutputStream(messageOut);
+
+    /**
+     * Creates a new {@link TraciTransport} on top of the given streams of a socket connected to SUMO.
+     *
+     * @param socketIn  the input stream of the socket
+     * @param socketOut the output stream of the socket
+     */
+    TraciTransport(InputStream socketIn, OutputStream socketOut) {
+        this.socketIn = socketIn;
+        this.socketOut = socketOut;
+    }
+
+    /**
+     * Returns the stream to decode the current incoming message from. If all bytes of the current message
+     * have been read, the next message is read from the socket, after pending outgoing messages have been written.
+     */
+    DataInputStream getIn() {
+        return in;
+    }
+
+    /**
+     * Returns the stream to assemble outgoing messages with. The assembled bytes are written to the socket
+     * when flushing this stream, or before the next incoming message is read.
+     */
+    DataOutputStream getOut() {
+        return out;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            socketIn.close();
+        } finally {
+            socketOut.close();
+        }
+    }
+
+    private static byte[] ensureCapacity(byte[] buffer, int capacity) {
+        if (capacity <= buffer.length) {
+            return buffer;
+        }
+        return Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+
+    private class MessageOutputStream extends OutputStream {
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int count = 0;
+
+        @Override
+        public void write(int b) {
+            buffer = ensureCapacity(buffer, count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer = ensureCapacity(buffer, count + len);
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (count > 0) {
+                // reset first, so that a failing socket does not leave a partial message behind
+                final int length = count;
+                count = 0;
+                socketOut.write(buffer, 0, length);
+                socketOut.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            socketOut.close();
+        }
+    }
+
+    private class MessageInputStream extends InputStream {
+
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private int position = 0;
+        private int limit = 0;
+
+        @Override
+        public int read() throws IOException {
+            if (position >= limit && !readNextMessage()) {
+                return -1;
+            }
+            return buffer[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= limit && !readNextMessage()) {
+                return -1;
+            }
+            final int n = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        /**
+         * Skips bytes of the current message only, without reading the next message.
+         */
+        @Override
+        public long skip(long n) {
+            final int skipped = (int) Math.max(0, Math.min(n, limit - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        /**
+         * Writes all pending outgoing bytes and reads the next complete message into the buffer.
+         *
+         * @return {@code false}, if the connection has been closed before a new message arrived
+         */
+        private boolean readNextMessage() throws IOException {
+            messageOut.flush();
+
+            position = 0;
+            limit = 0;
+            if (!readFully(0, HEADER_LENGTH, true)) {
+                return false;
+            }
+            final int length = ((buffer[0] & 0xff) << 24) | ((buffer[1] & 0xff) << 16) | ((buffer[2] & 0xff) << 8) | (buffer[3] & 0xff);
+            if (length < HEADER_LENGTH) {
+                throw new IOException("Invalid length of TraCI message: " + length);
+            }
+            buffer = ensureCapacity(buffer, length);
+            readFully(HEADER_LENGTH, length - HEADER_LENGTH, false);
+            limit = length;
+            return true;
+        }
+
+        private boolean readFully(int offset, int length, boolean endOfStreamAllowed) throws IOException {
+            int read = 0;
+            while (read < length) {
+                final int n = socketIn.read(buffer, offset + read, length - read);
+                if (n < 0) {
+                    if (read == 0 && endOfStreamAllowed) {
+                        return false;
+                    }
+                    throw new EOFException("Connection to TraCI server closed within a message.");
+                }
+                read += n;
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            socketIn.close();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,4 +36,21 @@ public interface RouteGetEdges {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The connection to SUMO is shut down.
      */
     List<String> execute(Bridge bridge, String routeId) throws CommandException, InternalFederateException;
+
+    /**
+     * This method executes the command for each of the given routes and returns the edge Id's of each route.
+     *
+     * @param bridge   Connection to SUMO.
+     * @param routeIds Ids of the routes.
+     * @return Lists of edges, in the order of the given routes.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The connection to SUMO is shut down.
+     */
+    default List<List<String>> execute(Bridge bridge, List<String> routeIds) throws CommandException, InternalFederateException {
+        final List<List<String>> routeEdges = new ArrayList<>(routeIds.size());
+        for (String routeId : routeIds) {
+            routeEdges.add(execute(bridge, routeId));
+        }
+        return routeEdges;
+    }
 }
@@ -19,6 +19,9 @@ import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This class represents the SUMO command which allows to get the Id of the vehicle type.
  */
@@ -33,4 +36,21 @@ public interface VehicleGetVehicleTypeId {
      * @throws InternalFederateException if some serious error occurs during writing or reading. The connection to SUMO is shut down.
      */
     String execute(Bridge bridge, String vehicle) throws CommandException, InternalFederateException;
+
+    /**
+     * This method executes the command for each of the given vehicles in order to get the Ids of their vehicle types.
+     *
+     * @param bridge   Connection to SUMO.
+     * @param vehicles Ids of the vehicles.
+     * @return Ids of the vehicle types, in the order of the given vehicles.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The connection to SUMO is shut down.
+     */
+    default List<String> execute(Bridge bridge, List<String> vehicles) throws CommandException, InternalFederateException {
+        final List<String> vehicleTypeIds = new ArrayList<>(vehicles.size());
+        for (String vehicle : vehicles) {
+            vehicleTypeIds.add(execute(bridge, vehicle));
+        }
+        return vehicleTypeIds;
+    }
 }
@@ -76,6 +76,21 @@ public class RouteFacade {
         }
     }
 
+    /**
+     * Returns the lists of edges assigned to the given route ids. All routes are requested at once.
+     *
+     * @param routeIds the ids of the routes, must be existing
+     * @return a list of edges for each route, in the order of the given route ids
+     * @throws InternalFederateException if the edges from the wanted routes could not be retrieved
+     */
+    public final List<List<String>> getRouteEdges(List<String> routeIds) throws InternalFederateException {
+        try {
+            return routeGetEdges.execute(bridge, routeIds);
+        } catch (CommandException e) {
+            throw new InternalFederateException(String.format("Could not retrieve route edges for routes '%s'", routeIds), e);
+        }
+    }
+
     /**
      * Returns the list of loaded route ids.
      *
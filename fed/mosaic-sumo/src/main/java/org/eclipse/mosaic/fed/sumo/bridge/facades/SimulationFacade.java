@@ -52,6 +52,7 @@ import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.enums.DriveDirection;
 import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.math.MathUtils;
 import org.eclipse.mosaic.lib.objects.pt.PtVehicleData;
 import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
 import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
@@ -79,9 +80,10 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
 
 public class SimulationFacade {
 
@@ -127,12 +129,28 @@ public class SimulationFacade {
      */
     private List<String> currentTeleportingList;
 
+    /**
+     * Number of vehicles which are converted into {@link VehicleData} within one task,
+     * if {@link CSumo#parallelVehicleProcessing} is enabled.
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 256;
+
     private static class SumoVehicleState {
         private final String id;
         private VehicleData currentVehicleData = null;
         private VehicleData lastVehicleData = null;
+        /**
+         * The state of the vehicle which has been published the last time, used to detect changes
+         * if {@link CSumo#deltaVehicleUpdates} is configured.
+         */
+        private VehicleData publishedVehicleData = null;
         private Double frontSensorDistance = null;
         private Double rearSensorDistance = null;
+        /**
+         * The speed of the vehicle as subscribed in the current simulation step, used for the radar sensors
+         * of following vehicles independently of the order in which vehicles are processed.
+         */
+        private double subscribedSpeed = -1;
 
         private SumoVehicleState(String id) {
             this.id = id;
@@ -439,8 +457,8 @@ public class SimulationFacade {
 
             final Map<String, String> vehicleSegmentInfo = calculateVehicleSegmentInfo(subscriptions);
 
-            final List<VehicleData> addedVehicles = new LinkedList<>();
-            final List<VehicleData> updatedVehicles = new LinkedList<>();
+            final List<VehicleSubscriptionResult> vehicleResults = new ArrayList<>(subscriptions.size());
+            final List<SumoVehicleState> vehicleStates = new ArrayList<>(subscriptions.size());
 
             final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>();
             final List<LaneAreaDetectorInfo> updatedLaneAreas = new ArrayList<>();
@@ -448,17 +466,12 @@ public class SimulationFacade {
 
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleSubscriptionResult result) {
-                    final SumoVehicleState sumoVehicle = processVehicleSubscriptionResult(
-                            time, result, vehicleSegmentInfo
-                    );
-                    if (sumoVehicle == null) {
-                        continue;
-                    }
-                    if (sumoVehicle.isAdded()) {
-                        addedVehicles.add(sumoVehicle.currentVehicleData);
-                    } else if (sumoVehicle.isUpdated()) {
-                        updatedVehicles.add(sumoVehicle.currentVehicleData);
-                    }
+                    // prepare state of all vehicles beforehand, so that the vehicles can be processed independently afterwards
+                    final SumoVehicleState sumoVehicle = getOrCreateVehicleState(result.id);
+                    sumoVehicle.subscribedSpeed = result.speed;
+                    fetchTeleportingListIfRequired(result, sumoVehicle);
+                    vehicleResults.add(result);
+                    vehicleStates.add(sumoVehicle);
                 } else if (subscriptionResult instanceof InductionLoopSubscriptionResult result) {
                     final InductionLoopInfo inductionLoopInfo = processInductionLoopSubscriptionResult(time, result);
                     updatedInductionLoops.add(inductionLoopInfo);
@@ -471,6 +484,24 @@ public class SimulationFacade {
                 }
             }
 
+            final SumoVehicleState[] processedVehicles = processVehicleSubscriptionResults(
+                    time, vehicleResults, vehicleStates, vehicleSegmentInfo
+            );
+
+            final List<VehicleData> addedVehicles = new ArrayList<>();
+            final List<SumoVehicleState> updatedVehicleStates = new ArrayList<>(processedVehicles.length);
+            for (SumoVehicleState sumoVehicle : processedVehicles) {
+                if (sumoVehicle == null) {
+                    continue;
+                }
+                if (sumoVehicle.isAdded()) {
+                    addedVehicles.add(sumoVehicle.currentVehicleData);
+                    sumoVehicle.publishedVehicleData = sumoVehicle.currentVehicleData;
+                } else if (sumoVehicle.isUpdated()) {
+                    updatedVehicleStates.add(sumoVehicle);
+                }
+            }
+
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleContextSubscriptionResult result) {
                     // needs to be done in a subsequent loop, as previously created VehicleData is updated here
@@ -478,6 +509,14 @@ public class SimulationFacade {
                 }
             }
 
+            final List<VehicleData> updatedVehicles = new ArrayList<>(updatedVehicleStates.size());
+            for (SumoVehicleState sumoVehicle : updatedVehicleStates) {
+                if (isPublishRequired(sumoVehicle)) {
+                    updatedVehicles.add(sumoVehicle.currentVehicleData);
+                    sumoVehicle.publishedVehicleData = sumoVehicle.currentVehicleData;
+                }
+            }
+
             final List<String> removedVehicles = findRemovedVehicles(time);
 
             final VehicleUpdates vehicleUpdates = new VehicleUpdates(time, addedVehicles, updatedVehicles, removedVehicles);
@@ -492,12 +531,53 @@ public class SimulationFacade {
         }
     }
 
+    /**
+     * Converts the subscription results of all vehicles into {@link VehicleData}. If {@link CSumo#parallelVehicleProcessing}
+     * is enabled, the vehicles are processed in chunks of {@link #PARALLEL_CHUNK_SIZE} vehicles on the common fork-join pool.
+     * This is possible, as each vehicle only accesses its own {@link SumoVehicleState}, which has been created beforehand.
+     *
+     * @return the processed vehicle states in the same order as the given results, with {@code null} for skipped vehicles
+     */
+    private SumoVehicleState[] processVehicleSubscriptionResults(final long time,
+                                                                 final List<VehicleSubscriptionResult> vehicleResults,
+                                                                 final List<SumoVehicleState> vehicleStates,
+                                                                 final Map<String, String> vehicleSegmentInfo) {
+        final SumoVehicleState[] processedVehicles = new SumoVehicleState[vehicleResults.size()];
+        if (!sumoConfiguration.parallelVehicleProcessing || processedVehicles.length <= PARALLEL_CHUNK_SIZE) {
+            for (int i = 0; i < processedVehicles.length; i++) {
+                processedVehicles[i] =
+                        processVehicleSubscriptionResult(time, vehicleResults.get(i), vehicleStates.get(i), vehicleSegmentInfo);
+            }
+            return processedVehicles;
+        }
+        final int chunks = (processedVehicles.length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final int end = Math.min(processedVehicles.length, (chunk + 1) * PARALLEL_CHUNK_SIZE);
+            for (int i = chunk * PARALLEL_CHUNK_SIZE; i < end; i++) {
+                processedVehicles[i] =
+                        processVehicleSubscriptionResult(time, vehicleResults.get(i), vehicleStates.get(i), vehicleSegmentInfo);
+            }
+        });
+        return processedVehicles;
+    }
+
+    /**
+     * Retrieves the list of teleporting vehicles once per simulation step, if the given vehicle
+     * has no valid position but has been simulated already.
+     */
+    private void fetchTeleportingListIfRequired(final VehicleSubscriptionResult veh, final SumoVehicleState sumoVehicle)
+            throws CommandException, InternalFederateException {
+        final boolean hasInvalidPosition = veh.position == null || !veh.position.isValid();
+        if (currentTeleportingList == null && hasInvalidPosition
+                && sumoVehicle.lastVehicleData != null && !sumoVehicle.lastVehicleData.getVehicleStopMode().isParking()) {
+            currentTeleportingList = getTeleportingList.execute(bridge);
+        }
+    }
+
     private SumoVehicleState processVehicleSubscriptionResult(final long time,
                                                               final VehicleSubscriptionResult veh,
-                                                              final Map<String, String> vehicleSegmentInfo
-    ) throws CommandException, InternalFederateException {
-
-        final SumoVehicleState sumoVehicle = getOrCreateVehicleState(veh.id);
+                                                              final SumoVehicleState sumoVehicle,
+                                                              final Map<String, String> vehicleSegmentInfo) {
         final VehicleStopMode vehicleStopMode = VehicleStopMode.fromSumoInt(veh.stoppedStateEncoded);
         final boolean isParking = vehicleStopMode.isParking();
         final boolean hasInvalidPosition = veh.position == null || !veh.position.isValid();
@@ -514,10 +594,8 @@ public class SimulationFacade {
                 log.debug("Skip vehicle {} which is loaded but not yet simulated.", veh.id);
                 return null;
             }
-            if (currentTeleportingList == null) {  // we call this only once per simulation step if at least one vehicle is teleporting
-                currentTeleportingList = getTeleportingList.execute(bridge);
-            }
-            boolean isTeleporting = currentTeleportingList.contains(veh.id);
+            // the list of teleporting vehicles has been fetched before, see fetchTeleportingListIfRequired
+            boolean isTeleporting = currentTeleportingList != null && currentTeleportingList.contains(veh.id);
             if (isTeleporting) {
                 /* If the vehicle is teleporting we don't stop the subscription. However, the state of the vehicle won't
                 be updated until the teleport is finished, as we cannot be sure of the behaviour during teleporting. */
@@ -583,8 +661,52 @@ public class SimulationFacade {
         return new PtVehicleData.Builder().withLineId(veh.line).nextStops(veh.nextStops).build();
     }
 
+    /**
+     * Decides, if the current state of an updated vehicle is published. Without a configuration for
+     * {@link CSumo#deltaVehicleUpdates}, all vehicles are published in each simulation step. Otherwise, the vehicle
+     * is only published if its state has changed beyond the configured thresholds, compared to the state which has been
+     * published the last time. Vehicles with surrounding vehicles in sight are always published, as this information
+     * changes with the movement of other vehicles. Accumulated values are not compared, but refreshed by publishing
+     * each vehicle at least once within {@link CSumo.CDeltaVehicleUpdates#refreshInterval}.
+     */
+    private boolean isPublishRequired(SumoVehicleState sumoVehicle) {
+        final CSumo.CDeltaVehicleUpdates deltaConfig = sumoConfiguration.deltaVehicleUpdates;
+        final VehicleData published = sumoVehicle.publishedVehicleData;
+        final VehicleData current = sumoVehicle.currentVehicleData;
+        if (deltaConfig == null || published == null) {
+            return true;
+        }
+        if (deltaConfig.refreshInterval != null && deltaConfig.refreshInterval > 0
+                && current.getTime() - published.getTime() >= deltaConfig.refreshInterval * TIME.MILLI_SECOND) {
+            return true;
+        }
+        return !current.getVehiclesInSight().isEmpty()
+                || current.getVehicleStopMode() != published.getVehicleStopMode()
+                || !Objects.equals(current.getRouteId(), published.getRouteId())
+                || !Objects.equals(current.getVehicleSignals(), published.getVehicleSignals())
+                || isRoadPositionChanged(current.getRoadPosition(), published.getRoadPosition())
+                || Math.abs(current.getSpeed() - published.getSpeed()) > deltaConfig.speedThreshold
+                || isHeadingChanged(current.getHeading(), published.getHeading(), deltaConfig.headingThreshold)
+                || current.getProjectedPosition().distanceTo(published.getProjectedPosition()) > deltaConfig.positionThreshold;
+    }
+
+    private static boolean isRoadPositionChanged(IRoadPosition current, IRoadPosition published) {
+        if (current == null || published == null) {
+            return current != published;
+        }
+        return current.getLaneIndex() != published.getLaneIndex()
+                || !Objects.equals(current.getConnectionId(), published.getConnectionId());
+    }
+
+    private static boolean isHeadingChanged(Double current, Double published, double threshold) {
+        if (current == null || published == null) {
+            return !Objects.equals(current, published);
+        }
+        return Math.abs(MathUtils.angleDifDeg(published, current)) > threshold;
+    }
+
     private List<String> findRemovedVehicles(long time) throws CommandException, InternalFederateException {
-        final List<String> removedVehicles = new LinkedList<>();
+        final List<String> removedVehicles = new ArrayList<>();
         for (Iterator<SumoVehicleState> vehicleIt = sumoVehicles.values().iterator(); vehicleIt.hasNext(); ) {
             SumoVehicleState vehicle = vehicleIt.next();
             if (vehicle.isNotUpdated()) {
@@ -704,8 +826,10 @@ public class SimulationFacade {
                 && leadingVehicle.getDistance() < vehicleState.frontSensorDistance
         ) {
             frontDistance = leadingVehicle.getDistance() + minGap;
-            VehicleData leadingVehicleData = getLastKnownVehicleData(leadingVehicle.getOtherVehicleId());
-            leaderSpeed = leadingVehicleData != null ? leadingVehicleData.getSpeed() : -1;
+            SumoVehicleState leadingVehicleState = sumoVehicles.get(leadingVehicle.getOtherVehicleId());
+            // use the speed received within the same step, which does not depend on the order vehicles are processed in
+            leaderSpeed = leadingVehicleState != null && leadingVehicleState.subscribedSpeed >= 0
+                    ? leadingVehicleState.subscribedSpeed : -1;
         }
         if (hasBackSensorActivated
                 && followerVehicle.getDistance() < vehicleState.rearSensorDistance
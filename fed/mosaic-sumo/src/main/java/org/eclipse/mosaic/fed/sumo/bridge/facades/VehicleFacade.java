@@ -64,6 +64,7 @@ import org.slf4j.LoggerFactory;
 
 import java.awt.Color;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class VehicleFacade {
@@ -193,6 +194,21 @@ public class VehicleFacade {
         }
     }
 
+    /**
+     * Getter for the Vehicle type Ids of several vehicles, which are requested at once.
+     *
+     * @param vehicleIds The Ids of the vehicles.
+     * @return The Ids of the vehicle types, in the order of the given vehicles.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    public List<String> getVehicleTypeIds(List<String> vehicleIds) throws InternalFederateException {
+        try {
+            return getVehicleTypeId.execute(bridge, vehicleIds);
+        } catch (IllegalArgumentException | CommandException e) {
+            throw new InternalFederateException("Could not request vehicle types for vehicles " + vehicleIds, e);
+        }
+    }
+
     /**
      * Getter for the complete Vehicle type.
      *
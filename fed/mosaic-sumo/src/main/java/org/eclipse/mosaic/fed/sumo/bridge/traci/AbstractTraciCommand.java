@@ -18,6 +18,7 @@ package org.eclipse.mosaic.fed.sumo.bridge.traci;
 import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciClientBridge;
 import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.SumoVar;
@@ -46,6 +47,9 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -73,6 +77,11 @@ public abstract class AbstractTraciCommand<T> {
      */
     private final List<AbstractTraciResultReader<?>> readers = new ArrayList<>();
 
+    /**
+     * Objects read by the readers for the current result, reused for each result.
+     */
+    private final List<Object> resultObjects = new ArrayList<>();
+
     /**
      * The API supportedVersion this command supports at least.
      */
@@ -110,6 +119,12 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected void execute(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
+            final TraciCommandBatch batch = getActiveBatch(bridge);
+            if (batch != null) {
+                // the response is read as soon as the batch is flushed
+                batch.add(bridge, this, arguments);
+                return;
+            }
             sendMessageToTraci(bridge, arguments);
             readResults(bridge, false);
         }
@@ -127,6 +142,7 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected List<T> executeAndReturnList(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
+            flushActiveBatch(bridge);
             sendMessageToTraci(bridge, arguments);
             return readResults(bridge, true);
         } else {
@@ -145,6 +161,7 @@ public abstract class AbstractTraciCommand<T> {
      */
     protected Optional<T> executeAndReturn(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
+            flushActiveBatch(bridge);
             sendMessageToTraci(bridge, arguments);
             return Optional.ofNullable(Iterables.getFirst(readResults(bridge, false), null));
         } else {
@@ -152,6 +169,82 @@ public abstract class AbstractTraciCommand<T> {
         }
     }
 
+    /**
+     * Call this method to execute the command once for each of the given argument arrays. All commands are sent
+     * to SUMO within one message and the response, which contains the status and result of each command, is read at once.
+     * For each command, all configured readers are called and the resulting objects are passed to
+     * {@link #constructResult(Status, Object...)}. The returned list contains the results in the order of the
+     * given argument arrays.
+     *
+     * @throws CommandException          if the status code of the response to any of the commands is ERROR.
+     *                                   The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    protected List<T> executeBatchAndReturn(Bridge bridge, List<Object[]> argumentsList)
+            throws CommandException, InternalFederateException {
+        if (!checkVersion(bridge) || argumentsList.isEmpty()) {
+            return Lists.newArrayList();
+        }
+        flushActiveBatch(bridge);
+        try {
+            int messageLength = 4;
+            for (Object[] arguments : argumentsList) {
+                messageLength += getCommandLength(arguments);
+            }
+            bridge.getOut().writeInt(messageLength);
+            for (Object[] arguments : argumentsList) {
+                writeCommand(bridge.getOut(), arguments);
+            }
+            bridge.getOut().flush();
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
+        }
+
+        final List<T> results = new ArrayList<>(argumentsList.size());
+        CommandException firstFailure = null;
+        try {
+            // length of the response message, which is read command by command
+            bridge.getIn().readInt();
+            for (int i = 0; i < argumentsList.size(); i++) {
+                try {
+                    results.add(readBatchedResponse(bridge.getIn(), true));
+                } catch (CommandException e) {
+                    // the responses of the remaining commands must be read anyway
+                    firstFailure = firstFailure == null ? e : firstFailure;
+                }
+            }
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            String className = this.getClass().getSimpleName();
+            throw new InternalFederateException("Error during reading response from TraCI command " + className + ".", t);
+        } finally {
+            bridge.onCommandCompleted();
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        return results;
+    }
+
+    @Nullable
+    private static TraciCommandBatch getActiveBatch(Bridge bridge) {
+        if (bridge instanceof TraciClientBridge traciBridge && traciBridge.getCommandBatch().isActive()) {
+            return traciBridge.getCommandBatch();
+        }
+        return null;
+    }
+
+    /**
+     * Sends all commands queued in an active batch, as their responses would precede the response of this command.
+     */
+    private static void flushActiveBatch(Bridge bridge) throws InternalFederateException {
+        final TraciCommandBatch batch = getActiveBatch(bridge);
+        if (batch != null) {
+            batch.flush(bridge);
+        }
+    }
+
     private boolean checkVersion(Bridge bridge) {
         if (!support.isSupported(bridge)) {
             log.warn("The command {} will be skipped since it is not available with the current supportedVersion of SUMO (is: {})",
@@ -171,49 +264,66 @@ public abstract class AbstractTraciCommand<T> {
      * This implies, that the length of the passed arguments array must match the length of the writers which
      * are supposed to write variable content.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void sendMessageToTraci(Bridge bridge, Object[] arguments) throws InternalFederateException {
         try {
+            bridge.getOut().writeInt(4 + getCommandLength(arguments));
+            writeCommand(bridge.getOut(), arguments);
+            // sends the assembled message at once
+            bridge.getOut().flush();
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
+        }
+    }
 
-            int messageLength = 0;
-            int i = 0;
-            for (AbstractTraciParameterWriter block : writers) {
-                if (block.isVariable()) {
-                    Validate.isTrue(i < arguments.length,
-                            "Too many arguments given. Please revise writer configuration in the constructor."
-                    );
-                    messageLength += block.getVariableLength(arguments[i++]);
-                } else {
-                    messageLength += block.getLength();
-                }
+    /**
+     * Returns the number of bytes this command requires with the given arguments, including its length field.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int getCommandLength(Object[] arguments) {
+        int contentLength = 0;
+        int i = 0;
+        for (AbstractTraciParameterWriter block : writers) {
+            if (block.isVariable()) {
+                Validate.isTrue(i < arguments.length,
+                        "Too many arguments given. Please revise writer configuration in the constructor."
+                );
+                contentLength += block.getVariableLength(arguments[i++]);
+            } else {
+                contentLength += block.getLength();
             }
+        }
 
-            Validate.isTrue(i == arguments.length,
-                    "Too few arguments given. Please revise writer configuration in the constructor."
-            );
+        Validate.isTrue(i == arguments.length,
+                "Too few arguments given. Please revise writer configuration in the constructor."
+        );
 
-            if (messageLength < 255) {
-                bridge.getOut().writeInt(4 + 1 + messageLength);
-                bridge.getOut().writeByte(1 + messageLength);
-            } else {
-                // 255 is the maximum possible command length. Other cases require to set the
-                // command length to zero and use an integer field instead.
-                bridge.getOut().writeInt(4 + 1 + 4 + messageLength);
-                bridge.getOut().writeByte(0);
-                bridge.getOut().writeInt(1 + 4 + messageLength);
-            }
+        // 255 is the maximum possible command length. Other cases require to set the
+        // command length to zero and use an integer field instead.
+        return contentLength < 255 ? 1 + contentLength : 1 + 4 + contentLength;
+    }
 
-            i = 0;
-            for (AbstractTraciParameterWriter block : writers) {
-                if (block.isVariable()) {
-                    block.writeVariableArgument(bridge.getOut(), arguments[i++]);
-                } else {
-                    block.write(bridge.getOut());
-                }
+    /**
+     * Writes the command with its length field and all of its parameters to the given stream,
+     * without the header of the enclosing message.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void writeCommand(DataOutputStream out, Object[] arguments) throws IOException {
+        final int commandLength = getCommandLength(arguments);
+        if (commandLength <= 255) {
+            out.writeByte(commandLength);
+        } else {
+            out.writeByte(0);
+            out.writeInt(commandLength);
+        }
+
+        int i = 0;
+        for (AbstractTraciParameterWriter block : writers) {
+            if (block.isVariable()) {
+                block.writeVariableArgument(out, arguments[i++]);
+            } else {
+                block.write(out);
             }
-        } catch (Exception t) {
-            bridge.emergencyExit(t);
-            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
         }
     }
 
@@ -261,24 +371,9 @@ public abstract class AbstractTraciCommand<T> {
 
                     messageBytesLeft -= commandLength;
 
-                    int actualBytesRead = COMMAND_LENGTH_READER.getNumberOfBytesRead();
-
-                    ArrayList<Object> resultObjects = new ArrayList<>();
-                    for (AbstractTraciResultReader<?> reader : readers) {
-                        Object o = reader.read(bridge.getIn(), commandLength - actualBytesRead);
-                        actualBytesRead += reader.getNumberOfBytesRead();
-                        if (o != null) {
-                            resultObjects.add(o);
-                        }
-                    }
-                    if (resultObjects.size() > 0) {
-                        results.add(constructResult(status, resultObjects.toArray(new Object[0])));
-                    }
-
-                    if (actualBytesRead < commandLength) {
-                        //discard any unused bytes
-                        //noinspection ResultOfMethodCallIgnored, reasoning: just flush buffer
-                        bridge.getIn().read(new byte[commandLength - actualBytesRead]);
+                    T result = readResult(bridge.getIn(), status, commandLength);
+                    if (result != null) {
+                        results.add(result);
                     }
                 }
 
@@ -297,6 +392,74 @@ public abstract class AbstractTraciCommand<T> {
         }
     }
 
+    /**
+     * Reads the content of a result command, of which the length field has just been read by the
+     * {@link #COMMAND_LENGTH_READER}, by calling all configured readers. Bytes which are not consumed by the readers
+     * are skipped.
+     *
+     * @return the result constructed from the read objects, or {@code null} if no objects have been read
+     */
+    @SuppressWarnings(value = "RR_NOT_CHECKED", justification = "It's fine to ignore some of the bytes when reading the stream.")
+    @Nullable
+    private T readResult(DataInputStream in, Status status, int commandLength) throws IOException {
+        int actualBytesRead = COMMAND_LENGTH_READER.getNumberOfBytesRead();
+
+        resultObjects.clear();
+        for (AbstractTraciResultReader<?> reader : readers) {
+            Object o = reader.read(in, commandLength - actualBytesRead);
+            actualBytesRead += reader.getNumberOfBytesRead();
+            if (o != null) {
+                resultObjects.add(o);
+            }
+        }
+
+        if (actualBytesRead < commandLength) {
+            //discard any unused bytes
+            in.skipBytes(commandLength - actualBytesRead);
+        }
+        return resultObjects.isEmpty() ? null : constructResult(status, resultObjects.toArray());
+    }
+
+    /**
+     * Reads the response of this command from a message which contains the responses of several commands, that is
+     * the status of the command and, if the command has readers, the succeeding result command.
+     *
+     * @param returnResult {@code true}, if the result should be constructed, otherwise the result command is skipped
+     * @return the result of the command, or {@code null} if no result has been constructed
+     * @throws CommandException if the status code of the response is ERROR. The remaining responses can still be read.
+     */
+    @SuppressWarnings(value = "RR_NOT_CHECKED", justification = "It's fine to ignore some of the bytes when reading the stream.")
+    @Nullable
+    T readBatchedResponse(DataInputStream in, boolean returnResult) throws IOException, CommandException {
+        final int statusLength = COMMAND_LENGTH_READER.read(in, Integer.MAX_VALUE);
+        int statusBytesRead = COMMAND_LENGTH_READER.getNumberOfBytesRead();
+
+        // requested command variable
+        in.readUnsignedByte();
+        statusBytesRead += 1;
+
+        final Status status = STATUS_READER.read(in, statusLength - statusBytesRead);
+        statusBytesRead += STATUS_READER.getNumberOfBytesRead();
+        if (statusBytesRead < statusLength) {
+            in.skipBytes(statusLength - statusBytesRead);
+        }
+
+        if (status.getResultType() != Status.STATUS_OK) {
+            throw new CommandException(String.format("TraCI Command failed: %s", status.getDescription()), status);
+        }
+        if (readers.isEmpty()) {
+            // commands without readers, such as all set commands, are answered with a status only
+            return null;
+        }
+
+        final int resultLength = COMMAND_LENGTH_READER.read(in, Integer.MAX_VALUE);
+        if (!returnResult) {
+            in.skipBytes(resultLength - COMMAND_LENGTH_READER.getNumberOfBytesRead());
+            return null;
+        }
+        return readResult(in, status, resultLength);
+    }
+
     /**
      * This method is called during reading the command response when all readers have been executed.
      * The results of the readers are passed to this method.
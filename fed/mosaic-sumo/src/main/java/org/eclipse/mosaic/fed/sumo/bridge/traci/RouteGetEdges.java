@@ -25,6 +25,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.ListTraciReader;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.StringTraciReader;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -76,6 +77,29 @@ public class RouteGetEdges
         );
     }
 
+    /**
+     * This method executes the command for each of the given routes and returns the edge Id's of each route.
+     * All requests are sent within one message to SUMO.
+     *
+     * @param bridge   Connection to SUMO.
+     * @param routeIds Ids of the routes.
+     * @return Lists of edges, in the order of the given routes.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    @Override
+    public List<List<String>> execute(Bridge bridge, List<String> routeIds) throws CommandException, InternalFederateException {
+        final List<Object[]> arguments = new ArrayList<>(routeIds.size());
+        for (String routeId : routeIds) {
+            arguments.add(new Object[]{routeId});
+        }
+        final List<List<String>> routeEdges = executeBatchAndReturn(bridge, arguments);
+        if (routeEdges.size() != routeIds.size() || routeEdges.contains(null)) {
+            throw new CommandException(String.format(Locale.ENGLISH, "Couldn't extract Edges of Routes %s.", routeIds));
+        }
+        return routeEdges;
+    }
+
     @Override
     protected List<String> constructResult(Status status, Object... objects) {
         return (List<String>) objects[0];
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Queues TraCI commands which are executed without returning a result, and sends them to SUMO
+ * within one message as soon as the batch is flushed. SUMO answers such a message with one
+ * response message, which contains the status, and possibly the result, of each command in the
+ * same order. Thereby, a whole batch of commands requires only one round trip to SUMO.
+ *
+ * <p>A batch is active while {@link #execute(Bridge, Bridge.BatchedCommands)} runs. Since
+ * the caller of a queued command does not wait for its response, failures reported by SUMO are collected
+ * when the batch is flushed, and are thrown as one {@link InternalFederateException} after all responses
+ * have been read. Thus, the connection to SUMO is still available afterwards. Commands which return a result
+ * flush the batch before they are sent.</p>
+ */
+public class TraciCommandBatch {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final ByteArrayOutputStream commands = new ByteArrayOutputStream();
+    private final DataOutputStream commandsOut = new DataOutputStream(commands);
+    private final List<AbstractTraciCommand<?>> queued = new ArrayList<>();
+
+    private int depth = 0;
+
+    /**
+     * Runs the given commands with an active batch and flushes the batch afterwards. If this method
+     * is called within an active batch, the queued commands are flushed by the outermost call.
+     *
+     * @param bridge   the bridge to send the queued commands with
+     * @param commands the commands to run
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    public void execute(Bridge bridge, Bridge.BatchedCommands commands) throws InternalFederateException {
+        depth++;
+        try {
+            commands.run();
+        } catch (InternalFederateException | RuntimeException e) {
+            // commands queued before the failure are still sent, to keep them in order with succeeding commands
+            if (--depth == 0) {
+                try {
+                    flush(bridge);
+                } catch (InternalFederateException flushFailure) {
+                    e.addSuppressed(flushFailure);
+                }
+            }
+            throw e;
+        }
+        if (--depth == 0) {
+            flush(bridge);
+        }
+    }
+
+    boolean isActive() {
+        return depth > 0;
+    }
+
+    /**
+     * Appends the given command to the batch.
+     */
+    void add(Bridge bridge, AbstractTraciCommand<?> command, Object[] arguments) throws InternalFederateException {
+        try {
+            command.writeCommand(commandsOut, arguments);
+            queued.add(command);
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during executing TraCI command " + command.getClass().getSimpleName(), t);
+        }
+    }
+
+    /**
+     * Sends all queued commands within one message and reads their responses.
+     *
+     * @throws InternalFederateException if SUMO reported an error for any of the commands, or if some serious error occurs during
+     *                                   writing or reading. In the latter case, the TraCI connection is shut down.
+     */
+    void flush(Bridge bridge) throws InternalFederateException {
+        if (queued.isEmpty()) {
+            return;
+        }
+        final int batchSize = queued.size();
+        final List<CommandException> failures = new ArrayList<>();
+        try {
+            bridge.getOut().writeInt(4 + commands.size());
+            commands.writeTo(bridge.getOut());
+            bridge.getOut().flush();
+
+            // length of the response message, which is read command by command
+            bridge.getIn().readInt();
+            for (AbstractTraciCommand<?> command : queued) {
+                try {
+                    command.readBatchedResponse(bridge.getIn(), false);
+                } catch (CommandException e) {
+                    log.debug("Batched TraCI command {} failed: {}", command.getClass().getSimpleName(), e.getStatus().getDescription());
+                    failures.add(e);
+                }
+            }
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during executing a batch of " + batchSize + " TraCI commands", t);
+        } finally {
+            commands.reset();
+            queued.clear();
+            bridge.onCommandCompleted();
+        }
+        if (!failures.isEmpty()) {
+            throw new InternalFederateException(String.format("%d of %d batched TraCI commands failed, first failure: %s",
+                    failures.size(), batchSize, failures.get(0).getMessage()), failures.get(0));
+        }
+    }
+}
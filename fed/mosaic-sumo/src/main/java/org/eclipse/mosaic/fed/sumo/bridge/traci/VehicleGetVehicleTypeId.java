@@ -22,6 +22,8 @@ import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -68,6 +70,29 @@ public class VehicleGetVehicleTypeId
         );
     }
 
+    /**
+     * This method executes the command for each of the given vehicles in order to get the Ids of their vehicle types.
+     * All requests are sent within one message to SUMO.
+     *
+     * @param bridge   Connection to SUMO.
+     * @param vehicles Ids of the vehicles.
+     * @return Ids of the vehicle types, in the order of the given vehicles.
+     * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    @Override
+    public List<String> execute(Bridge bridge, List<String> vehicles) throws CommandException, InternalFederateException {
+        final List<Object[]> arguments = new ArrayList<>(vehicles.size());
+        for (String vehicle : vehicles) {
+            arguments.add(new Object[]{vehicle});
+        }
+        final List<String> vehicleTypeIds = executeBatchAndReturn(bridge, arguments);
+        if (vehicleTypeIds.size() != vehicles.size() || vehicleTypeIds.contains(null)) {
+            throw new CommandException(String.format(Locale.ENGLISH, "Could not read TypeIds for Vehicles: %s.", vehicles));
+        }
+        return vehicleTypeIds;
+    }
+
     @Override
     protected String constructResult(Status status, Object... objects) {
         return (String) objects[0];
@@ -122,6 +122,15 @@ public abstract class AbstractTraciResultReader<T> {
         return new String(bytes, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Reads a string using the given {@link TraciStringCache}, which returns the same instance for recurring values.
+     */
+    protected String readString(DataInputStream in, TraciStringCache cache) throws IOException {
+        int len = readInt(in);
+        numBytesRead += len;
+        return cache.read(in, len);
+    }
+
     public interface Matcher<T> {
         boolean matches(T actual);
     }
@@ -20,12 +20,14 @@ import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandVariableSubscri
 
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 public class AllSubscriptionsTraciReader extends AbstractTraciResultReader<AbstractSubscriptionResult> {
 
-    private final Map<Integer, AbstractTraciResultReader<? extends AbstractSubscriptionResult>> childReader = new HashMap<>();
+    /**
+     * Readers for each type of subscription response, indexed by the response identifier.
+     */
+    @SuppressWarnings("unchecked")
+    private final AbstractTraciResultReader<? extends AbstractSubscriptionResult>[] childReader = new AbstractTraciResultReader[256];
 
     /**
      * Creates a new {@link AllSubscriptionsTraciReader} object.
@@ -33,18 +35,18 @@ public class AllSubscriptionsTraciReader extends AbstractTraciResultReader<Abstr
     public AllSubscriptionsTraciReader() {
         super(null);
 
-        childReader.put(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_VEHICLE_VALUES, new VehicleSubscriptionTraciReader());
-        childReader.put(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_INDUCTION_LOOP_VALUES, new InductionLoopSubscriptionTraciReader());
-        childReader.put(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_LANE_AREA_VALUES, new LaneAreaSubscriptionTraciReader());
-        childReader.put(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_TRAFFIC_LIGHT_VALUES, new TrafficLightSubscriptionReader());
-        childReader.put(CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_CONTEXT_VEHICLE_VALUES, new VehicleContextSubscriptionTraciReader());
+        childReader[CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_VEHICLE_VALUES] = new VehicleSubscriptionTraciReader();
+        childReader[CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_INDUCTION_LOOP_VALUES] = new InductionLoopSubscriptionTraciReader();
+        childReader[CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_LANE_AREA_VALUES] = new LaneAreaSubscriptionTraciReader();
+        childReader[CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_TRAFFIC_LIGHT_VALUES] = new TrafficLightSubscriptionReader();
+        childReader[CommandVariableSubscriptions.RESPONSE_SUBSCRIBE_CONTEXT_VEHICLE_VALUES] = new VehicleContextSubscriptionTraciReader();
     }
 
     @Override
     protected AbstractSubscriptionResult readFromStream(DataInputStream in) throws IOException {
         int type = readUnsignedByte(in);
 
-        AbstractTraciResultReader<? extends AbstractSubscriptionResult> subscriptionReader = childReader.get(type);
+        AbstractTraciResultReader<? extends AbstractSubscriptionResult> subscriptionReader = childReader[type];
         AbstractSubscriptionResult result = subscriptionReader.read(in, totalBytesLeft - numBytesRead);
         this.numBytesRead += subscriptionReader.getNumberOfBytesRead();
         return result;
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decodes strings read from TraCI and returns the same {@link String} instance for equal byte sequences.
+ * Identifiers of vehicles, edges, and routes are transmitted by SUMO in each simulation step, and
+ * would otherwise result in a new {@link String} object for each transmitted value. The encoded bytes are read
+ * into a reusable buffer and looked up in an open addressing hash table, thus no object is created for
+ * strings which have been read before.
+ *
+ * <p>The cache grows up to {@link #MAX_CAPACITY} entries and is cleared afterwards. Strings longer than
+ * {@link #MAX_CACHED_LENGTH} bytes are not cached. This class is not thread-safe.</p>
+ */
+final class TraciStringCache {
+
+    static final int MAX_CACHED_LENGTH = 256;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    static final int MAX_CAPACITY = 1 << 20;
+
+    private byte[] buffer = new byte[64];
+
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Reads a string of the given length in bytes from the stream.
+     *
+     * @param in     the stream to read from
+     * @param length the number of UTF-8 encoded bytes of the string
+     * @return the cached string, or a new string if it has not been read before
+     */
+    String read(DataInputStream in, int length) throws IOException {
+        if (length > MAX_CACHED_LENGTH) {
+            final byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (buffer.length < length) {
+            buffer = new byte[MAX_CACHED_LENGTH];
+        }
+        in.readFully(buffer, 0, length);
+
+        final int hash = hash(buffer, length);
+        int index = hash & (keys.length - 1);
+        while (keys[index] != null) {
+            if (Arrays.equals(keys[index], 0, keys[index].length, buffer, 0, length)) {
+                return values[index];
+            }
+            index = (index + 1) & (keys.length - 1);
+        }
+
+        final String value = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        if (size >= keys.length * 3 / 4) {
+            if (keys.length < MAX_CAPACITY) {
+                resize(keys.length * 2);
+            } else {
+                clear();
+            }
+            index = findFreeSlot(hash);
+        }
+        keys[index] = Arrays.copyOf(buffer, length);
+        values[index] = value;
+        size++;
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        final byte[][] oldKeys = keys;
+        final String[] oldValues = values;
+        keys = new byte[capacity][];
+        values = new String[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                final int index = findFreeSlot(hash(oldKeys[i], oldKeys[i].length));
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private int findFreeSlot(int hash) {
+        int index = hash & (keys.length - 1);
+        while (keys[index] != null) {
+            index = (index + 1) & (keys.length - 1);
+        }
+        return index;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        // spread higher bits, as the table index is taken from the lower bits only
+        return hash ^ (hash >>> 16);
+    }
+}
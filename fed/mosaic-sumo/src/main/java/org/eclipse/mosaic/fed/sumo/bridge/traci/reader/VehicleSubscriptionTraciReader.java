@@ -19,7 +19,8 @@ import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
-import org.eclipse.mosaic.lib.objects.pt.PtVehicleData;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.SumoVar;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
 import org.eclipse.mosaic.lib.util.objects.Position;
 
 import org.apache.commons.lang3.StringUtils;
@@ -28,110 +29,242 @@ import org.slf4j.LoggerFactory;
 
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.util.List;
 
-public class VehicleSubscriptionTraciReader extends AbstractSubscriptionTraciReader<VehicleSubscriptionResult> {
+/**
+ * Reads the results of vehicle subscriptions. Instead of reading each variable into a generic {@link Object}
+ * first, each known variable is decoded by a dedicated {@link VariableDecoder}, which is looked up in a table
+ * by the identifier of the variable. Numeric values are written directly into the {@link VehicleSubscriptionResult},
+ * and identifiers of vehicles, edges, and routes are taken from a {@link TraciStringCache}. Unknown variables
+ * are skipped without decoding their values.
+ */
+public class VehicleSubscriptionTraciReader extends AbstractTraciResultReader<VehicleSubscriptionResult> {
 
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    /**
+     * Decoders of all known subscription variables, indexed by the identifier of the variable.
+     */
+    private static final VariableDecoder[] DECODERS = new VariableDecoder[256];
+
+    static {
+        register(CommandRetrieveVehicleState.VAR_SPEED, (r, in, result) -> result.speed = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_POSITION, (r, in, result) -> result.position = r.readPositionValue(in));
+        register(CommandRetrieveVehicleState.VAR_POSITION_3D, (r, in, result) -> result.position = r.readPositionValue(in));
+        register(CommandRetrieveVehicleState.VAR_ANGLE, (r, in, result) -> result.heading = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_ACCELERATION, (r, in, result) -> result.acceleration = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_ROAD_ID, (r, in, result) -> result.edgeId = r.readStringValue(in));
+        register(CommandRetrieveVehicleState.VAR_LANE_INDEX, (r, in, result) -> result.laneIndex = r.readIntValue(in));
+        register(CommandRetrieveVehicleState.VAR_ROUTE_ID, (r, in, result) -> result.routeId = r.readStringValue(in));
+        register(CommandRetrieveVehicleState.VAR_SIGNAL_STATES, (r, in, result) -> result.signalsEncoded = r.readIntValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_CO2, (r, in, result) -> result.co2 = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_CO, (r, in, result) -> result.co = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_HC, (r, in, result) -> result.hc = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_PMX, (r, in, result) -> result.pmx = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_NOX, (r, in, result) -> result.nox = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_FUEL, (r, in, result) -> result.fuel = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_EMISSIONS_ELECTRICITY, (r, in, result) -> result.electricity = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_LANE_POSITION, (r, in, result) -> result.lanePosition = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_LATERAL_LANE_POSITION,
+                (r, in, result) -> result.lateralLanePosition = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_DISTANCE, (r, in, result) -> result.distanceDriven = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_SLOPE, (r, in, result) -> result.slope = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_STOP_STATE, (r, in, result) -> result.stoppedStateEncoded = r.readIntValue(in));
+        register(CommandRetrieveVehicleState.VAR_LEADER,
+                (r, in, result) -> result.leadingVehicle = r.readCompoundValue(in, r.leadingVehicleReader));
+        register(CommandRetrieveVehicleState.VAR_FOLLOWER,
+                (r, in, result) -> result.followerVehicle = r.readCompoundValue(in, r.leadingVehicleReader));
+        register(CommandRetrieveVehicleState.VAR_MIN_GAP, (r, in, result) -> result.minGap = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_NEXT_STOPS,
+                (r, in, result) -> result.nextStops = r.readCompoundValue(in, r.nextStopsReader));
+        register(CommandRetrieveVehicleState.VAR_STOPS, (r, in, result) -> result.nextStops = r.readCompoundValue(in, r.stopsReader));
+        register(CommandRetrieveVehicleState.VAR_LINE, (r, in, result) -> result.line = r.readStringValue(in));
+        register(CommandRetrieveVehicleState.VAR_LENGTH, (r, in, result) -> result.length = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_WIDTH, (r, in, result) -> result.width = r.readDoubleValue(in));
+        register(CommandRetrieveVehicleState.VAR_HEIGHT, (r, in, result) -> result.height = r.readDoubleValue(in));
+    }
+
+    private final TraciStringCache stringCache = new TraciStringCache();
+
+    private final Position2dTraciReader position2dReader = new Position2dTraciReader();
+    private final Position3dTraciReader position3dReader = new Position3dTraciReader();
+    private final LeadingVehicleReader leadingVehicleReader = new LeadingVehicleReader(stringCache);
+    private final StoppingPlaceReader nextStopsReader = new StoppingPlaceReader(true);
+    private final StoppingPlaceReader stopsReader = new StoppingPlaceReader();
+
     public VehicleSubscriptionTraciReader() {
-        LeadingVehicleReader leadingVehicleReader = new LeadingVehicleReader();
-        getTypeBasedTraciReader().registerCompoundReader(CommandRetrieveVehicleState.VAR_LEADER.var, leadingVehicleReader);
-        getTypeBasedTraciReader().registerCompoundReader(CommandRetrieveVehicleState.VAR_FOLLOWER.var, leadingVehicleReader);
-        getTypeBasedTraciReader().registerCompoundReader(CommandRetrieveVehicleState.VAR_NEXT_STOPS.var, new StoppingPlaceReader(true));
-        getTypeBasedTraciReader().registerCompoundReader(CommandRetrieveVehicleState.VAR_STOPS.var, new StoppingPlaceReader());
+        super(null);
+    }
+
+    private static void register(SumoVar variable, VariableDecoder decoder) {
+        DECODERS[variable.var] = decoder;
     }
 
     @Override
-    VehicleSubscriptionResult createSubscriptionResult(String id) {
-        VehicleSubscriptionResult result = new VehicleSubscriptionResult();
-        result.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(id);
+    protected VehicleSubscriptionResult readFromStream(DataInputStream in) throws IOException {
+        final VehicleSubscriptionResult result = createSubscriptionResult(readString(in, stringCache));
+        readVariables(in, result, readUnsignedByte(in));
         return result;
     }
 
     /**
-     * This method enables to handle the subscription variable of the vehicle.
+     * Reads the variables of a vehicle which is part of a context subscription. In contrast to the regular
+     * subscription result, the number of variables is given once for all vehicles of the context subscription.
      *
-     * @param result   The result of the vehicle.
-     * @param varId    The Id of the variable.
-     * @param varValue The value of the variable.
+     * @param in        the stream to read from
+     * @param varCount  the number of variables of the vehicle
+     * @param bytesLeft the total number of bytes left on the stream to read
+     * @return the read subscription result of the vehicle
      */
-    protected void handleSubscriptionVariable(VehicleSubscriptionResult result, int varId, Object varValue) {
-        if (varId == CommandRetrieveVehicleState.VAR_SPEED.var) {
-            result.speed = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_POSITION.var) {
-            result.position = (Position) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_POSITION_3D.var) {
-            result.position = (Position) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_ANGLE.var) {
-            result.heading = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_ACCELERATION.var) {
-            result.acceleration = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_ROAD_ID.var) {
-            result.edgeId = (String) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LANE_INDEX.var) {
-            result.laneIndex = (int) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_ROUTE_ID.var) {
-            result.routeId = (String) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var) {
-            result.signalsEncoded = (int) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_CO2.var) {
-            result.co2 = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_CO.var) {
-            result.co = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_HC.var) {
-            result.hc = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_PMX.var) {
-            result.pmx = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_NOX.var) {
-            result.nox = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_FUEL.var) {
-            result.fuel = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_EMISSIONS_ELECTRICITY.var) {
-            result.electricity = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LANE_POSITION.var) {
-            result.lanePosition = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LATERAL_LANE_POSITION.var) {
-            result.lateralLanePosition = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_DISTANCE.var) {
-            result.distanceDriven = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_SLOPE.var) {
-            result.slope = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_STOP_STATE.var) {
-            result.stoppedStateEncoded = (int) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LEADER.var) {
-            result.leadingVehicle = (LeadFollowVehicle) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_FOLLOWER.var) {
-            result.followerVehicle = (LeadFollowVehicle) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_MIN_GAP.var) {
-            result.minGap = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_NEXT_STOPS.var) {
-            result.nextStops = (List<PtVehicleData.StoppingPlace>) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_STOPS.var) {
-            result.nextStops = (List<PtVehicleData.StoppingPlace>) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LINE.var) {
-            result.line = (String) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_LENGTH.var) {
-            result.length = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_WIDTH.var) {
-            result.width = (double) varValue;
-        } else if (varId == CommandRetrieveVehicleState.VAR_HEIGHT.var) {
-            result.height = (double) varValue;
+    VehicleSubscriptionResult readContextVehicle(DataInputStream in, int varCount, int bytesLeft) throws IOException {
+        totalBytesLeft = bytesLeft;
+        numBytesRead = 0;
+        final VehicleSubscriptionResult result = createSubscriptionResult(readString(in, stringCache));
+        readVariables(in, result, varCount);
+        return result;
+    }
+
+    private VehicleSubscriptionResult createSubscriptionResult(String id) {
+        VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+        result.id = Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId(id);
+        return result;
+    }
+
+    private void readVariables(DataInputStream in, VehicleSubscriptionResult result, int varCount) throws IOException {
+        for (int i = 0; i < varCount; i++) {
+            final int varId = readUnsignedByte(in);
+            final int varStatus = readUnsignedByte(in);
+            final VariableDecoder decoder = DECODERS[varId];
+            if (varStatus != 0x00) {
+                log.warn("Could not read subscription variable {}: {}", String.format("%02X ", varId), readErrorValue(in));
+            } else if (decoder != null) {
+                decoder.decode(this, in, result);
+            } else {
+                log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+                skipValue(in, readUnsignedByte(in));
+            }
+        }
+    }
+
+    private double readDoubleValue(DataInputStream in) throws IOException {
+        final int type = readUnsignedByte(in);
+        if (type == TraciDatatypes.DOUBLE) {
+            return readDouble(in);
+        } else if (type == TraciDatatypes.FLOAT) {
+            return readFloat(in);
+        }
+        throw unexpectedType(type);
+    }
+
+    private int readIntValue(DataInputStream in) throws IOException {
+        final int type = readUnsignedByte(in);
+        if (type == TraciDatatypes.INTEGER) {
+            return readInt(in);
+        } else if (type == TraciDatatypes.UBYTE) {
+            return readUnsignedByte(in);
+        }
+        throw unexpectedType(type);
+    }
+
+    private String readStringValue(DataInputStream in) throws IOException {
+        final int type = readUnsignedByte(in);
+        if (type == TraciDatatypes.STRING) {
+            return readString(in, stringCache);
+        }
+        throw unexpectedType(type);
+    }
+
+    private Position readPositionValue(DataInputStream in) throws IOException {
+        final int type = readUnsignedByte(in);
+        final AbstractTraciResultReader<Position> positionReader;
+        if (type == TraciDatatypes.POSITION2D) {
+            positionReader = position2dReader;
+        } else if (type == TraciDatatypes.POSITION3D) {
+            positionReader = position3dReader;
         } else {
-            log.warn("Unknown subscription variable {}. Skipping.", String.format("%02X ", varId));
+            throw unexpectedType(type);
+        }
+        final Position position = positionReader.read(in, totalBytesLeft - numBytesRead);
+        numBytesRead += positionReader.getNumberOfBytesRead();
+        return position;
+    }
+
+    private <T> T readCompoundValue(DataInputStream in, AbstractTraciResultReader<T> compoundReader) throws IOException {
+        final int type = readUnsignedByte(in);
+        if (type != TraciDatatypes.COMPOUND) {
+            throw unexpectedType(type);
         }
+        readInt(in); // this field needs to be read but can be ignored
+        final T value = compoundReader.read(in, totalBytesLeft - numBytesRead);
+        numBytesRead += compoundReader.getNumberOfBytesRead();
+        return value;
+    }
+
+    /**
+     * Reads the value of a variable which could not be retrieved by SUMO, which usually is an error message.
+     */
+    private String readErrorValue(DataInputStream in) throws IOException {
+        final int type = readUnsignedByte(in);
+        if (type == TraciDatatypes.STRING) {
+            return readString(in);
+        }
+        skipValue(in, type);
+        return "";
+    }
+
+    private void skipValue(DataInputStream in, int type) throws IOException {
+        switch (type) {
+            case TraciDatatypes.UBYTE, TraciDatatypes.BYTE -> skipBytes(in, 1);
+            case TraciDatatypes.INTEGER, TraciDatatypes.FLOAT -> skipBytes(in, 4);
+            case TraciDatatypes.DOUBLE -> skipBytes(in, 8);
+            case TraciDatatypes.POSITION2D -> skipBytes(in, 16);
+            case TraciDatatypes.POSITION3D -> skipBytes(in, 24);
+            case TraciDatatypes.STRING -> skipBytes(in, readInt(in));
+            case TraciDatatypes.STRING_LIST -> {
+                final int count = readInt(in);
+                for (int i = 0; i < count; i++) {
+                    skipBytes(in, readInt(in));
+                }
+            }
+            case TraciDatatypes.COMPOUND -> {
+                final int count = readInt(in);
+                for (int i = 0; i < count; i++) {
+                    skipValue(in, readUnsignedByte(in));
+                }
+            }
+            default -> throw unexpectedType(type);
+        }
+    }
+
+    private void skipBytes(DataInputStream in, int length) throws IOException {
+        in.skipNBytes(length);
+        numBytesRead += length;
+    }
+
+    private static IOException unexpectedType(int type) {
+        return new IOException("Subscribed variable type " + type + " not expected.");
+    }
+
+    /**
+     * Decodes the value of a single subscription variable into the {@link VehicleSubscriptionResult}.
+     */
+    @FunctionalInterface
+    private interface VariableDecoder {
+        void decode(VehicleSubscriptionTraciReader reader, DataInputStream in, VehicleSubscriptionResult result) throws IOException;
     }
 
     static class LeadingVehicleReader extends AbstractTraciResultReader<LeadFollowVehicle> {
 
-        protected LeadingVehicleReader() {
+        private final TraciStringCache stringCache;
+
+        protected LeadingVehicleReader(TraciStringCache stringCache) {
             super(null);
+            this.stringCache = stringCache;
         }
 
         @Override
         protected LeadFollowVehicle readFromStream(DataInputStream in) throws IOException {
             readByte(in);
-            String leaderId = readString(in);
+            String leaderId = readString(in, stringCache);
 
             readByte(in);
             double leaderDistance = readDouble(in);
@@ -129,6 +129,30 @@ public class CSumo implements Serializable {
      */
     public final static String SUBSCRIPTION_TRAINS = "trains";
 
+    /**
+     * If configured, {@link org.eclipse.mosaic.interactions.traffic.VehicleUpdates} only list those vehicles in
+     * {@code updated}, whose state has changed beyond the given thresholds since they have been published the last time.
+     * Consumers keep the last published state of all other vehicles. If set to {@code null} (default),
+     * all vehicles are published in each simulation step.
+     */
+    public CDeltaVehicleUpdates deltaVehicleUpdates = null;
+
+    /**
+     * If set to {@code true}, the subscription results of all vehicles are converted into {@link
+     * org.eclipse.mosaic.lib.objects.vehicle.VehicleData} in parallel chunks on the common fork-join pool.
+     * The order of vehicles in the resulting updates stays the same as in sequential processing.
+     */
+    public boolean parallelVehicleProcessing = false;
+
+    /**
+     * If set to {@code true}, the next simulation step is sent to SUMO speculatively, while the results of the
+     * current step are still being processed by other federates. This is only done if no interaction has been received
+     * and no event is scheduled for the next step. Interactions arriving during a speculative step are applied
+     * one update interval later, and pipelining is suspended until a step passes without any interaction.
+     * Only supported when connecting to SUMO via TraCI.
+     */
+    public boolean pipelinedSimulationSteps = false;
+
     /**
      * The default lane width to be used when adding traffic signs per
      * lane (default: 3.2) (only relevant when using SUMO-GUI)
@@ -159,5 +183,43 @@ public class CSumo implements Serializable {
 
     public final static String HIGHLIGHT_CHANGE_LANE = "changeLane";
     public final static String HIGHLIGHT_CHANGE_ROUTE = "changeRoute";
+
+    /**
+     * Thresholds which define, when the state of a vehicle has changed enough to be published again.
+     * Changes of the road, lane, route, stop state or signals of a vehicle are always published.
+     *
+     * <p>Accumulated values, i.e. consumptions, emissions and the driven distance, are not compared, since they
+     * change in nearly every step and would publish all vehicles again. A moving vehicle is published anyway due to
+     * its position, but the values of a waiting vehicle, e.g. the emissions while idling at a traffic light,
+     * are only refreshed with the {@link #refreshInterval}. Thus, a larger interval reduces the number of
+     * published vehicles, while consumers see these values outdated by up to this interval.</p>
+     */
+    public static class CDeltaVehicleUpdates implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Minimum distance the vehicle must have moved since it has been published the last time. Unit: [m].
+         */
+        public double positionThreshold = 0.1;
+
+        /**
+         * Minimum change of the speed since the vehicle has been published the last time. Unit: [m/s].
+         */
+        public double speedThreshold = 0.1;
+
+        /**
+         * Minimum change of the heading since the vehicle has been published the last time. Unit: [deg].
+         */
+        public double headingThreshold = 1.0;
+
+        /**
+         * If greater than 0, each vehicle is published at least once within this interval, even if its state
+         * has not changed, to refresh its accumulated consumptions, emissions and driven distance. If set to 0,
+         * these values of a vehicle are only refreshed if its state changes otherwise. Unit: [ms].
+         */
+        @JsonAdapter(TimeFieldAdapter.LegacyMilliSeconds.class)
+        public Long refreshInterval = 10000L;
+    }
 }
 
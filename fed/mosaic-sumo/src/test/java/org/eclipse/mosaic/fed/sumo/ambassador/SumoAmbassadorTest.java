@@ -15,30 +15,42 @@
 
 package org.eclipse.mosaic.fed.sumo.ambassador;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyByte;
 import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
 import org.eclipse.mosaic.fed.sumo.bridge.TraciClientBridge;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.TraciSimulationStepResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
 import org.eclipse.mosaic.interactions.traffic.TrafficDetectorUpdates;
@@ -48,21 +60,32 @@ import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
 import org.eclipse.mosaic.interactions.vehicle.VehicleSpeedChange;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
 import org.eclipse.mosaic.lib.objects.trafficlight.TrafficLightGroup;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.junit.TestFileRule;
+import org.eclipse.mosaic.lib.util.objects.Position;
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.Monitor;
 import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.TimeManagement;
 import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
 import org.eclipse.mosaic.rti.api.parameters.FederateDescriptor;
 import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
 import org.eclipse.mosaic.rti.config.CLocalHost;
+import org.eclipse.mosaic.rti.time.SequentialTimeManagement;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Rule;
@@ -70,11 +93,14 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -93,14 +119,20 @@ public class SumoAmbassadorTest {
     @Rule
     public RuleChain chain = RuleChain.outerRule(temporaryFolder).around(testFileRule);
 
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52.5, 13.4));
+
     private TraciClientBridge traciClientBridgeMock;
     private RtiAmbassador rtiMock;
 
     private SumoAmbassador ambassador;
 
+    private TimeManagement timeManagement;
+
     @Before
     public void setup() throws IOException {
         rtiMock = mock(RtiAmbassador.class);
+        when(rtiMock.getMonitor()).thenReturn(mock(Monitor.class));
         FederateDescriptor handleMock = mock(FederateDescriptor.class);
         File workingDir = temporaryFolder.getRoot();
 
@@ -187,6 +219,187 @@ public class SumoAmbassadorTest {
         verify(rtiMock, never()).triggerInteraction(isA(VehicleRouteRegistration.class));
     }
 
+    @Test
+    public void simulationStep_pipelined_nextStepIsSentSpeculatively() throws Throwable {
+        ambassador.sumoConfig.pipelinedSimulationSteps = true;
+        sendVehiclePathsAndTypes_doInitTraci();
+        clearInvocations(rtiMock);
+        mockSimulationStepResult(0L);
+
+        // RUN
+        ambassador.advanceTime(0L);
+
+        // ASSERT
+        verify(traciClientBridgeMock.getSimulationControl(), timeout(5000)).simulateUntil(eq(TIME.SECOND));
+
+        // RUN
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT the result of the speculative step is published, without simulating the step again
+        verify(traciClientBridgeMock.getSimulationControl(), times(1)).simulateUntil(eq(TIME.SECOND));
+        verify(rtiMock, times(2)).triggerInteraction(isA(VehicleUpdates.class));
+        verify(rtiMock, times(1)).requestAdvanceTime(eq(2 * TIME.SECOND), eq(0L), anyByte());
+    }
+
+    @Test
+    public void simulationStep_pipelined_synchronousStepIfSubscriberMaySendInteractions() throws Throwable {
+        ambassador.sumoConfig.pipelinedSimulationSteps = true;
+        // the subscriber processes each VehicleUpdates without lookahead, thus, it may send interactions due until the next step
+        useTimeManagementWithSubscriber(0L);
+        sendVehiclePathsAndTypes_doInitTraci();
+        mockSimulationStepResult(0L);
+
+        // RUN
+        ambassador.advanceTime(0L);
+        ambassador.receiveInteraction(new VehicleSpeedChange(
+                TIME.SECOND / 2, "veh_0", VehicleSpeedChange.VehicleSpeedChangeType.RESET, 0, 0, 0
+        ));
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT the interaction is applied before the step to 1s, which is not simulated speculatively
+        InOrder inOrder = inOrder(traciClientBridgeMock.getSimulationControl(), traciClientBridgeMock.getVehicleControl());
+        inOrder.verify(traciClientBridgeMock.getVehicleControl()).setSpeed(eq("veh_0"), eq(-1.0));
+        inOrder.verify(traciClientBridgeMock.getSimulationControl()).simulateUntil(eq(TIME.SECOND));
+    }
+
+    @Test
+    public void simulationStep_pipelined_speculativeStepIfLookaheadOfSubscriberAllows() throws Throwable {
+        ambassador.sumoConfig.pipelinedSimulationSteps = true;
+        // the subscriber processes each VehicleUpdates with a lookahead beyond the next step
+        useTimeManagementWithSubscriber(2 * TIME.SECOND);
+        sendVehiclePathsAndTypes_doInitTraci();
+        mockSimulationStepResult(0L);
+
+        // RUN
+        ambassador.advanceTime(0L);
+
+        // ASSERT the step to 1s is simulated speculatively while the event of the subscriber at 0s is still pending
+        assertTrue(timeManagement.mayReceiveInteractionsBefore("sumo", 3 * TIME.SECOND, FederatePriority.DEFAULT));
+        verify(traciClientBridgeMock.getSimulationControl(), timeout(5000)).simulateUntil(eq(TIME.SECOND));
+    }
+
+    @Test
+    public void simulationStep_pipelined_synchronousStepIfInteractionIsQueued() throws Throwable {
+        ambassador.sumoConfig.pipelinedSimulationSteps = true;
+        sendVehiclePathsAndTypes_doInitTraci();
+        mockSimulationStepResult(0L);
+        ambassador.receiveInteraction(new VehicleSpeedChange(
+                TIME.SECOND / 2, "veh_0", VehicleSpeedChange.VehicleSpeedChangeType.RESET, 0, 0, 0
+        ));
+
+        // RUN
+        ambassador.advanceTime(0L);
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT the queued interaction is applied before the step to 1s
+        InOrder inOrder = inOrder(traciClientBridgeMock.getSimulationControl(), traciClientBridgeMock.getVehicleControl());
+        inOrder.verify(traciClientBridgeMock.getVehicleControl()).setSpeed(eq("veh_0"), eq(-1.0));
+        inOrder.verify(traciClientBridgeMock.getSimulationControl()).simulateUntil(eq(TIME.SECOND));
+    }
+
+    @Test
+    public void simulationStep_newRoutesAreReadOnce() throws Throwable {
+        sendVehiclePathsAndTypes_doInitTraci();
+        clearInvocations(rtiMock, traciClientBridgeMock.getRouteControl());
+        // SETUP
+        VehicleData veh0 = new VehicleData.Builder(0L, "veh_0").route("1").create();
+        VehicleData veh1 = new VehicleData.Builder(0L, "veh_1").route("1").create();
+        VehicleData veh2 = new VehicleData.Builder(0L, "veh_2").route("0").create();
+        mockSimulationStepResult(0L, veh0, veh1, veh2);
+
+        // RUN
+        ambassador.advanceTime(0L);
+
+        // ASSERT the new route shared by two vehicles is read and registered only once
+        verify(traciClientBridgeMock.getRouteControl(), times(1)).getRouteEdges(eq(Lists.newArrayList("1")));
+        ArgumentCaptor<VehicleRouteRegistration> captor = ArgumentCaptor.forClass(VehicleRouteRegistration.class);
+        verify(rtiMock, times(1)).triggerInteraction(captor.capture());
+        assertEquals("1", captor.getValue().getRoute().getId());
+        assertEquals(Lists.newArrayList("edge_1"), captor.getValue().getRoute().getConnectionIds());
+
+        // RUN
+        clearInvocations(rtiMock, traciClientBridgeMock.getRouteControl());
+        mockSimulationStepResult(TIME.SECOND, veh0, veh1, veh2);
+        ambassador.advanceTime(TIME.SECOND);
+
+        // ASSERT no route is read for vehicles with unchanged routes
+        verify(traciClientBridgeMock.getRouteControl(), never()).getRouteEdges(anyList());
+        verify(rtiMock, never()).triggerInteraction(isA(VehicleRouteRegistration.class));
+    }
+
+    @Test
+    public void simulationStep_deltaVehicleUpdates_belowThresholdsNotPublished() throws Throwable {
+        ambassador.sumoConfig.deltaVehicleUpdates = new CSumo.CDeltaVehicleUpdates();
+        sendVehiclePathsAndTypes_doInitTraci();
+        final SimulationSimulateStep simulateStep = useSimulationFacade();
+
+        // RUN
+        final VehicleUpdates first = simulateStep(simulateStep, 0L, vehicleResult("veh_0", 0d, 10d));
+        final VehicleUpdates second = simulateStep(simulateStep, TIME.SECOND, vehicleResult("veh_0", 0.05, 10.05));
+
+        // ASSERT
+        assertEquals(1, first.getAdded().size());
+        assertTrue(second.getUpdated().isEmpty());
+        assertTrue(second.getRemovedNames().isEmpty());
+    }
+
+    @Test
+    public void simulationStep_deltaVehicleUpdates_aboveThresholdsPublished() throws Throwable {
+        ambassador.sumoConfig.deltaVehicleUpdates = new CSumo.CDeltaVehicleUpdates();
+        sendVehiclePathsAndTypes_doInitTraci();
+        final SimulationSimulateStep simulateStep = useSimulationFacade();
+
+        // RUN
+        simulateStep(simulateStep, 0L, vehicleResult("veh_0", 0d, 10d));
+        final VehicleUpdates moved = simulateStep(simulateStep, TIME.SECOND, vehicleResult("veh_0", 1d, 10d));
+        final VehicleUpdates accelerated = simulateStep(simulateStep, 2 * TIME.SECOND, vehicleResult("veh_0", 1d, 11d));
+
+        // ASSERT
+        assertEquals(1d, Iterables.getOnlyElement(moved.getUpdated()).getProjectedPosition().getX(), 0.001d);
+        assertEquals(11d, Iterables.getOnlyElement(accelerated.getUpdated()).getSpeed(), 0.001d);
+    }
+
+    @Test
+    public void simulationStep_deltaVehicleUpdates_routeAndStopChangesPublished() throws Throwable {
+        ambassador.sumoConfig.deltaVehicleUpdates = new CSumo.CDeltaVehicleUpdates();
+        sendVehiclePathsAndTypes_doInitTraci();
+        final SimulationSimulateStep simulateStep = useSimulationFacade();
+        final VehicleSubscriptionResult vehicle = vehicleResult("veh_0", 0d, 0d);
+
+        // RUN
+        simulateStep(simulateStep, 0L, vehicle);
+        vehicle.routeId = "1";
+        final VehicleUpdates routeChanged = simulateStep(simulateStep, TIME.SECOND, vehicle);
+        vehicle.stoppedStateEncoded = 1;
+        final VehicleUpdates stopped = simulateStep(simulateStep, 2 * TIME.SECOND, vehicle);
+        final VehicleUpdates unchanged = simulateStep(simulateStep, 3 * TIME.SECOND, vehicle);
+
+        // ASSERT
+        assertEquals("1", Iterables.getOnlyElement(routeChanged.getUpdated()).getRouteId());
+        assertEquals(VehicleStopMode.STOP, Iterables.getOnlyElement(stopped.getUpdated()).getVehicleStopMode());
+        assertTrue(unchanged.getUpdated().isEmpty());
+    }
+
+    @Test
+    public void simulationStep_deltaVehicleUpdates_refreshIntervalPublishes() throws Throwable {
+        ambassador.sumoConfig.deltaVehicleUpdates = new CSumo.CDeltaVehicleUpdates();
+        ambassador.sumoConfig.deltaVehicleUpdates.refreshInterval = 2000L;
+        sendVehiclePathsAndTypes_doInitTraci();
+        final SimulationSimulateStep simulateStep = useSimulationFacade();
+        final VehicleSubscriptionResult vehicle = vehicleResult("veh_0", 0d, 0d);
+
+        // RUN
+        simulateStep(simulateStep, 0L, vehicle);
+        vehicle.co2 = 1000d;
+        final VehicleUpdates beforeRefresh = simulateStep(simulateStep, TIME.SECOND, vehicle);
+        final VehicleUpdates refreshed = simulateStep(simulateStep, 2 * TIME.SECOND, vehicle);
+
+        // ASSERT the accumulated emissions of the waiting vehicle are published with the refresh only
+        assertTrue(beforeRefresh.getUpdated().isEmpty());
+        final VehicleData refreshedVehicle = Iterables.getOnlyElement(refreshed.getUpdated());
+        assertTrue(refreshedVehicle.getVehicleEmissions().getAllEmissions().getCo2() > 0);
+    }
+
     @Test
     public void finish() throws Throwable {
         sendVehiclePathsAndTypes_doInitTraci();
@@ -343,6 +556,73 @@ public class SumoAmbassadorTest {
         assertTrue(trafficLights.getLanesControlledByGroups().get(tlg.getGroupId()).contains("edge_1"));
     }
 
+    /**
+     * Passes all time advance requests of the ambassador to a {@link SequentialTimeManagement}. Each published
+     * {@link VehicleUpdates} is received by another time constrained federate, which requests a time advance with
+     * the given lookahead, as {@link org.eclipse.mosaic.rti.api.AbstractFederateAmbassador#receiveInteraction} does.
+     */
+    private void useTimeManagementWithSubscriber(long subscriberLookahead) throws Throwable {
+        final ComponentProvider componentProviderMock = mock(ComponentProvider.class);
+        when(componentProviderMock.getMonitor()).thenReturn(mock(Monitor.class));
+        timeManagement = new SequentialTimeManagement(
+                componentProviderMock, new MosaicComponentParameters().setEndTime(1000 * TIME.SECOND)
+        );
+
+        doAnswer(invocation -> {
+            timeManagement.requestAdvanceTime("sumo", invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(rtiMock).requestAdvanceTime(anyLong(), anyLong(), anyByte());
+        when(rtiMock.mayReceiveInteractionsBefore(anyLong(), anyByte())).thenAnswer(invocation ->
+                timeManagement.mayReceiveInteractionsBefore("sumo", invocation.getArgument(0), invocation.getArgument(1))
+        );
+        doAnswer(invocation -> {
+            final VehicleUpdates vehicleUpdates = invocation.getArgument(0);
+            timeManagement.requestAdvanceTime("application", vehicleUpdates.getTime(), subscriberLookahead, FederatePriority.DEFAULT);
+            return null;
+        }).when(rtiMock).triggerInteraction(isA(VehicleUpdates.class));
+    }
+
+    /**
+     * Replaces the mocked {@link SimulationFacade} by a real one, which converts the subscription results returned
+     * by the mocked {@link SimulationSimulateStep} command.
+     */
+    private SimulationSimulateStep useSimulationFacade() {
+        final Map<Class<?>, Object> commands = new HashMap<>();
+        final CommandRegister commandRegisterMock = mock(CommandRegister.class);
+        when(commandRegisterMock.getOrCreate(any())).thenAnswer(invocation ->
+                commands.computeIfAbsent(invocation.getArgument(0), commandClass -> mock((Class<?>) commandClass))
+        );
+        final Bridge bridgeMock = mock(Bridge.class);
+        when(bridgeMock.getCommandRegister()).thenReturn(commandRegisterMock);
+        when(bridgeMock.getCurrentVersion()).thenReturn(SumoVersion.HIGHEST);
+        final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, ambassador.sumoConfig);
+        when(traciClientBridgeMock.getSimulationControl()).thenReturn(simulationFacade);
+        return commandRegisterMock.getOrCreate(SimulationSimulateStep.class);
+    }
+
+    private VehicleUpdates simulateStep(SimulationSimulateStep simulateStep, long time, VehicleSubscriptionResult... vehicles)
+            throws Throwable {
+        when(simulateStep.execute(any(), eq(time))).thenReturn(Lists.newArrayList(vehicles));
+        clearInvocations(rtiMock);
+
+        ambassador.advanceTime(time);
+
+        ArgumentCaptor<Interaction> captor = ArgumentCaptor.forClass(Interaction.class);
+        verify(rtiMock, atLeastOnce()).triggerInteraction(captor.capture());
+        return (VehicleUpdates) captor.getAllValues().stream().filter(i -> i instanceof VehicleUpdates).findFirst().orElseThrow();
+    }
+
+    private static VehicleSubscriptionResult vehicleResult(String vehicleId, double x, double speed) {
+        final VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+        result.id = vehicleId;
+        result.position = new Position(CartesianPoint.xy(x, 0));
+        result.speed = speed;
+        result.heading = 90d;
+        result.routeId = "0";
+        result.edgeId = "edge_0";
+        return result;
+    }
+
     private void mockSimulationStepResult(long time, VehicleData... vehicles) throws InternalFederateException {
         VehicleUpdates vehicleUpdates = new VehicleUpdates(time, Lists.newArrayList(vehicles), Lists.newArrayList(), Lists.newArrayList());
         TraciSimulationStepResult traciSimulationResult = new TraciSimulationStepResult(
@@ -356,6 +636,12 @@ public class SumoAmbassadorTest {
     private TraciClientBridge createTraciClientMock() throws InternalFederateException {
         this.traciClientBridgeMock = mock(TraciClientBridge.class);
 
+        // commands within a batch are executed immediately
+        doAnswer(invocation -> {
+            invocation.<Bridge.BatchedCommands>getArgument(0).run();
+            return null;
+        }).when(traciClientBridgeMock).executeBatch(any());
+
         RouteFacade traciRouteFacade = mock(RouteFacade.class);
         when(traciClientBridgeMock.getRouteControl()).thenReturn(traciRouteFacade);
 
@@ -366,6 +652,13 @@ public class SumoAmbassadorTest {
         when(traciClientBridgeMock.getSimulationControl()).thenReturn(traciSimulationFacade);
 
         when(traciClientBridgeMock.getRouteControl().getRouteIds()).thenReturn(Lists.newArrayList("0"));
+        when(traciClientBridgeMock.getRouteControl().getRouteEdges(anyList())).thenAnswer(invocation -> {
+            final List<List<String>> routeEdges = new ArrayList<>();
+            for (Object routeId : invocation.<List<?>>getArgument(0)) {
+                routeEdges.add(Lists.newArrayList("edge_" + routeId));
+            }
+            return routeEdges;
+        });
 
         return this.traciClientBridgeMock;
     }
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge;
+
+import org.eclipse.mosaic.fed.sumo.bridge.facades.PoiFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.RouteGetEdges;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveRouteValue;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link TraciTransport} with the previously used unbuffered {@link DataOutputStream} and
+ * {@link BufferedInputStream} on the socket. The commands are sent to a local stand-in TraCI server, which
+ * replays a recorded response of SUMO for each request it receives.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.mosaic.fed.sumo.bridge.TraciTransportBenchmark}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraciTransportBenchmark {
+
+    /**
+     * Number of edges of the route returned by the stand-in server.
+     */
+    private static final int ROUTE_LENGTH = 50;
+
+    @State(Scope.Thread)
+    public static class Connection {
+
+        @Param({"streams", "transport"})
+        public String implementation;
+
+        private ReplayServer server;
+        private Socket socket;
+        private StandInBridge bridge;
+
+        private final RouteGetEdges routeGetEdges = new RouteGetEdges();
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            server = new ReplayServer(recordRouteGetEdgesResponse());
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+            socket.setTcpNoDelay(true);
+            if ("streams".equals(implementation)) {
+                bridge = new StandInBridge(
+                        new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                        new DataOutputStream(socket.getOutputStream())
+                );
+            } else {
+                final TraciTransport transport = new TraciTransport(socket.getInputStream(), socket.getOutputStream());
+                bridge = new StandInBridge(transport.getIn(), transport.getOut());
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            socket.close();
+            server.close();
+        }
+    }
+
+    @Benchmark
+    public List<String> routeGetEdges(Connection connection) throws Exception {
+        return connection.routeGetEdges.execute(connection.bridge, "route_0");
+    }
+
+    /**
+     * Creates the response of SUMO to a {@link RouteGetEdges} command, as it has been recorded with
+     * {@code debugTraciCalls} enabled.
+     */
+    private static byte[] recordRouteGetEdgesResponse() throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final DataOutputStream resultOut = new DataOutputStream(result);
+        resultOut.writeByte(CommandRetrieveRouteValue.COMMAND + 0x10);
+        resultOut.writeByte(CommandRetrieveRouteValue.VAR_EDGES);
+        writeString(resultOut, "route_0");
+        resultOut.writeByte(TraciDatatypes.STRING_LIST);
+        resultOut.writeInt(ROUTE_LENGTH);
+        for (int i = 0; i < ROUTE_LENGTH; i++) {
+            writeString(resultOut, "edge_" + i);
+        }
+
+        final ByteArrayOutputStream message = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(message);
+        final int statusLength = 1 + 1 + 1 + 4;
+        final int resultLength = 1 + 4 + result.size();
+        out.writeInt(4 + statusLength + resultLength);
+        // status
+        out.writeByte(statusLength);
+        out.writeByte(CommandRetrieveRouteValue.COMMAND);
+        out.writeByte(0x00);
+        writeString(out, "");
+        // result with extended length field
+        out.writeByte(0);
+        out.writeInt(resultLength);
+        out.write(result.toByteArray());
+        return message.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Accepts one connection and answers each received TraCI message with the same recorded response.
+     */
+    private static class ReplayServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+
+        private ReplayServer(byte[] response) throws IOException {
+            serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            final Thread thread = new Thread(() -> replay(response), "TraciReplayServer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private void replay(byte[] response) {
+            try (Socket client = serverSocket.accept()) {
+                client.setTcpNoDelay(true);
+                final DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+                final OutputStream out = client.getOutputStream();
+                while (true) {
+                    in.skipNBytes(in.readInt() - 4);
+                    out.write(response);
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // connection closed by the benchmark
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+
+    /**
+     * Minimal {@link Bridge} which only provides the streams to the stand-in server.
+     */
+    private static class StandInBridge implements Bridge {
+
+        private final DataInputStream in;
+        private final DataOutputStream out;
+
+        private StandInBridge(DataInputStream in, DataOutputStream out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        @Override
+        public DataInputStream getIn() {
+            return in;
+        }
+
+        @Override
+        public DataOutputStream getOut() {
+            return out;
+        }
+
+        @Override
+        public SumoVersion getCurrentVersion() {
+            return SumoVersion.HIGHEST;
+        }
+
+        @Override
+        public CommandRegister getCommandRegister() {
+            return null;
+        }
+
+        @Override
+        public SimulationFacade getSimulationControl() {
+            return null;
+        }
+
+        @Override
+        public VehicleFacade getVehicleControl() {
+            return null;
+        }
+
+        @Override
+        public TrafficLightFacade getTrafficLightControl() {
+            return null;
+        }
+
+        @Override
+        public RouteFacade getRouteControl() {
+            return null;
+        }
+
+        @Override
+        public PoiFacade getPoiControl() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            // nop
+        }
+
+        @Override
+        public void emergencyExit(Throwable e) {
+            // nop
+        }
+
+        @Override
+        public void onCommandCompleted() {
+            // nop
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TraciTransportBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
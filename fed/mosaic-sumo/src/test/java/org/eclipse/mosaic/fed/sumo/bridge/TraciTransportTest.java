@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class TraciTransportTest {
+
+    @Test
+    public void outgoingMessageWrittenAtOnce() throws IOException {
+        final CountingOutputStream socketOut = new CountingOutputStream();
+        final TraciTransport transport = new TraciTransport(new ByteArrayInputStream(new byte[0]), socketOut);
+
+        transport.getOut().writeInt(10);
+        transport.getOut().writeByte(6);
+        transport.getOut().writeByte(0x7f);
+        transport.getOut().writeInt(42);
+        assertEquals(0, socketOut.writes);
+
+        transport.getOut().flush();
+
+        assertEquals(1, socketOut.writes);
+        assertArrayEquals(new byte[]{0, 0, 0, 10, 6, 0x7f, 0, 0, 0, 42}, socketOut.toByteArray());
+    }
+
+    @Test
+    public void pendingMessageWrittenBeforeReading() throws IOException {
+        final CountingOutputStream socketOut = new CountingOutputStream();
+        final TraciTransport transport = new TraciTransport(new ByteArrayInputStream(new byte[]{0, 0, 0, 5, 1}), socketOut);
+
+        transport.getOut().writeInt(4);
+
+        assertEquals(5, transport.getIn().readInt());
+        assertEquals(1, socketOut.writes);
+        assertEquals(1, transport.getIn().readByte());
+    }
+
+    @Test
+    public void skipWithinCurrentMessage() throws IOException {
+        final byte[] messages = {
+                0, 0, 0, 7, 1, 2, 3,
+                0, 0, 0, 5, 9
+        };
+        final TraciTransport transport = new TraciTransport(new ByteArrayInputStream(messages), new CountingOutputStream());
+
+        assertEquals(7, transport.getIn().readInt());
+        assertEquals(1, transport.getIn().readByte());
+        // only the remaining bytes of the first message can be skipped
+        assertEquals(2, transport.getIn().skipBytes(10));
+
+        assertEquals(5, transport.getIn().readInt());
+        assertEquals(9, transport.getIn().readByte());
+    }
+
+    @Test(expected = EOFException.class)
+    public void incompleteMessage() throws IOException {
+        final TraciTransport transport = new TraciTransport(new ByteArrayInputStream(new byte[]{0, 0, 0, 8, 1}), new CountingOutputStream());
+
+        transport.getIn().readInt();
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int writes = 0;
+
+        @Override
+        public void write(int b) {
+            writes++;
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            writes++;
+            bytes.write(b, off, len);
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
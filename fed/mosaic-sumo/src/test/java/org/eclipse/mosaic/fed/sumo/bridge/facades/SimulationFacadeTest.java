@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.facades;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.util.objects.Position;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SimulationFacadeTest {
+
+    @Rule
+    public GeoProjectionRule projectionRule = new GeoProjectionRule(GeoPoint.latLon(52.5, 13.4));
+
+    @Test
+    public void simulateUntil_parallelVehicleProcessingKeepsOrder() throws Exception {
+        final CSumo sequentialConfig = new CSumo();
+        sequentialConfig.parallelVehicleProcessing = false;
+        final CSumo parallelConfig = new CSumo();
+        parallelConfig.parallelVehicleProcessing = true;
+
+        // more vehicles than converted within one parallel task
+        final List<AbstractSubscriptionResult> firstStep = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            firstStep.add(vehicleResult("veh_" + i, i * 5d, 10d));
+        }
+        final List<AbstractSubscriptionResult> secondStep = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            if (i % 7 == 0) {
+                continue; // removed vehicles
+            }
+            final VehicleSubscriptionResult vehicle = vehicleResult("veh_" + i, i * 5d + i % 3, 10d + i % 2);
+            if (i % 13 == 0) {
+                vehicle.position = Position.INVALID; // vehicles without position, which are skipped if not simulated before
+            }
+            secondStep.add(vehicle);
+        }
+
+        // RUN
+        final List<VehicleUpdates> sequentialUpdates = simulateSteps(sequentialConfig, firstStep, secondStep);
+        final List<VehicleUpdates> parallelUpdates = simulateSteps(parallelConfig, firstStep, secondStep);
+
+        // ASSERT
+        for (int step = 0; step < 2; step++) {
+            assertEquals(sequentialUpdates.get(step).getAdded(), parallelUpdates.get(step).getAdded());
+            assertEquals(sequentialUpdates.get(step).getUpdated(), parallelUpdates.get(step).getUpdated());
+            assertEquals(sequentialUpdates.get(step).getRemovedNames(), parallelUpdates.get(step).getRemovedNames());
+        }
+        assertEquals(1000, sequentialUpdates.get(0).getAdded().size());
+        assertEquals(79, sequentialUpdates.get(1).getAdded().size());
+        assertEquals(791, sequentialUpdates.get(1).getUpdated().size());
+        assertEquals(209, sequentialUpdates.get(1).getRemovedNames().size());
+    }
+
+    @SafeVarargs
+    private static List<VehicleUpdates> simulateSteps(CSumo sumoConfiguration, List<AbstractSubscriptionResult>... steps)
+            throws Exception {
+        final Map<Class<?>, Object> commands = new HashMap<>();
+        final CommandRegister commandRegisterMock = mock(CommandRegister.class);
+        when(commandRegisterMock.getOrCreate(any())).thenAnswer(invocation ->
+                commands.computeIfAbsent(invocation.getArgument(0), commandClass -> mock((Class<?>) commandClass))
+        );
+        final Bridge bridgeMock = mock(Bridge.class);
+        when(bridgeMock.getCommandRegister()).thenReturn(commandRegisterMock);
+        when(bridgeMock.getCurrentVersion()).thenReturn(SumoVersion.HIGHEST);
+
+        final SimulationFacade simulationFacade = new SimulationFacade(bridgeMock, sumoConfiguration);
+        final SimulationSimulateStep simulateStep = commandRegisterMock.getOrCreate(SimulationSimulateStep.class);
+
+        final List<VehicleUpdates> vehicleUpdates = new ArrayList<>();
+        for (int step = 0; step < steps.length; step++) {
+            when(simulateStep.execute(any(), eq(step * TIME.SECOND))).thenReturn(steps[step]);
+            vehicleUpdates.add(simulationFacade.simulateUntil(step * TIME.SECOND).getVehicleUpdates());
+        }
+        return vehicleUpdates;
+    }
+
+    private static VehicleSubscriptionResult vehicleResult(String vehicleId, double x, double speed) {
+        final VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+        result.id = vehicleId;
+        result.position = new Position(CartesianPoint.xy(x, 0));
+        result.speed = speed;
+        result.heading = 90d;
+        result.routeId = "0";
+        result.edgeId = "edge_0";
+        return result;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.junit.SumoRunner;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import com.google.common.collect.Iterables;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(SumoRunner.class)
+public class TraciCommandBatchTest extends AbstractTraciCommandTest {
+
+    @Test
+    public void executeBatch() throws Exception {
+        final Bridge bridge = traci.getTraciConnection();
+
+        // RUN
+        bridge.executeBatch(() -> {
+            try {
+                new VehicleSubscribe(bridge).execute(bridge, "1", 0L, 100 * TIME.SECOND);
+                new VehicleSetChangeLane().execute(bridge, "1", 1, 4000);
+                new VehicleSetMaxSpeed().execute(bridge, "1", 5d);
+            } catch (CommandException e) {
+                throw new AssertionError(e);
+            }
+        });
+
+        // ASSERT
+        VehicleSubscriptionResult vehInfo =
+                (VehicleSubscriptionResult) Iterables.getOnlyElement(simulateStep.execute(bridge, 9 * TIME.SECOND));
+        assertEquals(1, vehInfo.laneIndex);
+        assertTrue(vehInfo.speed <= 5d + 0.1d);
+    }
+
+    @Test
+    public void executeBatch_errorStatus() throws Exception {
+        final Bridge bridge = traci.getTraciConnection();
+
+        // RUN
+        try {
+            bridge.executeBatch(() -> {
+                try {
+                    new VehicleSubscribe(bridge).execute(bridge, "1", 0L, 100 * TIME.SECOND);
+                    // fail, but do not affect the other commands of the batch
+                    new VehicleSetSpeed().execute(bridge, "unknown", 10d);
+                    new VehicleSetChangeLane().execute(bridge, "unknown", 1, 4000);
+                    new VehicleSetMaxSpeed().execute(bridge, "1", 5d);
+                } catch (CommandException e) {
+                    throw new AssertionError("Commands within a batch must not fail immediately", e);
+                }
+            });
+            fail("Failed commands of a batch must be reported when the batch is flushed");
+        } catch (InternalFederateException e) {
+            // ASSERT
+            assertTrue(e.getMessage().startsWith("2 of 4 batched TraCI commands failed"));
+            assertTrue(e.getCause() instanceof CommandException);
+        }
+
+        // ASSERT the connection is still usable and the succeeding commands have been applied
+        VehicleSubscriptionResult vehInfo =
+                (VehicleSubscriptionResult) Iterables.getOnlyElement(simulateStep.execute(bridge, 9 * TIME.SECOND));
+        assertTrue(vehInfo.speed <= 5d + 0.1d);
+    }
+
+    @Test
+    public void executeBatch_flushedBeforeCommandWithResult() throws Exception {
+        final Bridge bridge = traci.getTraciConnection();
+
+        // RUN
+        final String[] routeId = new String[1];
+        bridge.executeBatch(() -> {
+            try {
+                new VehicleSetRouteById().execute(bridge, "0", "0");
+                routeId[0] = new VehicleGetRouteId().execute(bridge, "0");
+                new VehicleSetSpeed().execute(bridge, "0", 5d);
+            } catch (CommandException e) {
+                throw new AssertionError(e);
+            }
+        });
+
+        // ASSERT
+        assertEquals("0", routeId[0]);
+        assertEquals("0", new VehicleGetRouteId().execute(bridge, "0"));
+    }
+
+    @Test
+    public void getVehicleTypeIds() throws Exception {
+        // RUN
+        List<String> vehicleTypeIds = new VehicleGetVehicleTypeId().execute(traci.getTraciConnection(), Arrays.asList("1", "0"));
+
+        // ASSERT
+        assertEquals(Arrays.asList("PKW", "PKW"), vehicleTypeIds);
+    }
+
+    @Test(expected = CommandException.class)
+    public void getVehicleTypeIds_noSuchVehicle() throws Exception {
+        try {
+            // RUN
+            new VehicleGetVehicleTypeId().execute(traci.getTraciConnection(), Arrays.asList("1", "x", "0"));
+        } finally {
+            // ASSERT: the connection is still usable
+            assertEquals("0", new VehicleGetRouteId().execute(traci.getTraciConnection(), "0"));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class VehicleSubscriptionTraciReaderTest {
+
+    @Rule
+    public final GeoProjectionRule transformRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.0, 52.0)), -385281.94, -5817994.50)
+    );
+
+    private final VehicleSubscriptionTraciReader reader = new VehicleSubscriptionTraciReader();
+
+    @Test
+    public void readVehicleSubscription() throws IOException {
+        final byte[] bytes = vehicleSubscription("flow.0", "edge_1");
+
+        // RUN
+        final VehicleSubscriptionResult result = reader.read(new DataInputStream(new ByteArrayInputStream(bytes)), bytes.length);
+
+        // ASSERT
+        assertEquals(bytes.length, reader.getNumberOfBytesRead());
+        assertEquals(Bridge.VEHICLE_ID_TRANSFORMER.fromExternalId("flow.0"), result.id);
+        assertEquals(13.5d, result.speed, 0.0001d);
+        assertEquals(100d, result.position.getProjectedPosition().getX(), 0.0001d);
+        assertEquals(200d, result.position.getProjectedPosition().getY(), 0.0001d);
+        assertEquals("edge_1", result.edgeId);
+        assertEquals(2, result.laneIndex);
+        assertEquals(8, result.stoppedStateEncoded);
+        assertEquals("flow.1", result.leadingVehicle.getOtherVehicleId());
+        assertEquals(25d, result.leadingVehicle.getDistance(), 0.0001d);
+        // unknown variable and variable with error status are skipped
+        assertEquals(0d, result.acceleration, 0.0001d);
+    }
+
+    @Test
+    public void recurringStringsAreCached() throws IOException {
+        final byte[] first = vehicleSubscription("flow.0", "edge_1");
+        final byte[] second = vehicleSubscription("flow.0", "edge_1");
+        final byte[] third = vehicleSubscription("flow.0", "edge_2");
+
+        // RUN
+        final VehicleSubscriptionResult firstResult = reader.read(new DataInputStream(new ByteArrayInputStream(first)), first.length);
+        final VehicleSubscriptionResult secondResult = reader.read(new DataInputStream(new ByteArrayInputStream(second)), second.length);
+        final VehicleSubscriptionResult thirdResult = reader.read(new DataInputStream(new ByteArrayInputStream(third)), third.length);
+
+        // ASSERT
+        assertSame(firstResult.edgeId, secondResult.edgeId);
+        assertSame(firstResult.leadingVehicle.getOtherVehicleId(), secondResult.leadingVehicle.getOtherVehicleId());
+        assertNotSame(firstResult.edgeId, thirdResult.edgeId);
+        assertEquals("edge_2", thirdResult.edgeId);
+    }
+
+    private static byte[] vehicleSubscription(String vehicleId, String edgeId) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, vehicleId);
+        out.writeByte(8); // number of variables
+
+        writeVariableHeader(out, CommandRetrieveVehicleState.VAR_SPEED.var, TraciDatatypes.DOUBLE);
+        out.writeDouble(13.5);
+
+        writeVariableHeader(out, CommandRetrieveVehicleState.VAR_POSITION.var, TraciDatatypes.POSITION2D);
+        out.writeDouble(100);
+        out.writeDouble(200);
+
+        writeVariableHeader(out, CommandRetrieveVehicleState.VAR_ROAD_ID.var, TraciDatatypes.STRING);
+        writeString(out, edgeId);
+
+        writeVariableHeader(out, CommandRetrieveVehicleState.VAR_LANE_INDEX.var, TraciDatatypes.INTEGER);
+        out.writeInt(2);
+
+        // unknown variable with compound value
+        writeVariableHeader(out, 0xfe, TraciDatatypes.COMPOUND);
+        out.writeInt(2);
+        out.writeByte(TraciDatatypes.STRING_LIST);
+        out.writeInt(2);
+        writeString(out, "a");
+        writeString(out, "b");
+        out.writeByte(TraciDatatypes.POSITION3D);
+        out.writeDouble(1);
+        out.writeDouble(2);
+        out.writeDouble(3);
+
+        // variable which could not be retrieved
+        out.writeByte(CommandRetrieveVehicleState.VAR_ACCELERATION.var);
+        out.writeByte(0xff);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "error");
+
+        writeVariableHeader(out, CommandRetrieveVehicleState.VAR_STOP_STATE.var, TraciDatatypes.INTEGER);
+        out.writeInt(8);
+
+        writeVariableHeader(out, CommandRetrieveVehicleState.VAR_LEADER.var, TraciDatatypes.COMPOUND);
+        out.writeInt(2);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "flow.1");
+        out.writeByte(TraciDatatypes.DOUBLE);
+        out.writeDouble(25);
+        return bytes.toByteArray();
+    }
+
+    private static void writeVariableHeader(DataOutputStream out, int varId, int type) throws IOException {
+        out.writeByte(varId);
+        out.writeByte(0x00);
+        out.writeByte(type);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
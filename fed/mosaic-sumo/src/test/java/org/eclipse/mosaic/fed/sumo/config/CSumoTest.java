@@ -55,6 +55,10 @@ public class CSumoTest {
         assertEquals(4.5d, sumoConfiguration.timeGapOffset, 0.1d);
         Collection<String> expectedSubscriptions = Arrays.asList("roadposition", "signals", "emissions");
         assertEquals(expectedSubscriptions, sumoConfiguration.subscriptions);
+        assertNotNull(sumoConfiguration.deltaVehicleUpdates);
+        assertEquals(0.5d, sumoConfiguration.deltaVehicleUpdates.positionThreshold, 0.01d);
+        assertEquals(0.1d, sumoConfiguration.deltaVehicleUpdates.speedThreshold, 0.01d);
+        assertEquals(Long.valueOf(5000L), sumoConfiguration.deltaVehicleUpdates.refreshInterval);
     }
 
     /**
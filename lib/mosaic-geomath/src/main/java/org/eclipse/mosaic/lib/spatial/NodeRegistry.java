@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.MutableCartesianPoint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Registry of simulated nodes, which assigns each node name a dense int handle once at registration.
+ * Positions, communication radii and region assignments of all nodes are held in primitive arrays indexed
+ * by handle, so that updates and lookups by handle neither hash strings nor allocate objects. Handles of removed
+ * nodes are reused for nodes registered later on.
+ *
+ * <p>All nodes with a position are indexed in a uniform grid of square cells, whose cells are hashed into a fixed
+ * number of buckets. Thus, the bounds of the simulation area need not be known in advance, and range queries only
+ * visit the cells overlapping the bounds of the queried area. The registry is not thread-safe, however, queries do
+ * not modify any state and may run concurrently as long as no node is changed.</p>
+ */
+public final class NodeRegistry {
+
+    /**
+     * Returned for names which are not registered.
+     */
+    public static final int NO_NODE = -1;
+
+    /**
+     * Region of nodes without region assignment.
+     */
+    public static final int NO_REGION = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int INITIAL_BUCKETS = 1024;
+
+    private final double cellSize;
+
+    private final Map<String, Integer> handles = new HashMap<>();
+
+    private String[] names = new String[INITIAL_CAPACITY];
+
+    private double[] x = new double[INITIAL_CAPACITY];
+
+    private double[] y = new double[INITIAL_CAPACITY];
+
+    private double[] z = new double[INITIAL_CAPACITY];
+
+    private double[] radius = new double[INITIAL_CAPACITY];
+
+    private int[] region = new int[INITIAL_CAPACITY];
+
+    /**
+     * Handles of removed nodes, which are reused before new handles are assigned.
+     */
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+
+    private int freeHandleCount;
+
+    /**
+     * All handles ever assigned are lower than this value.
+     */
+    private int handleLimit;
+
+    /**
+     * Whether a node has a position and is therefore stored in the grid.
+     */
+    private boolean[] located = new boolean[INITIAL_CAPACITY];
+
+    private int locatedCount;
+
+    private int[] cellCol = new int[INITIAL_CAPACITY];
+
+    private int[] cellRow = new int[INITIAL_CAPACITY];
+
+    /**
+     * First node of each bucket, or {@link #NO_NODE} for empty buckets. The nodes of
+     * a bucket are linked via {@link #next} and {@link #previous}.
+     */
+    private int[] buckets = newBuckets(INITIAL_BUCKETS);
+
+    private int[] next = new int[INITIAL_CAPACITY];
+
+    private int[] previous = new int[INITIAL_CAPACITY];
+
+    /**
+     * Creates a new registry.
+     *
+     * @param cellSize the width and height of each grid cell in meters, should be in the order of the queried areas
+     */
+    public NodeRegistry(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be greater than 0");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Registers a node by its name. Nodes which are already registered keep their handle.
+     *
+     * @param name the name of the node
+     * @return the handle of the node
+     */
+    public int register(String name) {
+        final Integer existing = handles.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        final int handle;
+        if (freeHandleCount > 0) {
+            handle = freeHandles[--freeHandleCount];
+        } else {
+            handle = handleLimit++;
+            ensureCapacity(handleLimit);
+        }
+        handles.put(name, handle);
+        names[handle] = name;
+        x[handle] = 0;
+        y[handle] = 0;
+        z[handle] = 0;
+        radius[handle] = 0;
+        region[handle] = NO_REGION;
+        located[handle] = false;
+        return handle;
+    }
+
+    /**
+     * Removes the node with the given name. Its handle may be assigned to another node afterwards.
+     *
+     * @param name the name of the node
+     * @return the handle the node had, or {@link #NO_NODE} if the node was not registered
+     */
+    public int remove(String name) {
+        final Integer handle = handles.remove(name);
+        if (handle == null) {
+            return NO_NODE;
+        }
+        removeFromGrid(handle);
+        names[handle] = null;
+        if (freeHandleCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+        }
+        freeHandles[freeHandleCount++] = handle;
+        return handle;
+    }
+
+    /**
+     * Removes all nodes and resets the assignment of handles.
+     */
+    public void clear() {
+        handles.clear();
+        Arrays.fill(names, null);
+        Arrays.fill(located, false);
+        Arrays.fill(buckets, NO_NODE);
+        freeHandleCount = 0;
+        handleLimit = 0;
+        locatedCount = 0;
+    }
+
+    /**
+     * Returns the handle of the node with the given name, or {@link #NO_NODE} if no such node is registered.
+     */
+    public int getHandle(String name) {
+        final Integer handle = handles.get(name);
+        return handle != null ? handle : NO_NODE;
+    }
+
+    /**
+     * Returns the name of the node with the given handle, or {@code null} if the handle is not assigned.
+     */
+    public String getName(int handle) {
+        return names[handle];
+    }
+
+    public boolean isRegistered(int handle) {
+        return handle >= 0 && handle < handleLimit && names[handle] != null;
+    }
+
+    /**
+     * Returns the names of all registered nodes as unmodifiable view.
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(handles.keySet());
+    }
+
+    /**
+     * Returns the number of registered nodes.
+     */
+    public int size() {
+        return handles.size();
+    }
+
+    /**
+     * Returns an upper bound (exclusive) of all handles currently assigned, which
+     * can be used to size arrays holding additional data of the nodes by their handle.
+     */
+    public int getHandleLimit() {
+        return handleLimit;
+    }
+
+    /**
+     * Sets the position of a node and moves it to the grid cell matching this position.
+     *
+     * @param handle the handle of the node
+     * @param x      the x coordinate in meters
+     * @param y      the y coordinate in meters
+     * @param z      the z coordinate in meters
+     */
+    public void setPosition(int handle, double x, double y, double z) {
+        this.x[handle] = x;
+        this.y[handle] = y;
+        this.z[handle] = z;
+        final int col = toCell(x);
+        final int row = toCell(y);
+        if (located[handle]) {
+            if (cellCol[handle] == col && cellRow[handle] == row) {
+                return;
+            }
+            removeFromGrid(handle);
+        }
+        addToGrid(handle, col, row);
+    }
+
+    public void setPosition(int handle, CartesianPoint position) {
+        setPosition(handle, position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Removes the position of a node, which also excludes the node from all range queries.
+     */
+    public void removePosition(int handle) {
+        removeFromGrid(handle);
+    }
+
+    public boolean hasPosition(int handle) {
+        return located[handle];
+    }
+
+    /**
+     * Creates the position of a node, or returns {@code null} if the node has no position.
+     */
+    public CartesianPoint getPosition(int handle) {
+        return located[handle] ? CartesianPoint.xyz(x[handle], y[handle], z[handle]) : null;
+    }
+
+    public double getX(int handle) {
+        return x[handle];
+    }
+
+    public double getY(int handle) {
+        return y[handle];
+    }
+
+    public double getZ(int handle) {
+        return z[handle];
+    }
+
+    public void setRadius(int handle, double radius) {
+        this.radius[handle] = radius;
+    }
+
+    public double getRadius(int handle) {
+        return radius[handle];
+    }
+
+    /**
+     * Assigns a region to a node.
+     *
+     * @param handle the handle of the node
+     * @param region an index of the region defined by the caller, or {@link #NO_REGION}
+     */
+    public void setRegion(int handle, int region) {
+        this.region[handle] = region;
+    }
+
+    public int getRegion(int handle) {
+        return region[handle];
+    }
+
+    /**
+     * Passes the handle of each node located within the given area to the consumer.
+     *
+     * @param area     the area to search nodes in
+     * @param consumer receives the handles of all nodes within the area
+     */
+    public void forEachNodeInArea(Area<CartesianPoint> area, IntConsumer consumer) {
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final int minCol = toCell(Math.min(bounds.getA().getX(), bounds.getB().getX()));
+        final int maxCol = toCell(Math.max(bounds.getA().getX(), bounds.getB().getX()));
+        final int minRow = toCell(Math.min(bounds.getA().getY(), bounds.getB().getY()));
+        final int maxRow = toCell(Math.max(bounds.getA().getY(), bounds.getB().getY()));
+        final MutableCartesianPoint position = new MutableCartesianPoint();
+
+        final long cellsInArea = ((long) maxCol - minCol + 1) * ((long) maxRow - minRow + 1);
+        if (cellsInArea > Math.max(buckets.length, locatedCount)) {
+            // large areas cover more cells than there are buckets or nodes, checking all nodes is cheaper then
+            for (int handle = 0; handle < handleLimit; handle++) {
+                if (located[handle] && area.contains(position.set(x[handle], y[handle], z[handle]))) {
+                    consumer.accept(handle);
+                }
+            }
+            return;
+        }
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                // different cells may share a bucket, thus only nodes of the visited cell are considered
+                for (int handle = buckets[toBucket(col, row)]; handle != NO_NODE; handle = next[handle]) {
+                    if (cellCol[handle] == col && cellRow[handle] == row
+                            && area.contains(position.set(x[handle], y[handle], z[handle]))) {
+                        consumer.accept(handle);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToGrid(int handle, int col, int row) {
+        if (locatedCount >= buckets.length) {
+            rehash(buckets.length * 2);
+        }
+        cellCol[handle] = col;
+        cellRow[handle] = row;
+        located[handle] = true;
+        locatedCount++;
+        link(handle);
+    }
+
+    private void removeFromGrid(int handle) {
+        if (!located[handle]) {
+            return;
+        }
+        if (previous[handle] != NO_NODE) {
+            next[previous[handle]] = next[handle];
+        } else {
+            buckets[toBucket(cellCol[handle], cellRow[handle])] = next[handle];
+        }
+        if (next[handle] != NO_NODE) {
+            previous[next[handle]] = previous[handle];
+        }
+        located[handle] = false;
+        locatedCount--;
+    }
+
+    private void link(int handle) {
+        final int bucket = toBucket(cellCol[handle], cellRow[handle]);
+        previous[handle] = NO_NODE;
+        next[handle] = buckets[bucket];
+        if (buckets[bucket] != NO_NODE) {
+            previous[buckets[bucket]] = handle;
+        }
+        buckets[bucket] = handle;
+    }
+
+    private void rehash(int bucketCount) {
+        buckets = newBuckets(bucketCount);
+        for (int handle = 0; handle < handleLimit; handle++) {
+            if (located[handle]) {
+                link(handle);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= names.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, names.length * 2);
+        names = Arrays.copyOf(names, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        z = Arrays.copyOf(z, newCapacity);
+        radius = Arrays.copyOf(radius, newCapacity);
+        region = Arrays.copyOf(region, newCapacity);
+        located = Arrays.copyOf(located, newCapacity);
+        cellCol = Arrays.copyOf(cellCol, newCapacity);
+        cellRow = Arrays.copyOf(cellRow, newCapacity);
+        next = Arrays.copyOf(next, newCapacity);
+        previous = Arrays.copyOf(previous, newCapacity);
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int toBucket(int col, int row) {
+        final int hash = col * 73856093 ^ row * 19349663;
+        return (hash ^ (hash >>> 16)) & (buckets.length - 1);
+    }
+
+    private static int[] newBuckets(int bucketCount) {
+        final int[] buckets = new int[bucketCount];
+        Arrays.fill(buckets, NO_NODE);
+        return buckets;
+    }
+}
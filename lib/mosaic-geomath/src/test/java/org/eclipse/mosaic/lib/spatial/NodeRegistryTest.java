@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class NodeRegistryTest {
+
+    private final NodeRegistry registry = new NodeRegistry(100);
+
+    @Test
+    public void registerAndRemove() {
+        final int veh0 = registry.register("veh_0");
+        final int veh1 = registry.register("veh_1");
+        registry.setRadius(veh1, 300);
+        registry.setRegion(veh1, 4);
+
+        // RUN
+        final int removed = registry.remove("veh_0");
+        final int veh2 = registry.register("veh_2");
+
+        // ASSERT
+        assertEquals(veh0, removed);
+        assertEquals(veh0, veh2);
+        assertEquals(veh1, registry.register("veh_1"));
+        assertEquals(NodeRegistry.NO_NODE, registry.getHandle("veh_0"));
+        assertEquals(NodeRegistry.NO_NODE, registry.remove("veh_0"));
+        assertEquals("veh_2", registry.getName(veh2));
+        assertEquals(NodeRegistry.NO_REGION, registry.getRegion(veh2));
+        assertEquals(4, registry.getRegion(veh1));
+        assertEquals(300, registry.getRadius(veh1), 0d);
+        assertEquals(Set.of("veh_1", "veh_2"), registry.getNames());
+        assertEquals(2, registry.getHandleLimit());
+        assertNull(registry.getPosition(veh2));
+    }
+
+    @Test
+    public void getNodesInArea() {
+        add("veh_0", 10, 10);
+        add("veh_1", 150, 10);
+        add("veh_2", -120, -30);
+        add("veh_3", 1000, 1000);
+        registry.register("veh_4");
+
+        // RUN + ASSERT
+        assertEquals(Set.of("veh_0", "veh_1", "veh_2"), getNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 200)));
+    }
+
+    @Test
+    public void getNodesInArea_nodeMovedToOtherCell() {
+        final int handle = add("veh_0", 10, 10);
+
+        // RUN
+        registry.setPosition(handle, 510, 10, 0);
+
+        // ASSERT
+        assertTrue(getNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 50)).isEmpty());
+        assertEquals(Set.of("veh_0"), getNodesInArea(new CartesianCircle(CartesianPoint.xy(500, 0), 50)));
+        assertEquals(CartesianPoint.xyz(510, 10, 0), registry.getPosition(handle));
+    }
+
+    @Test
+    public void getNodesInArea_nodeRemoved() {
+        add("veh_0", 10, 10);
+        final int handle = add("veh_1", 20, 10);
+        add("veh_2", 30, 10);
+
+        // RUN
+        registry.remove("veh_0");
+        registry.removePosition(handle);
+
+        // ASSERT
+        assertEquals(Set.of("veh_2"), getNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 50)));
+        assertFalse(registry.hasPosition(handle));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    public void getNodesInArea_sameResultAsFullScan() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            add("veh_" + i, random.nextDouble() * 5000 - 2500, random.nextDouble() * 200);
+        }
+        // move and remove some nodes to check incremental updates
+        for (int i = 0; i < 3000; i += 3) {
+            final int handle = registry.getHandle("veh_" + i);
+            registry.setPosition(handle, registry.getX(handle) + random.nextDouble() * 300, registry.getY(handle), 0);
+        }
+        for (int i = 1; i < 3000; i += 7) {
+            registry.remove("veh_" + i);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            final CartesianPoint center = CartesianPoint.xy(random.nextDouble() * 5000 - 2500, random.nextDouble() * 200);
+            final Area<CartesianPoint> circle = new CartesianCircle(center, 50 + random.nextDouble() * 500);
+            final Area<CartesianPoint> rectangle = new CartesianRectangle(
+                    center, CartesianPoint.xy(center.getX() - random.nextDouble() * 4000, center.getY() + 100)
+            );
+
+            // RUN + ASSERT
+            assertEquals(fullScan(circle), getNodesInArea(circle));
+            assertEquals(fullScan(rectangle), getNodesInArea(rectangle));
+        }
+    }
+
+    private int add(String name, double x, double y) {
+        final int handle = registry.register(name);
+        registry.setPosition(handle, x, y, 0);
+        return handle;
+    }
+
+    private Set<String> getNodesInArea(Area<CartesianPoint> area) {
+        final Set<String> result = new HashSet<>();
+        registry.forEachNodeInArea(area, handle -> assertTrue(result.add(registry.getName(handle))));
+        return result;
+    }
+
+    private Set<String> fullScan(Area<CartesianPoint> area) {
+        final Set<String> result = new HashSet<>();
+        for (String name : registry.getNames()) {
+            if (area.contains(registry.getPosition(registry.getHandle(name)))) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+}
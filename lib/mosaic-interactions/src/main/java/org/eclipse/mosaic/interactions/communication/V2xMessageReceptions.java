@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.communication;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+
+/**
+ * This extension of {@link Interaction} bundles all receptions of one V2X message, which
+ * would otherwise be exchanged as one {@link V2xMessageReception} per receiver. Receivers and their
+ * reception times are held in plain arrays. The time of this interaction is the earliest reception time.
+ */
+public final class V2xMessageReceptions extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(V2xMessageReceptions.class);
+
+    /**
+     * Int identifying the V2X message.
+     */
+    private final int messageId;
+
+    /**
+     * Time the V2X message has been sent, unit: [ns].
+     */
+    private final long sendTime;
+
+    /**
+     * Names of all receiving nodes.
+     */
+    private final String[] receiverNames;
+
+    /**
+     * Reception time for each receiving node at the same index, unit: [ns].
+     */
+    private final long[] receiveTimes;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param time          Timestamp of this interaction, unit: [ns]. Must not be later than the earliest reception time.
+     * @param messageId     Identifies the V2X message.
+     * @param sendTime      Time the V2X message has been sent, unit: [ns]
+     * @param receiverNames Identifies the receiving nodes.
+     * @param receiveTimes  Reception time for each receiving node, unit: [ns]
+     */
+    public V2xMessageReceptions(final long time, final int messageId, final long sendTime,
+                                @Nonnull final String[] receiverNames, @Nonnull final long[] receiveTimes) {
+        super(time);
+        this.messageId = messageId;
+        this.sendTime = sendTime;
+        this.receiverNames = Objects.requireNonNull(receiverNames);
+        this.receiveTimes = Objects.requireNonNull(receiveTimes);
+        if (receiverNames.length != receiveTimes.length) {
+            throw new IllegalArgumentException("Number of receivers and reception times must be equal");
+        }
+    }
+
+    public int getMessageId() {
+        return messageId;
+    }
+
+    public long getSendTime() {
+        return sendTime;
+    }
+
+    /**
+     * Returns the number of receivers.
+     */
+    public int size() {
+        return receiverNames.length;
+    }
+
+    public String getReceiverName(int index) {
+        return receiverNames[index];
+    }
+
+    public long getReceiveTime(int index) {
+        return receiveTimes[index];
+    }
+
+    /**
+     * Creates the {@link V2xReceiverInformation} of the receiver at the given index.
+     */
+    public V2xReceiverInformation getReceiverInformation(int index) {
+        return new V2xReceiverInformation(receiveTimes[index]).sendTime(sendTime);
+    }
+
+    /**
+     * Splits this interaction up into single {@link V2xMessageReception}s, one for each receiver.
+     */
+    public List<V2xMessageReception> toReceptions() {
+        final List<V2xMessageReception> receptions = new ArrayList<>(receiverNames.length);
+        for (int i = 0; i < receiverNames.length; i++) {
+            receptions.add(new V2xMessageReception(receiveTimes[i], receiverNames[i], messageId, getReceiverInformation(i)));
+        }
+        return receptions;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(5, 29)
+                .append(messageId)
+                .append(sendTime)
+                .append(receiverNames)
+                .append(receiveTimes)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        V2xMessageReceptions other = (V2xMessageReceptions) obj;
+        return new EqualsBuilder()
+                .append(this.messageId, other.messageId)
+                .append(this.sendTime, other.sendTime)
+                .append(this.receiverNames, other.receiverNames)
+                .append(this.receiveTimes, other.receiveTimes)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("messageId", messageId)
+                .append("sendTime", sendTime)
+                .append("receivers", receiverNames.length)
+                .toString();
+    }
+}
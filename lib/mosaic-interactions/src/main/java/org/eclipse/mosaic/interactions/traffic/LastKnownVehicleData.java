@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.traffic;
+
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the last known {@link VehicleData} of all vehicles, which have been added but not yet removed
+ * by subsequent {@link VehicleUpdates} interactions. As a traffic simulator may only publish those vehicles
+ * whose state has changed (e.g. SUMO with {@code deltaVehicleUpdates} configured), the state of a vehicle
+ * cannot be looked up in the latest {@link VehicleUpdates} interaction alone.
+ *
+ * <p>This class is not thread-safe.</p>
+ */
+public class LastKnownVehicleData {
+
+    private final Map<String, VehicleData> vehicles = new HashMap<>();
+
+    /**
+     * Applies the added, updated, and removed vehicles of the given interaction.
+     *
+     * @param vehicleUpdates the latest {@link VehicleUpdates} interaction
+     */
+    public void update(VehicleUpdates vehicleUpdates) {
+        for (VehicleData added : vehicleUpdates.getAdded()) {
+            vehicles.put(added.getName(), added);
+        }
+        for (VehicleData updated : vehicleUpdates.getUpdated()) {
+            vehicles.put(updated.getName(), updated);
+        }
+        for (String removed : vehicleUpdates.getRemovedNames()) {
+            vehicles.remove(removed);
+        }
+    }
+
+    /**
+     * Returns the last known {@link VehicleData} of the given vehicle, or {@code null},
+     * if the vehicle is unknown or has been removed already.
+     */
+    @Nullable
+    public VehicleData get(String vehicleId) {
+        return vehicles.get(vehicleId);
+    }
+
+    /**
+     * Returns an unmodifiable view on the last known {@link VehicleData} of all vehicles.
+     */
+    public Collection<VehicleData> getAll() {
+        return Collections.unmodifiableCollection(vehicles.values());
+    }
+
+    public int size() {
+        return vehicles.size();
+    }
+}
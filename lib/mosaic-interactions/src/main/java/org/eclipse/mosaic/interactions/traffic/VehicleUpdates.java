@@ -32,7 +32,9 @@ import java.util.stream.Collectors;
  * This extension of {@link Interaction} is used to update the position of some or all vehicles
  * of the simulation. It consists of three lists, containing newly added vehicles, vehicles
  * which were updated since the last simulation step, and vehicles which have been removed
- * from the traffic simulation.
+ * from the traffic simulation. Depending on the traffic simulator, the list of updated vehicles
+ * may only contain vehicles whose state has changed noticeably, use {@link LastKnownVehicleData}
+ * to keep track of the state of all vehicles.
  */
 public final class VehicleUpdates extends Interaction {
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.traffic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+public class LastKnownVehicleDataTest {
+
+    private final LastKnownVehicleData lastKnownVehicleData = new LastKnownVehicleData();
+
+    @Test
+    public void vehiclesNotUpdatedAreKept() {
+        final VehicleData veh0 = new VehicleData.Builder(0, "veh_0").create();
+        final VehicleData veh1 = new VehicleData.Builder(0, "veh_1").create();
+        lastKnownVehicleData.update(new VehicleUpdates(0, Lists.newArrayList(veh0, veh1), new ArrayList<>(), new ArrayList<>()));
+
+        // RUN: only veh_1 has changed
+        final VehicleData veh1Updated = new VehicleData.Builder(TIME.SECOND, "veh_1").create();
+        lastKnownVehicleData.update(new VehicleUpdates(TIME.SECOND, new ArrayList<>(), Lists.newArrayList(veh1Updated), new ArrayList<>()));
+
+        // ASSERT
+        assertEquals(2, lastKnownVehicleData.size());
+        assertSame(veh0, lastKnownVehicleData.get("veh_0"));
+        assertSame(veh1Updated, lastKnownVehicleData.get("veh_1"));
+    }
+
+    @Test
+    public void removedVehiclesAreDropped() {
+        final VehicleData veh0 = new VehicleData.Builder(0, "veh_0").create();
+        lastKnownVehicleData.update(new VehicleUpdates(0, Lists.newArrayList(veh0), new ArrayList<>(), new ArrayList<>()));
+
+        // RUN
+        lastKnownVehicleData.update(new VehicleUpdates(TIME.SECOND, new ArrayList<>(), new ArrayList<>(), Lists.newArrayList("veh_0")));
+
+        // ASSERT
+        assertEquals(0, lastKnownVehicleData.size());
+        assertNull(lastKnownVehicleData.get("veh_0"));
+        assertEquals(0, lastKnownVehicleData.getAll().size());
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
 import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.traffic.LastKnownVehicleData;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.CMD;
 import org.eclipse.mosaic.lib.coupling.ClientServerChannel.NodeDataContainer;
@@ -60,10 +61,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Optional;
 import java.util.Scanner;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Stream;
 
 /**
  * The Ambassador for coupling a network simulator to MOSAIC RTI.
@@ -132,7 +131,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
      * This is used to fetch the most recent position of a vehicle when a {@link AdHocCommunicationConfiguration} interaction
      * is processed.
      */
-    private VehicleUpdates latestVehicleUpdates = null;
+    private final LastKnownVehicleData lastKnownVehicleData = new LastKnownVehicleData();
 
     /**
      * A config object for whether to bypass federate destination type capability queries in
@@ -486,7 +485,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
     private synchronized void process(VehicleUpdates interaction) throws InternalFederateException {
         try {
             // save the latest vehicle updates for the case: first VehicleUpdates arrive before AdHocCommunicationConfiguration
-            latestVehicleUpdates = interaction;
+            lastKnownVehicleData.update(interaction);
 
             if (!interaction.getAdded().isEmpty()) {
                 List<VehicleData> addedVehicles = interaction.getAdded();
@@ -704,14 +703,7 @@ public abstract class AbstractNetworkAmbassador extends AbstractFederateAmbassad
     }
 
     private synchronized VehicleData fetchVehicleDataFromLastUpdate(String vehicleId) {
-        if (latestVehicleUpdates == null) {
-            return null;
-        }
-        // see if vehicle was added or updated within the last vehicle update
-        Optional<VehicleData> vehicleData = Stream.concat(latestVehicleUpdates.getAdded().stream(), latestVehicleUpdates.getUpdated().stream())
-                .filter(v -> v.getName().equals(vehicleId))
-                .findFirst();
-        return vehicleData.orElse(null);
+        return lastKnownVehicleData.get(vehicleId);
     }
 
     private synchronized void addRsuNodeToSimulation(String nodeId, RegisteredNode virtualNode, long time) throws InternalFederateException {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.metrics;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Thread-safe registry of {@link Counter}s and {@link LatencyHistogram}s. Each metric is identified by its name
+ * and a label, e.g. the identifier of a federate or the type of an interaction. Looking up an existing metric
+ * does not allocate, however, hot paths should keep a reference to their metrics instead of looking them up repeatedly.
+ *
+ * <p>Usage:</p>
+ * <pre>
+ *     LatencyHistogram histogram = MetricsRegistry.getInstance().histogram("federate.advanceTime", federateId);
+ *     long start = System.nanoTime();
+ *     ...
+ *     histogram.recordSince(start);
+ * </pre>
+ */
+public class MetricsRegistry {
+
+    private final static MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    /**
+     * Returns the registry which is shared by all components of the simulation.
+     *
+     * @return the shared registry
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the counter with the given name without label, which is created if not existing yet.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     */
+    public Counter counter(@Nonnull String name) {
+        return counter(name, "");
+    }
+
+    /**
+     * Returns the counter with the given name and label, which is created if not existing yet.
+     *
+     * @param name  the name of the counter
+     * @param label the label of the counter, e.g. a federate id or an interaction type, {@code null} for no label
+     * @return the counter
+     */
+    public Counter counter(@Nonnull String name, @Nullable String label) {
+        return getOrCreate(counters, name, label, Counter::new);
+    }
+
+    /**
+     * Returns the histogram with the given name without label, which is created if not existing yet.
+     *
+     * @param name the name of the histogram
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(@Nonnull String name) {
+        return histogram(name, "");
+    }
+
+    /**
+     * Returns the histogram with the given name and label, which is created if not existing yet.
+     *
+     * @param name  the name of the histogram
+     * @param label the label of the histogram, e.g. a federate id or an interaction type, {@code null} for no label
+     * @return the histogram
+     */
+    public LatencyHistogram histogram(@Nonnull String name, @Nullable String label) {
+        return getOrCreate(histograms, name, label, LatencyHistogram::new);
+    }
+
+    private static <T> T getOrCreate(Map<String, Map<String, T>> metrics, String name, String nullableLabel,
+                                     BiFunction<String, String, T> factory) {
+        final String label = nullableLabel != null ? nullableLabel : "";
+        Map<String, T> byLabel = metrics.get(name);
+        if (byLabel == null) {
+            byLabel = metrics.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        }
+        final T metric = byLabel.get(label);
+        return metric != null ? metric : byLabel.computeIfAbsent(label, k -> factory.apply(name, label));
+    }
+
+    /**
+     * Creates a snapshot of all metrics, sorted by their name and label.
+     *
+     * @return a snapshot of the current values of all metrics
+     */
+    public MetricsSnapshot snapshot() {
+        final List<MetricsSnapshot.CounterValue> counterValues = new ArrayList<>();
+        counters.values().forEach(byLabel -> byLabel.values().forEach(c -> counterValues.add(new MetricsSnapshot.CounterValue(c))));
+        counterValues.sort(Comparator.comparing(MetricsSnapshot.CounterValue::getQualifiedName));
+
+        final List<MetricsSnapshot.HistogramValue> histogramValues = new ArrayList<>();
+        histograms.values().forEach(byLabel -> byLabel.values().forEach(h -> histogramValues.add(new MetricsSnapshot.HistogramValue(h))));
+        histogramValues.sort(Comparator.comparing(MetricsSnapshot.HistogramValue::getQualifiedName));
+
+        return new MetricsSnapshot(System.currentTimeMillis(), counterValues, histogramValues);
+    }
+
+    /**
+     * Periodically passes a snapshot of all metrics to the given exporter, using a daemon thread.
+     *
+     * @param intervalMs the interval between two snapshots in [ms]
+     * @param exporter   consumer of the snapshots, e.g. writing them to a log
+     * @return the executor running the export, which must be shut down to stop exporting
+     */
+    public ScheduledExecutorService exportPeriodically(long intervalMs, @Nonnull Consumer<MetricsSnapshot> exporter) {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("MetricsExport-%d").setDaemon(true).build()
+        );
+        executor.scheduleAtFixedRate(() -> exporter.accept(snapshot()), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * Resets the values of all metrics, e.g. before starting another simulation in the same JVM.
+     * References to existing metrics stay valid.
+     */
+    public void reset() {
+        counters.values().forEach(byLabel -> byLabel.values().forEach(Counter::reset));
+        histograms.values().forEach(byLabel -> byLabel.values().forEach(LatencyHistogram::reset));
+    }
+}
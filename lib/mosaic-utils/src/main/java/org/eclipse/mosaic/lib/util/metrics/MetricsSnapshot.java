@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.metrics;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+
+import java.util.List;
+
+/**
+ * Immutable copy of the values of all metrics of a {@link MetricsRegistry} at a specific point in time.
+ */
+public final class MetricsSnapshot {
+
+    private final long realTimeMs;
+
+    private final List<CounterValue> counters;
+
+    private final List<HistogramValue> histograms;
+
+    MetricsSnapshot(long realTimeMs, List<CounterValue> counters, List<HistogramValue> histograms) {
+        this.realTimeMs = realTimeMs;
+        this.counters = ImmutableList.copyOf(counters);
+        this.histograms = ImmutableList.copyOf(histograms);
+    }
+
+    /**
+     * Returns the wall clock time at which this snapshot has been taken.
+     *
+     * @return the time in milliseconds since epoch
+     */
+    public long getRealTimeMs() {
+        return realTimeMs;
+    }
+
+    public List<CounterValue> getCounters() {
+        return counters;
+    }
+
+    public List<HistogramValue> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Writes one line per metric to the given logger at info level.
+     *
+     * @param out the logger to write to
+     */
+    public void log(Logger out) {
+        for (CounterValue counter : counters) {
+            out.info("{} (count: {})", counter.getQualifiedName(), counter.getValue());
+        }
+        for (HistogramValue histogram : histograms) {
+            out.info("{} (calls: {} total: {} mean: {} p50: {} p90: {} p99: {} max: {})",
+                    histogram.getQualifiedName(),
+                    histogram.getCount(),
+                    format(histogram.getSum()),
+                    format(histogram.getMean()),
+                    format(histogram.getP50()),
+                    format(histogram.getP90()),
+                    format(histogram.getP99()),
+                    format(histogram.getMax())
+            );
+        }
+    }
+
+    private static String format(long durationNs) {
+        return durationNs > TIME.MILLI_SECOND ? durationNs / TIME.MILLI_SECOND + " ms" : durationNs + " ns";
+    }
+
+    private static String qualifiedName(String name, String label) {
+        return label.isEmpty() ? name : name + "[" + label + "]";
+    }
+
+    public static final class CounterValue {
+
+        private final String name;
+        private final String label;
+        private final long value;
+
+        CounterValue(Counter counter) {
+            this.name = counter.getName();
+            this.label = counter.getLabel();
+            this.value = counter.get();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getQualifiedName() {
+            return qualifiedName(name, label);
+        }
+
+        public long getValue() {
+            return value;
+        }
+    }
+
+    public static final class HistogramValue {
+
+        private final String name;
+        private final String label;
+        private final long count;
+        private final long sum;
+        private final long mean;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+
+        HistogramValue(LatencyHistogram histogram) {
+            this.name = histogram.getName();
+            this.label = histogram.getLabel();
+            this.count = histogram.getCount();
+            this.sum = histogram.getSum();
+            this.mean = histogram.getMean();
+            this.p50 = histogram.getPercentile(50);
+            this.p90 = histogram.getPercentile(90);
+            this.p99 = histogram.getPercentile(99);
+            this.max = histogram.getMax();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public String getQualifiedName() {
+            return qualifiedName(name, label);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+
+/**
+ * Sequential event scheduler which stores events in buckets per distinct time stamp. Usually, most events
+ * are scheduled on a small set of time stamps (e.g. multiples of the simulation step of the traffic simulator),
+ * thus, adding an event requires a hash lookup of its time bucket and an append to a FIFO queue, instead of
+ * an insertion into a priority queue containing all pending events. Only the distinct time stamps are kept
+ * in a priority queue.
+ *
+ * <p>Within a bucket, events are grouped by their nice value. Since sequence numbers increase with each added event,
+ * appending events to the queue of their nice value keeps the order defined by {@link Event#compareTo}.</p>
+ */
+public class BucketedEventScheduler implements EventScheduler {
+
+    private final static AtomicLong SEQUENCE = new AtomicLong();
+
+    private final Map<Long, TimeBucket> buckets = new HashMap<>();
+
+    /**
+     * Holds all non-empty buckets ordered by their time.
+     */
+    private final PriorityQueue<TimeBucket> bucketQueue = new PriorityQueue<>(Comparator.comparingLong(b -> b.time));
+
+    /**
+     * The bucket which received the last event, used to skip the hash lookup for consecutive events of the same time.
+     */
+    private TimeBucket lastBucket;
+
+    private int size = 0;
+
+    /**
+     * The last scheduled time.
+     */
+    private long scheduledTime = Long.MIN_VALUE;
+
+    @Override
+    public void addEvent(@Nonnull final Event event) {
+        if (event.getTime() < getScheduledTime()) {
+            throw new IllegalArgumentException("Event lies in the past.");
+        }
+        event.seqNr = SEQUENCE.getAndIncrement();
+
+        TimeBucket bucket = lastBucket;
+        if (bucket == null || bucket.time != event.getTime() || bucket.isEmpty()) {
+            bucket = buckets.get(event.getTime());
+            if (bucket == null) {
+                bucket = new TimeBucket(event.getTime());
+                buckets.put(bucket.time, bucket);
+                bucketQueue.add(bucket);
+            }
+            lastBucket = bucket;
+        }
+        bucket.add(event);
+        size++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getNextEventTime() {
+        if (isEmpty()) {
+            throw new IllegalStateException("No event in the queue.");
+        }
+        return bucketQueue.peek().time;
+    }
+
+    @Override
+    public long getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    @Nonnull
+    public int scheduleEvents(final long time) {
+        int processedEvents = 0;
+        scheduledTime = time;
+        while (true) {
+            final TimeBucket bucket = bucketQueue.peek();
+            if (bucket == null) {
+                return processedEvents;
+            }
+
+            if (bucket.time < time) {
+                throw new RuntimeException("Scheduled event lies in the past.");
+            } else if (bucket.time > time) {
+                return processedEvents;
+            }
+
+            // events processed here may add further events to this bucket, even with a lower nice value
+            final Event nextEvent = bucket.poll();
+            size--;
+            if (bucket.isEmpty()) {
+                bucketQueue.poll();
+                buckets.remove(bucket.time);
+            }
+            processedEvents += nextEvent.execute();
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Set<Event> getAllEvents() {
+        final TreeSet<Event> allEvents = new TreeSet<>();
+        for (TimeBucket bucket : bucketQueue) {
+            for (NiceLevel level : bucket.levels) {
+                allEvents.addAll(level.events);
+            }
+        }
+        return Collections.unmodifiableSet(allEvents);
+    }
+
+    /**
+     * All events of a single time stamp, grouped by their nice value in ascending order.
+     */
+    private static class TimeBucket {
+
+        private final long time;
+
+        private final List<NiceLevel> levels = new ArrayList<>(4);
+
+        private int size = 0;
+
+        private TimeBucket(long time) {
+            this.time = time;
+        }
+
+        private void add(Event event) {
+            // the number of distinct nice values per time stamp is small, thus, a linear search is sufficient
+            int i = levels.size() - 1;
+            while (i >= 0 && levels.get(i).nice > event.getNice()) {
+                i--;
+            }
+            NiceLevel level;
+            if (i >= 0 && levels.get(i).nice == event.getNice()) {
+                level = levels.get(i);
+            } else {
+                level = new NiceLevel(event.getNice());
+                levels.add(i + 1, level);
+            }
+            level.events.addLast(event);
+            size++;
+        }
+
+        private Event poll() {
+            final NiceLevel first = levels.get(0);
+            final Event event = first.events.pollFirst();
+            if (first.events.isEmpty()) {
+                levels.remove(0);
+            }
+            size--;
+            return event;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private static class NiceLevel {
+
+        private final long nice;
+
+        private final ArrayDeque<Event> events = new ArrayDeque<>();
+
+        private NiceLevel(long nice) {
+            this.nice = nice;
+        }
+    }
+}
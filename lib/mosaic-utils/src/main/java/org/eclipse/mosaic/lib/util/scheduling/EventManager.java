@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.lib.util.scheduling;
 
 import java.util.Arrays;
+import java.util.Collection;
 import javax.annotation.Nonnull;
 
 /**
@@ -31,6 +32,17 @@ public interface EventManager {
      */
     void addEvent(@Nonnull final Event event);
 
+    /**
+     * Add several {@link Event}s to the scheduler at once.
+     *
+     * @param events the events to schedule.
+     */
+    default void addEvents(@Nonnull final Collection<Event> events) {
+        for (Event event : events) {
+            addEvent(event);
+        }
+    }
+
     /**
      * Add an {@link Event} to the scheduler.
      *
@@ -16,7 +16,10 @@
 package org.eclipse.mosaic.lib.util.scheduling;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -24,12 +27,44 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 
+/**
+ * Event scheduler which executes all events with the same time and nice value in parallel. Depending on
+ * the {@link ExecutionMode}, events sharing the same processor are executed sequentially in the order they have been added.
+ */
 public class MultiThreadedEventScheduler extends DefaultEventScheduler {
 
+    /**
+     * Defines how events with the same time and nice value are distributed among the threads.
+     */
+    public enum ExecutionMode {
+        /**
+         * Each event is executed independently, thus, events of the same processor may be executed concurrently.
+         */
+        CONCURRENT,
+        /**
+         * Events are partitioned by their processor (e.g. a simulation unit). The events of each
+         * processor are executed sequentially in the order they have been added, whereas the
+         * events of different processors are executed in parallel. Events with several processors
+         * enforce a sequential execution of all events with the same time and nice value.
+         */
+        ORDERED_PER_PROCESSOR
+    }
+
     private final ExecutorService executorService;
 
+    private final ExecutionMode executionMode;
+
     public MultiThreadedEventScheduler(int threads) {
-        executorService = Executors.newFixedThreadPool(threads);
+        this(threads, ExecutionMode.CONCURRENT);
+    }
+
+    public MultiThreadedEventScheduler(int threads, ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        if (executionMode == ExecutionMode.ORDERED_PER_PROCESSOR) {
+            executorService = Executors.newWorkStealingPool(threads);
+        } else {
+            executorService = Executors.newFixedThreadPool(threads);
+        }
     }
 
     @Override
@@ -37,13 +72,20 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
         super.addEvent(event);
     }
 
+    @Override
+    public synchronized void addEvents(@Nonnull final Collection<Event> events) {
+        for (Event event : events) {
+            super.addEvent(event);
+        }
+    }
+
     @Override
     public int scheduleEvents(long time) {
         if (isEmpty()) {
             return 0;
         }
 
-        final List<Callable<Integer>> executables = new ArrayList<>();
+        final List<Event> events = new ArrayList<>();
         long nice = getNextEventNice();
         int processedEvents = 0;
         scheduledTime = time;
@@ -51,7 +93,7 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
         while (true) {
             final Event nextEvent = super.eventQueue.peek();
             if (nextEvent == null) {
-                processedEvents += executeEvents(executables);
+                processedEvents += executeEvents(events);
                 return processedEvents;
             }
 
@@ -59,19 +101,19 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
                 throw new RuntimeException("Scheduled event lies in the past.");
             } else if (nextEvent.getTime() == time && nextEvent.getNice() == nice) {
                 super.eventQueue.remove(); // remove the head of the queue
-                executables.add(nextEvent::execute);
+                events.add(nextEvent);
             } else if (nextEvent.getTime() == time) {
                 super.eventQueue.remove(); // remove the head of the queue
                 // same time, but different nice value
-                processedEvents += executeEvents(executables);
-                executables.clear();
+                processedEvents += executeEvents(events);
+                events.clear();
 
                 nice = nextEvent.getNice();
-                executables.add(nextEvent::execute);
+                events.add(nextEvent);
             } else {
                 // else case: nextEvent.getTime() > time
                 // do not schedule this event, push it back to the queue
-                processedEvents += executeEvents(executables);
+                processedEvents += executeEvents(events);
                 return processedEvents;
             }
         }
@@ -84,13 +126,60 @@ public class MultiThreadedEventScheduler extends DefaultEventScheduler {
         return eventQueue.peek().getNice();
     }
 
+    /**
+     * Executes a list of events with the same time and nice value, and waits until all of them are processed.
+     *
+     * @param events the events to process, sorted by their sequence number
+     * @return the total of processed events by all threads.
+     */
+    private int executeEvents(List<Event> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        if (executionMode == ExecutionMode.ORDERED_PER_PROCESSOR) {
+            return executeEventsPerProcessor(events);
+        }
+        final List<Callable<Integer>> executables = new ArrayList<>(events.size());
+        for (Event event : events) {
+            executables.add(event::execute);
+        }
+        return invokeAll(executables);
+    }
+
+    private int executeEventsPerProcessor(List<Event> events) {
+        final Map<EventProcessor, List<Event>> eventsByProcessor = new IdentityHashMap<>();
+        for (Event event : events) {
+            if (event.getProcessors().size() > 1) {
+                // the event affects several processors, which could conflict with any other partition
+                return executeSequentially(events);
+            }
+            eventsByProcessor.computeIfAbsent(event.getProcessors().get(0), p -> new ArrayList<>()).add(event);
+        }
+        if (eventsByProcessor.size() == 1) {
+            return executeSequentially(events);
+        }
+        final List<Callable<Integer>> executables = new ArrayList<>(eventsByProcessor.size());
+        for (List<Event> eventsOfProcessor : eventsByProcessor.values()) {
+            executables.add(() -> executeSequentially(eventsOfProcessor));
+        }
+        return invokeAll(executables);
+    }
+
+    private static int executeSequentially(List<Event> events) {
+        int processedEvents = 0;
+        for (Event event : events) {
+            processedEvents += event.execute();
+        }
+        return processedEvents;
+    }
+
     /**
      * Executes a list of EventExecutors and wait for its response.
      *
      * @param executables to process
      * @return the total of processed events by all threads.
      */
-    private int executeEvents(List<Callable<Integer>> executables) {
+    private int invokeAll(List<Callable<Integer>> executables) {
         int processedEvents = 0;
 
         try {
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void sameMetricForSameNameAndLabel() {
+        assertSame(registry.counter("received", "federateA"), registry.counter("received", "federateA"));
+        assertNotSame(registry.counter("received", "federateA"), registry.counter("received", "federateB"));
+        assertSame(registry.histogram("advanceTime"), registry.histogram("advanceTime", ""));
+    }
+
+    @Test
+    public void snapshot() {
+        registry.counter("received", "federateB").add(5);
+        registry.counter("received", "federateA").increment();
+        registry.histogram("advanceTime", "federateA").record(1000);
+
+        final MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(2, snapshot.getCounters().size());
+        assertEquals("received[federateA]", snapshot.getCounters().get(0).getQualifiedName());
+        assertEquals(1, snapshot.getCounters().get(0).getValue());
+        assertEquals(5, snapshot.getCounters().get(1).getValue());
+        assertEquals(1, snapshot.getHistograms().size());
+        assertEquals(1000, snapshot.getHistograms().get(0).getMax());
+
+        // snapshots are not affected by later updates
+        registry.counter("received", "federateA").increment();
+        assertEquals(1, snapshot.getCounters().get(0).getValue());
+    }
+
+    @Test
+    public void reset() {
+        final Counter counter = registry.counter("received", "federateA");
+        counter.add(3);
+        registry.histogram("advanceTime").record(1000);
+
+        registry.reset();
+
+        assertEquals(0, counter.get());
+        assertEquals(0, registry.histogram("advanceTime").getCount());
+        counter.increment();
+        assertEquals(1, registry.snapshot().getCounters().get(0).getValue());
+    }
+
+    @Test
+    public void exportPeriodically() throws Exception {
+        registry.counter("received").increment();
+        final CountDownLatch exported = new CountDownLatch(2);
+
+        final ScheduledExecutorService export = registry.exportPeriodically(10, snapshot -> {
+            assertEquals(1, snapshot.getCounters().get(0).getValue());
+            exported.countDown();
+        });
+        try {
+            assertTrue(exported.await(10, TimeUnit.SECONDS));
+        } finally {
+            export.shutdownNow();
+        }
+    }
+}
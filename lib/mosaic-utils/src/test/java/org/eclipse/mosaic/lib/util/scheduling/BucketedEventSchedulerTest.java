@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class BucketedEventSchedulerTest {
+
+    /**
+     * Adds the same random events to the {@link DefaultEventScheduler} and the {@link BucketedEventScheduler}, whereas
+     * processed events schedule further events, also for the current time. Both schedulers must process
+     * all events in the same order.
+     */
+    @Test
+    public void sameOrderAsDefaultEventScheduler() {
+        final List<String> expectedOrder = runRandomEvents(new DefaultEventScheduler());
+        final List<String> actualOrder = runRandomEvents(new BucketedEventScheduler());
+
+        assertTrue(expectedOrder.size() > 1000);
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    public void getNextEventTime() {
+        final BucketedEventScheduler eventScheduler = new BucketedEventScheduler();
+        eventScheduler.addEvent(new Event(20, e -> {}));
+        eventScheduler.addEvent(new Event(10, e -> {}));
+        eventScheduler.addEvent(new Event(30, e -> {}));
+
+        assertEquals(10, eventScheduler.getNextEventTime());
+        eventScheduler.scheduleEvents(10);
+        assertEquals(20, eventScheduler.getNextEventTime());
+        assertEquals(2, eventScheduler.getAllEvents().size());
+    }
+
+    private static List<String> runRandomEvents(EventScheduler eventScheduler) {
+        final Random random = new Random(42);
+        final List<String> processed = new ArrayList<>();
+        final int[] counter = {0};
+        final EventProcessor processor = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) {
+                processed.add(event.getTime() + "/" + event.getNice() + "/" + event.getResource());
+                if (counter[0] < 5000) {
+                    final long time = event.getTime() + random.nextInt(3) * 10;
+                    eventScheduler.addEvent(new Event(time, this, counter[0]++, random.nextInt(4)));
+                }
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            eventScheduler.addEvent(new Event(random.nextInt(10) * 10, processor, counter[0]++, random.nextInt(4)));
+        }
+        while (!eventScheduler.isEmpty()) {
+            eventScheduler.scheduleEvents(eventScheduler.getNextEventTime());
+        }
+        return processed;
+    }
+}
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 
 @RunWith(Parameterized.class)
@@ -57,32 +58,33 @@ public class EventSchedulerTest {
         }
     };
 
-    private final int eventSchedulerThreads;
+    private final Supplier<EventScheduler> eventSchedulerFactory;
 
     /**
      * The event scheduler reference.
      */
     private EventScheduler eventScheduler;
 
-    public EventSchedulerTest(int eventSchedulerThreads) {
-        this.eventSchedulerThreads = eventSchedulerThreads;
+    public EventSchedulerTest(String name, Supplier<EventScheduler> eventSchedulerFactory) {
+        this.eventSchedulerFactory = eventSchedulerFactory;
     }
 
-    @Parameterized.Parameters
+    @Parameterized.Parameters(name = "{0}")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
-                {1}, {2}
+                {"default", (Supplier<EventScheduler>) DefaultEventScheduler::new},
+                {"multiThreaded", (Supplier<EventScheduler>) () -> new MultiThreadedEventScheduler(2)},
+                {"multiThreadedOrdered", (Supplier<EventScheduler>) () -> new MultiThreadedEventScheduler(
+                        2, MultiThreadedEventScheduler.ExecutionMode.ORDERED_PER_PROCESSOR
+                )},
+                {"bucketed", (Supplier<EventScheduler>) BucketedEventScheduler::new}
         });
     }
 
     @Before
     public void setUp() {
         // create a new event scheduler
-        if (eventSchedulerThreads == 1) {
-            eventScheduler = new DefaultEventScheduler();
-        } else {
-            eventScheduler = new MultiThreadedEventScheduler(2);
-        }
+        eventScheduler = eventSchedulerFactory.get();
         // first of all create some events and add them to the scheduler
         eventScheduler.addEvent(new Event(0, processor, null));
         eventScheduler.addEvent(1, processor);
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MultiThreadedEventSchedulerTest {
+
+    private final MultiThreadedEventScheduler eventScheduler =
+            new MultiThreadedEventScheduler(4, MultiThreadedEventScheduler.ExecutionMode.ORDERED_PER_PROCESSOR);
+
+    @Test
+    public void eventsOfSameProcessorExecutedInOrder() {
+        final List<UnitProcessor> units = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            units.add(new UnitProcessor());
+        }
+        for (int i = 0; i < 100; i++) {
+            for (UnitProcessor unit : units) {
+                eventScheduler.addEvent(new Event(10, unit, i));
+            }
+        }
+
+        int processedEvents = eventScheduler.scheduleEvents(10);
+
+        assertEquals(800, processedEvents);
+        for (UnitProcessor unit : units) {
+            assertFalse(unit.concurrentAccess.get());
+            assertEquals(100, unit.processedResources.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, (int) unit.processedResources.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void eventsOfDifferentProcessorsExecutedInParallel() {
+        final CountDownLatch bothRunning = new CountDownLatch(2);
+        final AtomicInteger parallelEvents = new AtomicInteger();
+        final EventProcessor waitingProcessor = e -> {
+            bothRunning.countDown();
+            if (bothRunning.await(5, TimeUnit.SECONDS)) {
+                parallelEvents.incrementAndGet();
+            }
+        };
+        final EventProcessor otherWaitingProcessor = e -> waitingProcessor.processEvent(e);
+        eventScheduler.addEvent(new Event(10, waitingProcessor));
+        eventScheduler.addEvent(new Event(10, otherWaitingProcessor));
+
+        eventScheduler.scheduleEvents(10);
+
+        assertEquals(2, parallelEvents.get());
+    }
+
+    @Test
+    public void eventsWithSeveralProcessorsExecutedSequentially() {
+        final UnitProcessor unitA = new UnitProcessor();
+        final UnitProcessor unitB = new UnitProcessor();
+        eventScheduler.addEvent(new Event(10, unitA, 0));
+        eventScheduler.newEvent(10, unitA, unitB).withResource(1).schedule();
+        eventScheduler.addEvent(new Event(10, unitB, 2));
+
+        int processedEvents = eventScheduler.scheduleEvents(10);
+
+        assertEquals(4, processedEvents);
+        assertEquals(List.of(0, 1), unitA.processedResources);
+        assertEquals(List.of(1, 2), unitB.processedResources);
+        assertTrue(eventScheduler.isEmpty());
+    }
+
+    private static class UnitProcessor implements EventProcessor {
+
+        private final List<Integer> processedResources = new ArrayList<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean concurrentAccess = new AtomicBoolean();
+
+        @Override
+        public void processEvent(Event event) {
+            if (!running.compareAndSet(false, true)) {
+                concurrentAccess.set(true);
+            }
+            processedResources.add((Integer) event.getResource());
+            running.set(false);
+        }
+    }
+}
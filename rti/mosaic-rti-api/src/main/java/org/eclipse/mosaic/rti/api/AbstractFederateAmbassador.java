@@ -25,7 +25,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
 
 /**
@@ -49,12 +54,20 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
     protected RtiAmbassador rti;
 
     /**
-     * A priority queue that holds unprocessed interactions.
+     * A queue that holds unprocessed interactions.
      */
     protected InteractionQueue interactionQueue = new InteractionQueue();
 
     protected FederateDescriptor descriptor;
 
+    /**
+     * Guards against concurrent time advances of this federate. The time management grants time advances of a
+     * federate one after another, thus, this lock is not contended as long as this contract is fulfilled.
+     */
+    private final ReentrantLock advanceTimeLock = new ReentrantLock();
+
+    private final ContentionCounter advanceTimeContention = new ContentionCounter();
+
     protected final Logger log;
 
     protected final AmbassadorParameter ambassadorParameter;
@@ -78,6 +91,22 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
         log.trace("processInteraction(Interaction<?> interaction); interaction.getClass: {}", interaction.getClass());
     }
 
+    /**
+     * This method is called by the {@link AbstractFederateAmbassador} whenever a time advance has
+     * been granted, with all queued interactions whose time is smaller or equal the granted time,
+     * sorted by their time. The default implementation calls {@link #processInteraction} for each
+     * interaction. Ambassadors may override this method to process all interactions of a time
+     * advance at once. The list must not be stored beyond this call.
+     *
+     * @param interactions the interactions to be processed, sorted by their time
+     * @throws InternalFederateException an exception inside of a joined federate occurs
+     */
+    protected void processInteractions(List<Interaction> interactions) throws InternalFederateException {
+        for (Interaction interaction : interactions) {
+            processInteraction(interaction);
+        }
+    }
+
     /**
      * This method is called by the AbstractFederateAmbassador when a time
      * advance has been granted by the RTI. Before this call is placed, any
@@ -100,14 +129,34 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
      * @throws InternalFederateException an exception inside of a joined federate occurs
      */
     @Override
-    public final synchronized void advanceTime(long time) throws InternalFederateException {
-        Interaction nextInteraction = interactionQueue.getNextInteraction(time);
-        while (nextInteraction != null) {
-            rti.getMonitor().onProcessInteraction(getId(), nextInteraction);
-            processInteraction(nextInteraction);
-            nextInteraction = interactionQueue.getNextInteraction(time);
+    public final void advanceTime(long time) throws InternalFederateException {
+        advanceTimeContention.enter();
+        advanceTimeLock.lock();
+        try {
+            // processing interactions may lead to further interactions received until the granted time
+            List<Interaction> interactions = interactionQueue.pollInteractions(time);
+            while (!interactions.isEmpty()) {
+                for (Interaction interaction : interactions) {
+                    rti.getMonitor().onProcessInteraction(getId(), interaction);
+                }
+                processInteractions(interactions);
+                interactions = interactionQueue.pollInteractions(time);
+            }
+            processTimeAdvanceGrant(time);
+        } finally {
+            advanceTimeLock.unlock();
+            advanceTimeContention.exit();
         }
-        processTimeAdvanceGrant(time);
+    }
+
+    /**
+     * Returns the statistics about time advances of this federate which have been granted while
+     * another time advance of this federate was still in progress.
+     *
+     * @return the contention statistics of {@link #advanceTime}
+     */
+    public final ContentionCounter getAdvanceTimeContention() {
+        return advanceTimeContention;
     }
 
     /**
@@ -279,23 +328,82 @@ public abstract class AbstractFederateAmbassador implements FederateAmbassador {
         return Byte.compare(descriptor.getPriority(), o.getPriority());
     }
 
-    protected static class InteractionQueue extends PriorityBlockingQueue<Interaction> {
+    /**
+     * Queue of unprocessed interactions, which may be filled by several threads concurrently,
+     * and which is consumed by the thread advancing the federate. Received interactions are appended
+     * to a lock-free buffer, and are only sorted when the federate advances its time.
+     */
+    protected static class InteractionQueue {
+
+        /**
+         * Interactions which have been received since the last time advance.
+         */
+        private final ConcurrentLinkedQueue<Interaction> received = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Interactions which lie beyond the last granted time. Only accessed by the consumer.
+         */
+        private final PriorityQueue<Interaction> future = new PriorityQueue<>();
 
-        private static final long serialVersionUID = 1L;
+        /**
+         * Adds the given interaction to this queue. May be called by several threads concurrently.
+         *
+         * @param interaction the received interaction
+         */
+        public void add(Interaction interaction) {
+            received.add(interaction);
+        }
 
         /**
-         * Returns the next interaction in the queue whose timestamp is smaller or equal
-         * the given time.
+         * Removes all interactions whose timestamp is smaller or equal the given time
+         * and returns them sorted by their time. Must not be called concurrently.
          *
          * @param time time in [ns]
+         * @return all interactions until the given time, or an empty list
          */
-        protected Interaction getNextInteraction(long time) {
-            if (this.peek() != null && this.peek().getTime() <= time) {
-                return this.poll();
+        protected List<Interaction> pollInteractions(long time) {
+            List<Interaction> batch = null;
+            Interaction interaction;
+            while ((interaction = future.peek()) != null && interaction.getTime() <= time) {
+                batch = batch == null ? new ArrayList<>() : batch;
+                batch.add(future.poll());
+            }
+            while ((interaction = received.poll()) != null) {
+                if (interaction.getTime() <= time) {
+                    batch = batch == null ? new ArrayList<>() : batch;
+                    batch.add(interaction);
+                } else {
+                    future.add(interaction);
+                }
+            }
+            if (batch == null) {
+                return Collections.emptyList();
             }
-            return null;
+            // interactions are usually received in order, which is sorted in linear time
+            Collections.sort(batch);
+            return batch;
         }
 
+        /**
+         * Returns {@code true}, if any queued interaction has a timestamp smaller or equal the given time.
+         * Must not be called concurrently to {@link #pollInteractions}.
+         *
+         * @param time time in [ns]
+         * @return {@code true}, if interactions until the given time are queued
+         */
+        public boolean hasInteractionsUntil(long time) {
+            Interaction interaction;
+            while ((interaction = received.poll()) != null) {
+                future.add(interaction);
+            }
+            return (interaction = future.peek()) != null && interaction.getTime() <= time;
+        }
+
+        /**
+         * Returns {@code true}, if no interaction is queued. Must not be called concurrently to {@link #pollInteractions}.
+         */
+        public boolean isEmpty() {
+            return received.isEmpty() && future.isEmpty();
+        }
     }
 }
-
@@ -18,6 +18,7 @@ package org.eclipse.mosaic.rti.api;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Provides access to all components required for the simulation, such as the {@link TimeManagement},
@@ -78,4 +79,16 @@ public interface ComponentProvider {
      * @return a new instance of the {@link RandomNumberGenerator}
      */
     @Nonnull RandomNumberGenerator createRandomNumberGenerator();
+
+    /**
+     * Returns a summary of how many calls of the given federate overlapped with another call of the same
+     * federate, if such statistics are recorded by the components of this federation.
+     *
+     * @param federateId the unique ID of the federate
+     * @return a summary of the contention of the federate, or {@code null} if no statistics are recorded
+     */
+    @Nullable
+    default String getContentionSummary(String federateId) {
+        return null;
+    }
 }
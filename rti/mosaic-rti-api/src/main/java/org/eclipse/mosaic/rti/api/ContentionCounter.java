@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls of a method, and how many of these calls have been made while another thread was still
+ * executing the same method. Such overlapping calls would have been blocked if the method was guarded by a monitor,
+ * thus, the ratio of overlapping calls indicates the contention of the guarded resource.
+ *
+ * <p>Each call must be enclosed by {@link #enter()} and {@link #exit()}.</p>
+ */
+public final class ContentionCounter {
+
+    private final AtomicInteger activeCalls = new AtomicInteger();
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder overlappingCalls = new LongAdder();
+
+    /**
+     * Marks the begin of a call.
+     *
+     * @return {@code true}, if another call was in progress at the same time
+     */
+    public boolean enter() {
+        calls.increment();
+        if (activeCalls.getAndIncrement() > 0) {
+            overlappingCalls.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks the end of a call.
+     */
+    public void exit() {
+        activeCalls.decrementAndGet();
+    }
+
+    /**
+     * Returns the total number of calls.
+     *
+     * @return the number of calls
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of calls, which have been made while another call was in progress.
+     *
+     * @return the number of overlapping calls
+     */
+    public long getOverlappingCalls() {
+        return overlappingCalls.sum();
+    }
+
+    @Override
+    public String toString() {
+        final long totalCalls = getCalls();
+        final long overlapping = getOverlappingCalls();
+        return "calls: " + totalCalls + " overlapping: " + overlapping
+                + " (" + (totalCalls > 0 ? (overlapping * 100) / totalCalls : 0) + "%)";
+    }
+}
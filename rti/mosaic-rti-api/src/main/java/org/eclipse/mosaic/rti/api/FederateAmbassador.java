@@ -99,7 +99,9 @@ public interface FederateAmbassador extends Comparable<FederateAmbassador> {
     /**
      * This method is called by the time management service. If the ambassador
      * has requested to advance its internal clock, the time management service
-     * calls this method to signal that a time advance request is granted.
+     * calls this method to signal that a time advance request is granted. The time
+     * management does not call this method while a previous call for the same federate
+     * is still in progress, even if it advances several federates in parallel.
      *
      * @param time Time in nano seconds until this federate is allowed to advance
      *             its internal clock.
@@ -15,7 +15,6 @@
 
 package org.eclipse.mosaic.rti.api;
 
-import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -52,6 +51,12 @@ public abstract class Interaction implements Comparable<Interaction>, Cloneable,
      */
     private String typeId;
 
+    /**
+     * The index of the type identifier in the {@link InteractionTypeRegistry} incremented by one,
+     * or {@code 0} if not resolved yet. Not serialized, as indices are only valid within the current JVM.
+     */
+    private transient int typeIndex;
+
     /**
      * Returns a new unique id to identify an interaction.
      *
@@ -102,6 +107,22 @@ public abstract class Interaction implements Comparable<Interaction>, Cloneable,
         return typeId;
     }
 
+    /**
+     * Returns the dense index of the type identifier of this interaction, as assigned by
+     * the {@link InteractionTypeRegistry}. Should be used for looking up handlers of interactions
+     * in arrays, e.g. by using an {@link InteractionHandlerTable}.
+     *
+     * @return the index of the type identifier
+     */
+    public final int getTypeIndex() {
+        int index = typeIndex;
+        if (index == 0) {
+            index = InteractionTypeRegistry.getTypeIndex(getTypeId()) + 1;
+            typeIndex = index;
+        }
+        return index - 1;
+    }
+
     /**
      * Returns the unique ID of this interaction.
      *
@@ -180,13 +201,14 @@ public abstract class Interaction implements Comparable<Interaction>, Cloneable,
     }
 
     /**
-     * Helper method for creating type identifiers in a uniform way.
+     * Helper method for creating type identifiers in a uniform way. The type identifier is
+     * registered at the {@link InteractionTypeRegistry}, which assigns its type index.
      *
      * @param interactionClass the class extending from {@link Interaction}
      * @return the type identifier based on the {@link Interaction} class
      */
     public static String createTypeIdentifier(Class<? extends Interaction> interactionClass) {
-        return ClassUtils.getShortClassName(interactionClass);
+        return InteractionTypeRegistry.getTypeId(interactionClass);
     }
 
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+
+/**
+ * Dispatches interactions to handlers registered for their type. The handlers are stored in an array indexed
+ * by the type index of the {@link InteractionTypeRegistry}, thus, dispatching an interaction requires a single
+ * array access instead of comparing its type identifier with the identifiers of all handled types.
+ *
+ * <p>Handlers should be registered during initialization of an ambassador only,
+ * as registering is not thread-safe.</p>
+ */
+public class InteractionHandlerTable {
+
+    /**
+     * Handles interactions of a specific type.
+     *
+     * @param <T> the type of the handled interaction
+     */
+    @FunctionalInterface
+    public interface Handler<T extends Interaction> {
+
+        void handle(T interaction) throws InternalFederateException;
+    }
+
+    private Handler<?>[] handlers = new Handler<?>[0];
+
+    /**
+     * Registers a handler for all interactions with the type identifier of the given interaction class.
+     * A previously registered handler for the same type is replaced.
+     *
+     * @param interactionClass the class extending from {@link Interaction}
+     * @param handler          the handler to call for interactions of this type
+     * @param <T>              the type of the handled interaction
+     * @return this handler table for chaining
+     */
+    public <T extends Interaction> InteractionHandlerTable register(@Nonnull Class<T> interactionClass,
+                                                                    @Nonnull Handler<? super T> handler) {
+        final int typeIndex = InteractionTypeRegistry.getTypeIndex(interactionClass);
+        if (typeIndex >= handlers.length) {
+            handlers = Arrays.copyOf(handlers, Math.max(typeIndex + 1, InteractionTypeRegistry.size()));
+        }
+        handlers[typeIndex] = handler;
+        return this;
+    }
+
+    /**
+     * Returns {@code true}, if a handler has been registered for the type of the given interaction.
+     *
+     * @param interaction the interaction to check
+     * @return {@code true}, if the interaction can be dispatched
+     */
+    public boolean canHandle(@Nonnull Interaction interaction) {
+        final int typeIndex = interaction.getTypeIndex();
+        return typeIndex < handlers.length && handlers[typeIndex] != null;
+    }
+
+    /**
+     * Calls the handler registered for the type of the given interaction.
+     *
+     * @param interaction the interaction to dispatch
+     * @return {@code true}, if a handler has been called, {@code false} if no handler is registered for this type
+     * @throws InternalFederateException if the handler has thrown an exception
+     */
+    @SuppressWarnings("unchecked")
+    public boolean dispatch(@Nonnull Interaction interaction) throws InternalFederateException {
+        final int typeIndex = interaction.getTypeIndex();
+        if (typeIndex >= handlers.length) {
+            return false;
+        }
+        final Handler<Interaction> handler = (Handler<Interaction>) handlers[typeIndex];
+        if (handler == null) {
+            return false;
+        }
+        handler.handle(interaction);
+        return true;
+    }
+}
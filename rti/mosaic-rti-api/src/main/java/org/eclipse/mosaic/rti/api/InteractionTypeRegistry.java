@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns a dense integer index to each interaction type identifier. Since each {@link Interaction}
+ * subclass creates its {@code TYPE_ID} using {@link Interaction#createTypeIdentifier(Class)}, its index
+ * is assigned as soon as the class is loaded. The indices start at {@code 0} and allow to look up handlers or
+ * subscribers of an interaction type in arrays instead of hash maps with string keys. The string type
+ * identifier is still used in configurations and logs.
+ *
+ * <p>Indices are only valid within the current JVM and must not be exchanged with other processes.</p>
+ */
+public final class InteractionTypeRegistry {
+
+    private static final Map<String, Integer> TYPE_INDICES = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private static final ClassValue<String> TYPE_IDS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            final String typeId = ClassUtils.getShortClassName(type);
+            getTypeIndex(typeId);
+            return typeId;
+        }
+    };
+
+    private InteractionTypeRegistry() {
+        // static methods only
+    }
+
+    /**
+     * Returns the index of the given interaction type identifier. If the type identifier
+     * is not known yet, a new index is assigned.
+     *
+     * @param typeId the type identifier of an interaction
+     * @return the index of the interaction type
+     */
+    public static int getTypeIndex(String typeId) {
+        final Integer index = TYPE_INDICES.get(typeId);
+        if (index != null) {
+            return index;
+        }
+        return TYPE_INDICES.computeIfAbsent(typeId, k -> NEXT_INDEX.getAndIncrement());
+    }
+
+    /**
+     * Returns the index of the type identifier derived from the given interaction class.
+     *
+     * @param interactionClass the class extending from {@link Interaction}
+     * @return the index of the interaction type
+     */
+    public static int getTypeIndex(Class<? extends Interaction> interactionClass) {
+        return getTypeIndex(getTypeId(interactionClass));
+    }
+
+    /**
+     * Returns the type identifier derived from the given interaction class, which is cached for each class.
+     *
+     * @param interactionClass the class extending from {@link Interaction}
+     * @return the type identifier of the interaction class
+     */
+    static String getTypeId(Class<? extends Interaction> interactionClass) {
+        return TYPE_IDS.get(interactionClass);
+    }
+
+    /**
+     * Returns the number of indices assigned so far. All assigned indices are smaller than this value.
+     *
+     * @return the number of known interaction types
+     */
+    public static int size() {
+        return NEXT_INDEX.get();
+    }
+}
@@ -61,6 +61,16 @@ public interface RtiAmbassador extends Interactable {
      */
     long getNextEventTimestamp() throws IllegalValueException;
 
+    /**
+     * Checks if other federates may still send interactions to this federate which must be delivered
+     * before the requested time advance with the given time and priority, i.e. which are due until the given time.
+     *
+     * @param time     the requested time in [ns]
+     * @param priority the priority of the requested time advance
+     * @return {@code true}, if interactions due until the given time advance may still be received
+     */
+    boolean mayReceiveInteractionsBefore(long time, byte priority);
+
     /**
      * Provides the list of the subscribed interactions.
      *
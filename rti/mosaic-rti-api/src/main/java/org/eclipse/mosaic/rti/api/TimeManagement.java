@@ -107,4 +107,17 @@ public interface TimeManagement {
      * @throws IllegalValueException a parameter has an invalid value
      */
     long getNextEventTimestamp() throws IllegalValueException;
+
+    /**
+     * Checks if federates other than the given one may still send interactions which must be delivered before an event
+     * with the given time and priority, i.e. which are due until the given time. This is the case, if any other time
+     * regulating federate has a pending event or is currently advancing to a time, which is processed before such event
+     * and from which on the federate may send interactions until the given time considering its lookahead.
+     *
+     * @param federateId identifier of the federate receiving the interactions
+     * @param time       the requested time of the event of the federate in [ns]
+     * @param priority   the priority of the event of the federate
+     * @return {@code true}, if other federates may still send interactions which must be delivered before the given event
+     */
+    boolean mayReceiveInteractionsBefore(String federateId, long time, byte priority);
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InteractionHandlerTableTest {
+
+    private final List<Interaction> handled = new ArrayList<>();
+
+    @Test
+    public void dispatchToRegisteredHandler() throws InternalFederateException {
+        final InteractionHandlerTable handlers = new InteractionHandlerTable()
+                .register(TestInteraction.class, handled::add);
+
+        final TestInteraction interaction = new TestInteraction();
+        assertTrue(handlers.canHandle(interaction));
+        assertTrue(handlers.dispatch(interaction));
+        assertEquals(1, handled.size());
+        assertEquals(interaction, handled.get(0));
+    }
+
+    @Test
+    public void dispatchWithoutHandler() throws InternalFederateException {
+        final InteractionHandlerTable handlers = new InteractionHandlerTable()
+                .register(TestInteraction.class, handled::add);
+
+        final OtherInteraction interaction = new OtherInteraction();
+        assertFalse(handlers.canHandle(interaction));
+        assertFalse(handlers.dispatch(interaction));
+        assertTrue(handled.isEmpty());
+    }
+
+    @Test
+    public void dispatchByTypeIdOfSubclass() throws InternalFederateException {
+        // subclasses which keep the type identifier of their parent are handled by the handler of the parent type
+        final InteractionHandlerTable handlers = new InteractionHandlerTable()
+                .register(OtherInteraction.class, handled::add);
+
+        assertTrue(handlers.dispatch(new OtherInteraction() {
+            @Override
+            public String getTypeId() {
+                return OtherInteraction.TYPE_ID;
+            }
+        }));
+        assertEquals(1, handled.size());
+    }
+
+    private static class OtherInteraction extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final String TYPE_ID = createTypeIdentifier(OtherInteraction.class);
+
+        private OtherInteraction() {
+            super(0);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test for the {@link AbstractFederateAmbassador.InteractionQueue}.
+ */
+public class InteractionQueueTest {
+
+    private final AbstractFederateAmbassador.InteractionQueue queue = new AbstractFederateAmbassador.InteractionQueue();
+
+    @Test
+    public void pollInteractions_sortedUntilTime() {
+        queue.add(new TimedInteraction(30));
+        queue.add(new TimedInteraction(10));
+        queue.add(new TimedInteraction(20));
+        queue.add(new TimedInteraction(10));
+
+        List<Interaction> batch = queue.pollInteractions(20);
+        assertEquals(3, batch.size());
+        assertEquals(10, batch.get(0).getTime());
+        assertEquals(10, batch.get(1).getTime());
+        assertTrue(batch.get(0).getId() < batch.get(1).getId());
+        assertEquals(20, batch.get(2).getTime());
+        assertFalse(queue.isEmpty());
+
+        assertTrue(queue.pollInteractions(20).isEmpty());
+
+        queue.add(new TimedInteraction(25));
+        batch = queue.pollInteractions(30);
+        assertEquals(2, batch.size());
+        assertEquals(25, batch.get(0).getTime());
+        assertEquals(30, batch.get(1).getTime());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void hasInteractionsUntil() {
+        queue.add(new TimedInteraction(30));
+        queue.add(new TimedInteraction(20));
+
+        assertFalse(queue.hasInteractionsUntil(10));
+        assertTrue(queue.hasInteractionsUntil(20));
+
+        List<Interaction> batch = queue.pollInteractions(20);
+        assertEquals(1, batch.size());
+        assertFalse(queue.hasInteractionsUntil(20));
+        assertTrue(queue.hasInteractionsUntil(30));
+    }
+
+    @Test
+    public void concurrentProducers() throws Exception {
+        final List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            producers.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    queue.add(new TimedInteraction(i % 100));
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        final List<Interaction> batch = queue.pollInteractions(49);
+        assertEquals(2000, batch.size());
+        for (int i = 1; i < batch.size(); i++) {
+            assertTrue(batch.get(i - 1).compareTo(batch.get(i)) < 0);
+        }
+        assertEquals(2000, queue.pollInteractions(Long.MAX_VALUE).size());
+        assertTrue(queue.isEmpty());
+    }
+
+    private static class TimedInteraction extends Interaction {
+
+        private static final long serialVersionUID = 1L;
+
+        private TimedInteraction(long time) {
+            super(time);
+        }
+    }
+}
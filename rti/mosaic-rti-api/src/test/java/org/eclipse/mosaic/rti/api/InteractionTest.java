@@ -16,6 +16,8 @@
 package org.eclipse.mosaic.rti.api;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertNotEquals;
 
 import org.junit.Test;
 
@@ -30,6 +32,17 @@ public class InteractionTest {
         assertEquals("InteractionTest.InlineInteraction", new InlineInteraction().getTypeId());
     }
 
+    @Test
+    public void getTypeIndex() {
+        final int typeIndex = new TestInteraction().getTypeIndex();
+
+        assertEquals(typeIndex, new TestInteraction().getTypeIndex());
+        assertEquals(typeIndex, InteractionTypeRegistry.getTypeIndex(TestInteraction.class));
+        assertEquals(typeIndex, InteractionTypeRegistry.getTypeIndex("TestInteraction"));
+        assertNotEquals(typeIndex, new InlineInteraction().getTypeIndex());
+        assertTrue(typeIndex < InteractionTypeRegistry.size());
+    }
+
     @Test
     public void compareTo() {
         InlineInteraction a = new InlineInteraction();
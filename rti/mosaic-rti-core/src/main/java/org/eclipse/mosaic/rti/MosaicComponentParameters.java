@@ -17,6 +17,26 @@ package org.eclipse.mosaic.rti;
 
 public class MosaicComponentParameters {
 
+    /**
+     * Available implementations of the {@link org.eclipse.mosaic.rti.api.TimeManagement}.
+     */
+    public enum TimeManagementType {
+        /**
+         * Advances one federate after another, see {@link org.eclipse.mosaic.rti.time.SequentialTimeManagement}.
+         */
+        SEQUENTIAL,
+        /**
+         * Advances federates with equal priority and overlapping lookahead in parallel,
+         * see {@link org.eclipse.mosaic.rti.time.MultiThreadedTimeManagement}.
+         */
+        MULTI_THREADED,
+        /**
+         * Advances all federates in parallel whose next event lies below the lower bound on time stamps
+         * of all other federates, see {@link org.eclipse.mosaic.rti.time.ConservativeTimeManagement}.
+         */
+        CONSERVATIVE
+    }
+
     /**
      * unique string identifying a federation.
      */
@@ -37,11 +57,29 @@ public class MosaicComponentParameters {
      */
     private double realTimeBreak = 0;
 
+    /**
+     * If {@code true}, the realtime break paces the simulation against absolute deadlines
+     * instead of sleeping in slices of a few milliseconds.
+     */
+    private boolean preciseRealTimeBreak = false;
+
     /**
      * Defines the number of threads to use when executing time advance of ambassadors
      */
     private int numberOfThreads = 1;
 
+    /**
+     * The time management implementation to use. If not set, the implementation is chosen
+     * based on the number of threads.
+     */
+    private TimeManagementType timeManagementType = null;
+
+    /**
+     * Number of threads used to deliver a published interaction to several subscribed federates concurrently.
+     * If set to {@code 0}, interactions are delivered sequentially by the publishing thread.
+     */
+    private int numberOfInteractionDeliveryThreads = 0;
+
     public String getFederationId() {
         return federationId;
     }
@@ -69,6 +107,15 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public boolean isPreciseRealTimeBreak() {
+        return preciseRealTimeBreak;
+    }
+
+    public MosaicComponentParameters setPreciseRealTimeBreak(boolean preciseRealTimeBreak) {
+        this.preciseRealTimeBreak = preciseRealTimeBreak;
+        return this;
+    }
+
     public Long getRandomSeed() {
         return randomSeed;
     }
@@ -87,4 +134,22 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public TimeManagementType getTimeManagementType() {
+        return timeManagementType;
+    }
+
+    public MosaicComponentParameters setTimeManagementType(TimeManagementType timeManagementType) {
+        this.timeManagementType = timeManagementType;
+        return this;
+    }
+
+    public int getNumberOfInteractionDeliveryThreads() {
+        return numberOfInteractionDeliveryThreads;
+    }
+
+    public MosaicComponentParameters setNumberOfInteractionDeliveryThreads(int threads) {
+        this.numberOfInteractionDeliveryThreads = threads;
+        return this;
+    }
+
 }
@@ -17,7 +17,9 @@ package org.eclipse.mosaic.rti;
 
 import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.FederationManagement;
 import org.eclipse.mosaic.rti.api.InteractionManagement;
 import org.eclipse.mosaic.rti.api.Monitor;
@@ -27,12 +29,16 @@ import org.eclipse.mosaic.rti.federation.DistributedFederationManagement;
 import org.eclipse.mosaic.rti.federation.LocalFederationManagement;
 import org.eclipse.mosaic.rti.interaction.TypeBasedInteractionManagement;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
+import org.eclipse.mosaic.rti.monitor.ProfilingMonitor;
+import org.eclipse.mosaic.rti.time.ConservativeTimeManagement;
 import org.eclipse.mosaic.rti.time.MultiThreadedTimeManagement;
 import org.eclipse.mosaic.rti.time.SequentialTimeManagement;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 
 /**
@@ -57,6 +63,8 @@ public class MosaicComponentProvider implements ComponentProvider {
     private final InteractionManagement interactionManagement;
     private final Monitor monitor;
 
+    private final Map<String, MosaicRtiAmbassador> rtiAmbassadors = new ConcurrentHashMap<>();
+
     /**
      * Creates instances for the {@link FederationManagement}, {@link TimeManagement}, and {@link InteractionManagement}
      * which are provided by this class further on.
@@ -74,15 +82,25 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected TimeManagement createTimeManagement(MosaicComponentParameters componentParameters) {
-        if (componentParameters.getNumberOfThreads() > 1) {
-            return new MultiThreadedTimeManagement(this, componentParameters);
-        } else {
-            return new SequentialTimeManagement(this, componentParameters);
+        MosaicComponentParameters.TimeManagementType type = componentParameters.getTimeManagementType();
+        if (type == null) {
+            type = componentParameters.getNumberOfThreads() > 1
+                    ? MosaicComponentParameters.TimeManagementType.MULTI_THREADED
+                    : MosaicComponentParameters.TimeManagementType.SEQUENTIAL;
+        }
+        switch (type) {
+            case CONSERVATIVE:
+                return new ConservativeTimeManagement(this, componentParameters);
+            case MULTI_THREADED:
+                return new MultiThreadedTimeManagement(this, componentParameters);
+            case SEQUENTIAL:
+            default:
+                return new SequentialTimeManagement(this, componentParameters);
         }
     }
 
     protected InteractionManagement createInteractionManagement(MosaicComponentParameters componentParameters) {
-        return new TypeBasedInteractionManagement(this);
+        return new TypeBasedInteractionManagement(this, componentParameters.getNumberOfInteractionDeliveryThreads());
     }
 
     protected FederationManagement createFederationManagement(MosaicComponentParameters componentParameters) {
@@ -91,8 +109,11 @@ public class MosaicComponentProvider implements ComponentProvider {
 
     protected Monitor createMonitor(MosaicComponentParameters componentParameters) {
         Logger activityLog = LoggerFactory.getLogger("activities");
+        Logger profilingLog = LoggerFactory.getLogger("profiling");
         if (activityLog != null && activityLog.isInfoEnabled()) {
             return new ActivityLoggingMonitor(activityLog);
+        } else if (profilingLog != null && profilingLog.isInfoEnabled()) {
+            return new ProfilingMonitor(profilingLog, TIME.SECOND);
         } else {
             return new Monitor() {};
         }
@@ -131,7 +152,28 @@ public class MosaicComponentProvider implements ComponentProvider {
     @Nonnull
     @Override
     public RtiAmbassador createRtiAmbassador(String federateId) {
-        return new MosaicRtiAmbassador(this, federateId);
+        final MosaicRtiAmbassador rtiAmbassador = new MosaicRtiAmbassador(this, federateId);
+        rtiAmbassadors.put(federateId, rtiAmbassador);
+        return rtiAmbassador;
+    }
+
+    /**
+     * Summarizes the contention recorded by the {@link MosaicRtiAmbassador} of the federate
+     * for time advance requests and interactions, and by its ambassador for time advances.
+     */
+    @Override
+    public String getContentionSummary(String federateId) {
+        final MosaicRtiAmbassador rtiAmbassador = rtiAmbassadors.get(federateId);
+        if (rtiAmbassador == null) {
+            return null;
+        }
+        final FederateAmbassador ambassador = federationManagement.getAmbassador(federateId);
+        return String.format("requestAdvanceTime (%s), triggerInteraction (%s), advanceTime (%s)",
+                rtiAmbassador.getTimeAdvanceRequestContention(),
+                rtiAmbassador.getInteractionContention(),
+                ambassador instanceof AbstractFederateAmbassador
+                        ? ((AbstractFederateAmbassador) ambassador).getAdvanceTimeContention() : "n/a"
+        );
     }
 
     @Nonnull
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.rti;
 
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.ContentionCounter;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -31,12 +32,19 @@ import javax.annotation.Nonnull;
 /**
  * Implementation of <code>RtiAmbassador</code> that forwards all requests to
  * responsible service bundle.
+ *
+ * <p>All methods may be called concurrently by several threads of the same federate. This ambassador does not
+ * hold any mutable state itself, but relies on the thread-safety of the time management and the interaction
+ * management, thus, concurrent calls do not block each other. The number of overlapping calls is recorded
+ * to assess the concurrency of federates.</p>
  */
 public class MosaicRtiAmbassador implements RtiAmbassador {
 
     private final String federateId;
     private final ComponentProvider componentProvider;
 
+    private final ContentionCounter timeAdvanceRequestContention = new ContentionCounter();
+    private final ContentionCounter interactionContention = new ContentionCounter();
 
     public MosaicRtiAmbassador(ComponentProvider componentProvider, String federateId) {
         this.federateId = federateId;
@@ -44,41 +52,78 @@ public class MosaicRtiAmbassador implements RtiAmbassador {
     }
 
     @Override
-    public synchronized void requestAdvanceTime(long time) throws IllegalValueException {
+    public void requestAdvanceTime(long time) throws IllegalValueException {
         requestAdvanceTime(time, 0, FederatePriority.LOWEST);
     }
 
     @Override
-    public synchronized void requestAdvanceTime(long time, long lookahead, byte priority) throws IllegalValueException {
-        componentProvider.getTimeManagement().requestAdvanceTime(federateId, time, lookahead, priority);
+    public void requestAdvanceTime(long time, long lookahead, byte priority) throws IllegalValueException {
+        timeAdvanceRequestContention.enter();
+        try {
+            componentProvider.getTimeManagement().requestAdvanceTime(federateId, time, lookahead, priority);
+        } finally {
+            timeAdvanceRequestContention.exit();
+        }
     }
 
     @Override
-    public synchronized void triggerInteraction(Interaction interaction) throws IllegalValueException, InternalFederateException {
-        // Attach sender information to interaction
-        interaction.setSenderId(federateId);
-        componentProvider.getInteractionManagement().publishInteraction(interaction);
+    public void triggerInteraction(Interaction interaction) throws IllegalValueException, InternalFederateException {
+        interactionContention.enter();
+        try {
+            // Attach sender information to interaction
+            interaction.setSenderId(federateId);
+            componentProvider.getInteractionManagement().publishInteraction(interaction);
+        } finally {
+            interactionContention.exit();
+        }
     }
 
     @Override
-    public synchronized long getNextEventTimestamp() throws IllegalValueException {
+    public long getNextEventTimestamp() throws IllegalValueException {
         return componentProvider.getTimeManagement().getNextEventTimestamp();
     }
 
     @Override
-    public synchronized ImmutableCollection<String> getSubscribedInteractions() {
+    public boolean mayReceiveInteractionsBefore(long time, byte priority) {
+        return componentProvider.getTimeManagement().mayReceiveInteractionsBefore(federateId, time, priority);
+    }
+
+    @Override
+    public ImmutableCollection<String> getSubscribedInteractions() {
         return componentProvider.getInteractionManagement().getSubscribedInteractions(federateId);
     }
 
     @Nonnull
     @Override
-    public synchronized RandomNumberGenerator createRandomNumberGenerator() {
+    public RandomNumberGenerator createRandomNumberGenerator() {
         return componentProvider.createRandomNumberGenerator();
     }
 
     @Nonnull
     @Override
-    public synchronized Monitor getMonitor() {
+    public Monitor getMonitor() {
         return componentProvider.getMonitor();
     }
+
+    public String getFederateId() {
+        return federateId;
+    }
+
+    /**
+     * Returns the statistics about concurrent calls of {@link #requestAdvanceTime}.
+     *
+     * @return the contention statistics of time advance requests
+     */
+    public ContentionCounter getTimeAdvanceRequestContention() {
+        return timeAdvanceRequestContention;
+    }
+
+    /**
+     * Returns the statistics about concurrent calls of {@link #triggerInteraction}.
+     *
+     * @return the contention statistics of published interactions
+     */
+    public ContentionCounter getInteractionContention() {
+        return interactionContention;
+    }
 }
@@ -15,32 +15,60 @@
 
 package org.eclipse.mosaic.rti.interaction;
 
+import org.eclipse.mosaic.lib.util.metrics.Counter;
+import org.eclipse.mosaic.lib.util.metrics.LatencyHistogram;
+import org.eclipse.mosaic.lib.util.metrics.MetricsRegistry;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.InteractionTypeRegistry;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * This implementation of {@link InteractionManagement} allows a type based message subscription.
+ *
+ * <p>If created with a number of delivery threads greater than 0, a published interaction is delivered to all
+ * of its subscribers concurrently. The publishing thread takes part in the delivery and returns only after all
+ * subscribers have received the interaction, thus, each subscriber receives the interactions of a publisher in
+ * the order they were published. The number of deliveries running on the delivery threads is limited by the number
+ * of threads. If no thread is available, e.g. since subscribers publish interactions themselves during delivery,
+ * the interaction is delivered by the publishing thread.</p>
  */
 public class TypeBasedInteractionManagement implements InteractionManagement {
 
     private final static Logger LOG = LoggerFactory.getLogger(TypeBasedInteractionManagement.class);
 
+    /**
+     * Name of the histograms measuring the duration of publishing interactions per interaction type.
+     */
+    public final static String METRIC_PUBLISH_INTERACTION = "rti.publishInteraction";
+
+    /**
+     * Name of the counters of interactions received per federate.
+     */
+    public final static String METRIC_RECEIVED_INTERACTIONS = "federate.receivedInteractions";
+
     /**
      * mapping between an interaction type id and a list of subscribed ambassadors.
      */
@@ -48,8 +76,53 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
 
     protected final ComponentProvider federation;
 
+    /**
+     * Copy of {@link #interactionAmbassadorMap} used for publishing interactions, which is rebuilt whenever
+     * subscriptions change. The subscribed ambassadors are indexed by the type index of the interaction
+     * as assigned by the {@link InteractionTypeRegistry}, entries of types without subscribers are {@code null}.
+     */
+    private volatile Subscriber[][] routingTable = new Subscriber[0][];
+
+    /**
+     * Counters of {@link #METRIC_RECEIVED_INTERACTIONS} of all subscribed federates, which are looked up once
+     * per federate when the {@link #routingTable} is rebuilt after its first subscription.
+     */
+    private final Map<FederateAmbassador, Counter> receivedInteractionCounters = new HashMap<>();
+
+    /**
+     * Histograms of {@link #METRIC_PUBLISH_INTERACTION}, indexed by the type index of the interaction.
+     */
+    private volatile LatencyHistogram[] publishHistograms = new LatencyHistogram[0];
+
+    private final ExecutorService deliveryExecutor;
+
+    /**
+     * Limits the number of deliveries running on the {@link #deliveryExecutor}.
+     */
+    private final Semaphore deliverySlots;
+
     public TypeBasedInteractionManagement(ComponentProvider federation) {
+        this(federation, 0);
+    }
+
+    /**
+     * Creates a new {@link TypeBasedInteractionManagement}.
+     *
+     * @param federation         the component provider of the federation
+     * @param deliveryThreads    number of threads used to deliver interactions to several subscribers concurrently,
+     *                           {@code 0} to deliver interactions sequentially on the publishing thread
+     */
+    public TypeBasedInteractionManagement(ComponentProvider federation, int deliveryThreads) {
         this.federation = federation;
+        if (deliveryThreads > 0) {
+            this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads,
+                    new ThreadFactoryBuilder().setNameFormat("InteractionDelivery-%d").setDaemon(true).build()
+            );
+            this.deliverySlots = new Semaphore(deliveryThreads);
+        } else {
+            this.deliveryExecutor = null;
+            this.deliverySlots = null;
+        }
     }
 
     @Override
@@ -72,6 +145,7 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
         for (List<FederateAmbassador> ambassadorMessageMapping : interactionAmbassadorMap.values()) {
             Collections.sort(ambassadorMessageMapping);
         }
+        updateRoutingTable();
     }
 
     @Override
@@ -82,7 +156,25 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
                     interactionAmbassadorMap.get(intId).remove(federation.getFederationManagement().getAmbassador(federateId));
                 }
             }
+            updateRoutingTable();
+        }
+    }
+
+    private void updateRoutingTable() {
+        Subscriber[][] routes = new Subscriber[InteractionTypeRegistry.size()][];
+        for (Map.Entry<String, List<FederateAmbassador>> entry : interactionAmbassadorMap.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                final int typeIndex = InteractionTypeRegistry.getTypeIndex(entry.getKey());
+                if (typeIndex >= routes.length) {
+                    routes = Arrays.copyOf(routes, typeIndex + 1);
+                }
+                routes[typeIndex] = entry.getValue().stream()
+                        .map(ambassador -> new Subscriber(ambassador, receivedInteractionCounters.computeIfAbsent(ambassador,
+                                a -> MetricsRegistry.getInstance().counter(METRIC_RECEIVED_INTERACTIONS, a.getId()))))
+                        .toArray(Subscriber[]::new);
+            }
         }
+        routingTable = routes;
     }
 
     @Override
@@ -100,21 +192,113 @@ public class TypeBasedInteractionManagement implements InteractionManagement {
 
     @Override
     public void publishInteraction(Interaction interaction) throws InternalFederateException {
+        final long startNs = System.nanoTime();
+        try {
+            publishInteractionToSubscribers(interaction);
+        } finally {
+            getPublishHistogram(interaction).recordSince(startNs);
+        }
+    }
+
+    private LatencyHistogram getPublishHistogram(Interaction interaction) {
+        final int typeIndex = interaction.getTypeIndex();
+        final LatencyHistogram[] histograms = publishHistograms;
+        if (typeIndex < histograms.length && histograms[typeIndex] != null) {
+            return histograms[typeIndex];
+        }
+        synchronized (this) {
+            final LatencyHistogram[] extended = Arrays.copyOf(publishHistograms,
+                    Math.max(publishHistograms.length, Math.max(typeIndex + 1, InteractionTypeRegistry.size())));
+            extended[typeIndex] = MetricsRegistry.getInstance().histogram(METRIC_PUBLISH_INTERACTION, interaction.getTypeId());
+            publishHistograms = extended;
+            return extended[typeIndex];
+        }
+    }
+
+    private void publishInteractionToSubscribers(Interaction interaction) throws InternalFederateException {
         federation.getMonitor().onInteraction(interaction);
 
-        List<FederateAmbassador> ambassadors = this.interactionAmbassadorMap.get(interaction.getTypeId());
-        if (ambassadors == null || ambassadors.isEmpty()) {
+        final Subscriber[][] routes = this.routingTable;
+        final int typeIndex = interaction.getTypeIndex();
+        final Subscriber[] subscribers = typeIndex < routes.length ? routes[typeIndex] : null;
+        if (subscribers == null) {
             return;
         }
 
-        for (FederateAmbassador ambassador : ambassadors) {
+        if (deliveryExecutor == null || subscribers.length == 1) {
+            for (Subscriber subscriber : subscribers) {
+                deliver(subscriber, interaction);
+            }
+            return;
+        }
+
+        final List<Future<?>> pendingDeliveries = new ArrayList<>(subscribers.length - 1);
+        Throwable failure = null;
+        try {
+            // all but the last ambassador are delivered by the delivery threads, if available
+            for (int i = 0; i < subscribers.length - 1; i++) {
+                final Subscriber subscriber = subscribers[i];
+                if (deliverySlots.tryAcquire()) {
+                    pendingDeliveries.add(deliveryExecutor.submit(() -> {
+                        try {
+                            deliver(subscriber, interaction);
+                        } finally {
+                            deliverySlots.release();
+                        }
+                        return null;
+                    }));
+                } else {
+                    deliver(subscriber, interaction);
+                }
+            }
+            deliver(subscribers[subscribers.length - 1], interaction);
+        } catch (InternalFederateException | RuntimeException e) {
+            failure = e;
+        }
+
+        // wait for all deliveries, even if one has failed, since subscribers may still be processing the interaction
+        for (Future<?> delivery : pendingDeliveries) {
             try {
-                federation.getMonitor().onReceiveInteraction(ambassador.getId(), interaction);
-                ambassador.receiveInteraction(interaction);
-            } catch (InternalFederateException e) {
-                LOG.error("Error during interaction distribution", e);
-                throw e;
+                delivery.get();
+            } catch (ExecutionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalFederateException(e);
             }
         }
+        if (failure instanceof InternalFederateException) {
+            throw (InternalFederateException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+
+    private void deliver(Subscriber subscriber, Interaction interaction) throws InternalFederateException {
+        try {
+            federation.getMonitor().onReceiveInteraction(subscriber.ambassador.getId(), interaction);
+            subscriber.receivedInteractions.increment();
+            subscriber.ambassador.receiveInteraction(interaction);
+        } catch (InternalFederateException e) {
+            LOG.error("Error during interaction distribution", e);
+            throw e;
+        }
+    }
+
+    /**
+     * A subscribed federate along with the counter of interactions it has received.
+     */
+    private static final class Subscriber {
+
+        private final FederateAmbassador ambassador;
+
+        private final Counter receivedInteractions;
+
+        private Subscriber(FederateAmbassador ambassador, Counter receivedInteractions) {
+            this.ambassador = ambassador;
+            this.receivedInteractions = receivedInteractions;
+        }
     }
 }
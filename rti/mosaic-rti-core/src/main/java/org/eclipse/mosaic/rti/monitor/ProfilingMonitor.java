@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Monitor which profiles the time advances of all federates with a bounded memory footprint. The wall clock
+ * time spent in {@link FederateAmbassador#advanceTime} is aggregated per federate and per simulation time window.
+ * For each window, the federate with the longest busy time is considered as the bottleneck of this window, which
+ * all other federates have to wait for. Summing up the busy times of the bottlenecks results in the critical path
+ * of the simulation, which bounds the achievable real-time factor.
+ *
+ * <p>At most {@value #MAX_WINDOWS} windows are kept. If this limit is reached, adjacent windows are merged and
+ * the window size is doubled. At the end of the simulation, a report in CSV format (separated by {@code ;}) is written
+ * to the given logger, which consists of the following lines:</p>
+ * <ul>
+ *     <li>{@code FED;id;events;busyNs;idleNs;waitingNs;criticalPathNs;criticalPathShare;maxEventNs} for each federate</li>
+ *     <li>{@code WIN;simStartNs;simEndNs;wallNs;bottleneck;busyNs...} for each window, with the busy time of each federate</li>
+ *     <li>{@code SIM;simulationTimeNs;wallNs;realTimeFactor;criticalPathNs;maxRealTimeFactor;boundingFederate}</li>
+ * </ul>
+ */
+public class ProfilingMonitor implements Monitor {
+
+    /**
+     * Maximum number of simulation time windows kept in memory.
+     */
+    static final int MAX_WINDOWS = 1024;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    /**
+     * Logger for writing out the profiling report.
+     */
+    private final Logger out;
+
+    private final LongSupplier nanoClock;
+
+    private final Map<String, FederateProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Profiles in the order of their index, only accessed while holding the lock of this monitor.
+     */
+    private final List<FederateProfile> profilesByIndex = new ArrayList<>();
+
+    private final Window[] windows = new Window[MAX_WINDOWS];
+
+    private int windowCount = 0;
+
+    private long windowSize;
+
+    private long simulationStartNs;
+
+    private long criticalPathNs;
+
+    public ProfilingMonitor(Logger profilingLogger, long windowSize) {
+        this(profilingLogger, windowSize, System::nanoTime);
+    }
+
+    ProfilingMonitor(Logger profilingLogger, long windowSize, LongSupplier nanoClock) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("The window size must be positive.");
+        }
+        this.out = profilingLogger;
+        this.windowSize = windowSize;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public synchronized void onBeginSimulation(FederationManagement fm, TimeManagement tm, int numberOfThreads) {
+        for (FederateAmbassador federate : fm.getAmbassadors()) {
+            register(getProfile(federate.getId()));
+        }
+        simulationStartNs = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void onBeginActivity(FederateEvent event) {
+        // a federate is advanced by one thread at a time, thus, begin and end of an activity are confined to this thread
+        getProfile(event.getFederateId()).activityStartNs = nanoClock.getAsLong();
+    }
+
+    @Override
+    public void onEndActivity(FederateEvent event, long durationMs) {
+        final long endNs = nanoClock.getAsLong();
+        final FederateProfile profile = getProfile(event.getFederateId());
+        record(profile, event.getRequestedTime(), profile.activityStartNs, endNs);
+    }
+
+    @Override
+    public void onEndSimulation(FederationManagement fm, TimeManagement tm, long durationInMs, int statusCode) {
+        for (String line : createReport(tm.getSimulationTime())) {
+            out.info(line);
+        }
+    }
+
+    private FederateProfile getProfile(String federateId) {
+        return profiles.computeIfAbsent(federateId, FederateProfile::new);
+    }
+
+    private void register(FederateProfile profile) {
+        if (profile.index < 0) {
+            profile.index = profilesByIndex.size();
+            profilesByIndex.add(profile);
+        }
+    }
+
+    private synchronized void record(FederateProfile profile, long simulationTime, long startNs, long endNs) {
+        register(profile);
+        final long durationNs = Math.max(0, endNs - startNs);
+        profile.events++;
+        profile.busyNs += durationNs;
+        profile.maxEventNs = Math.max(profile.maxEventNs, durationNs);
+
+        if (windowCount == 0) {
+            openWindow(simulationTime, startNs, Long.MIN_VALUE);
+        }
+        Window current = windows[windowCount - 1];
+        if (simulationTime >= current.simEnd) {
+            closeWindow(current, startNs);
+            openWindow(simulationTime, startNs, current.simEnd);
+            current = windows[windowCount - 1];
+        }
+        // activities ending after their window has been closed are counted for the current window
+        current.addBusy(profile.index, durationNs);
+    }
+
+    private void openWindow(long simulationTime, long nowNs, long previousEnd) {
+        if (windowCount == MAX_WINDOWS) {
+            mergeWindows();
+        }
+        final long simStart = Math.max(previousEnd, Math.floorDiv(simulationTime, windowSize) * windowSize);
+        windows[windowCount++] = new Window(simStart, simStart + windowSize, nowNs);
+    }
+
+    /**
+     * Calculates the wall clock time of the given window, and attributes its critical path to
+     * the bottleneck federate, and waiting times to all other federates.
+     */
+    private void closeWindow(Window window, long nowNs) {
+        window.wallNs = Math.max(0, nowNs - window.openedNs);
+        final int bottleneck = window.getBottleneck();
+        if (bottleneck < 0) {
+            return;
+        }
+        final long windowCriticalPathNs = window.getBusy(bottleneck);
+        criticalPathNs += windowCriticalPathNs;
+        for (FederateProfile profile : profilesByIndex) {
+            profile.waitingNs += windowCriticalPathNs - window.getBusy(profile.index);
+        }
+        profilesByIndex.get(bottleneck).criticalPathNs += windowCriticalPathNs;
+    }
+
+    /**
+     * Merges pairs of adjacent windows and doubles the size of all windows created from now on.
+     */
+    private void mergeWindows() {
+        for (int i = 0; i < windowCount / 2; i++) {
+            windows[i] = windows[2 * i].merge(windows[2 * i + 1]);
+        }
+        Arrays.fill(windows, windowCount / 2, windowCount, null);
+        windowCount /= 2;
+        windowSize *= 2;
+    }
+
+    synchronized List<String> createReport(long simulationTime) {
+        final long nowNs = nanoClock.getAsLong();
+        if (windowCount > 0 && windows[windowCount - 1].wallNs < 0) {
+            closeWindow(windows[windowCount - 1], nowNs);
+        }
+        final long wallNs = Math.max(0, nowNs - simulationStartNs);
+
+        final List<String> lines = new ArrayList<>();
+        FederateProfile boundingFederate = null;
+        for (FederateProfile profile : profilesByIndex) {
+            lines.add(String.join(";", "FED",
+                    profile.federateId,
+                    Long.toString(profile.events),
+                    Long.toString(profile.busyNs),
+                    Long.toString(Math.max(0, wallNs - profile.busyNs)),
+                    Long.toString(profile.waitingNs),
+                    Long.toString(profile.criticalPathNs),
+                    format(ratio(profile.criticalPathNs, criticalPathNs)),
+                    Long.toString(profile.maxEventNs)
+            ));
+            if (boundingFederate == null || profile.criticalPathNs > boundingFederate.criticalPathNs) {
+                boundingFederate = profile;
+            }
+        }
+
+        final StringBuilder windowHeader = new StringBuilder("WIN;simStartNs;simEndNs;wallNs;bottleneck");
+        profilesByIndex.forEach(profile -> windowHeader.append(';').append(profile.federateId));
+        lines.add(windowHeader.toString());
+        for (int i = 0; i < windowCount; i++) {
+            final Window window = windows[i];
+            final int bottleneck = window.getBottleneck();
+            final StringBuilder line = new StringBuilder("WIN")
+                    .append(';').append(window.simStart)
+                    .append(';').append(window.simEnd)
+                    .append(';').append(window.wallNs)
+                    .append(';').append(bottleneck >= 0 ? profilesByIndex.get(bottleneck).federateId : "");
+            for (int f = 0; f < profilesByIndex.size(); f++) {
+                line.append(';').append(window.getBusy(f));
+            }
+            lines.add(line.toString());
+        }
+
+        final String boundingFederateId = boundingFederate != null ? boundingFederate.federateId : "";
+        final double realTimeFactor = ratio(simulationTime, wallNs);
+        final double maxRealTimeFactor = ratio(simulationTime, criticalPathNs);
+        lines.add(String.join(";", "SIM",
+                Long.toString(simulationTime),
+                Long.toString(wallNs),
+                format(realTimeFactor),
+                Long.toString(criticalPathNs),
+                format(maxRealTimeFactor),
+                boundingFederateId
+        ));
+
+        if (boundingFederate != null) {
+            log.info("Real-time factor {} is bounded by federate {} ({}% of the critical path of {} ms)",
+                    format(realTimeFactor),
+                    boundingFederateId,
+                    format(100 * ratio(boundingFederate.criticalPathNs, criticalPathNs)),
+                    criticalPathNs / TIME.MILLI_SECOND
+            );
+        }
+        return lines;
+    }
+
+    private static double ratio(long dividend, long divisor) {
+        return divisor > 0 ? (double) dividend / divisor : 0d;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ENGLISH, "%.3f", value);
+    }
+
+    private static class FederateProfile {
+
+        private final String federateId;
+
+        private int index = -1;
+
+        private long activityStartNs;
+
+        private long events;
+        private long busyNs;
+        private long waitingNs;
+        private long criticalPathNs;
+        private long maxEventNs;
+
+        private FederateProfile(String federateId) {
+            this.federateId = federateId;
+        }
+    }
+
+    private static class Window {
+
+        private final long simStart;
+        private final long simEnd;
+        private final long openedNs;
+
+        /**
+         * Wall clock duration of this window, or {@code -1} if the window is still open.
+         */
+        private long wallNs = -1;
+
+        private long[] busyNs = new long[0];
+
+        private Window(long simStart, long simEnd, long openedNs) {
+            this.simStart = simStart;
+            this.simEnd = simEnd;
+            this.openedNs = openedNs;
+        }
+
+        private void addBusy(int federateIndex, long durationNs) {
+            if (federateIndex >= busyNs.length) {
+                busyNs = Arrays.copyOf(busyNs, federateIndex + 1);
+            }
+            busyNs[federateIndex] += durationNs;
+        }
+
+        private long getBusy(int federateIndex) {
+            return federateIndex < busyNs.length ? busyNs[federateIndex] : 0;
+        }
+
+        private int getBottleneck() {
+            int bottleneck = -1;
+            for (int i = 0; i < busyNs.length; i++) {
+                if (busyNs[i] > 0 && (bottleneck < 0 || busyNs[i] > busyNs[bottleneck])) {
+                    bottleneck = i;
+                }
+            }
+            return bottleneck;
+        }
+
+        private Window merge(Window next) {
+            final Window merged = new Window(simStart, next.simEnd, openedNs);
+            merged.wallNs = wallNs + next.wallNs;
+            merged.busyNs = Arrays.copyOf(busyNs, Math.max(busyNs.length, next.busyNs.length));
+            for (int i = 0; i < next.busyNs.length; i++) {
+                merged.busyNs[i] += next.busyNs[i];
+            }
+            return merged;
+        }
+    }
+}
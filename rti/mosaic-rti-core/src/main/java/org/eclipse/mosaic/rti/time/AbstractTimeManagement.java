@@ -15,8 +15,7 @@
 
 package org.eclipse.mosaic.rti.time;
 
-import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
-import org.eclipse.mosaic.lib.util.PerformanceMonitor;
+import org.eclipse.mosaic.lib.util.metrics.MetricsRegistry;
 import org.eclipse.mosaic.rti.ExternalWatchDog;
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
@@ -40,7 +39,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Observable;
-import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nonnull;
 
 /**
@@ -57,11 +56,24 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
 
     protected final static int STATUS_CODE_SUCCESS = 101;
 
+    /**
+     * Name of the histograms measuring the duration of time advances per federate.
+     */
+    public final static String METRIC_ADVANCE_TIME = "federate.advanceTime";
+
+    /**
+     * Interval in which all metrics are written to the performance log. Unit: [ms].
+     */
+    private final static long METRICS_EXPORT_INTERVAL = 10_000;
+
     protected static final DecimalFormat FORMAT_ONE_DIGIT = new DecimalFormat("#0.0", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
     protected static final DecimalFormat FORMAT_TWO_DIGIT = new DecimalFormat("0.00", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
     protected final Logger logger;
     private final Logger progressLogger;
+    private final Logger performanceLogger;
+
+    private ScheduledExecutorService metricsExport;
 
     private long lastLogTime = 0;
 
@@ -75,11 +87,19 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
      *     <li/> {@link FederateEvent#compareTo} orders events reversed as described FederatePriority
      *     <li/> maybe it's enough to just reverse the compareTo logic
      * </ul>
+     * Requesting new events does not require to synchronize on this queue.
      */
-    protected final Queue<FederateEvent> events;
+    protected final FederateEventCalendar events;
 
     protected final ComponentProvider federation;
 
+    private final FederateAdvancer federateAdvancer;
+
+    /**
+     * Slows down the simulation according to the configured realtime break.
+     */
+    protected final RealtimeSynchronisation realtimeSync;
+
     /**
      * The end time of the simulation.
      */
@@ -95,10 +115,15 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
 
     protected AbstractTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         this.progressLogger = LoggerFactory.getLogger("SimulationProgress");
+        this.performanceLogger = LoggerFactory.getLogger("performance");
         this.logger = LoggerFactory.getLogger(getClass());
-        this.events = new EfficientPriorityQueue<>();
+        this.events = new FederateEventCalendar();
         this.federation = federation;
+        this.federateAdvancer = new FederateAdvancer(federation);
         this.endTime = componentParameters.getEndTime();
+        this.realtimeSync = new RealtimeSynchronisation(
+                componentParameters.getRealTimeBreak(), componentParameters.isPreciseRealTimeBreak()
+        );
     }
 
     @Override
@@ -119,12 +144,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
                     federateId, time, this.time
             ));
         }
-        synchronized (this.events) {
-            FederateEvent e = new FederateEvent(federateId, time, lookahead, priority);
-            if (!this.events.contains(e)) {
-                this.events.add(e);
-            }
-        }
+        this.events.add(federateId, time, lookahead, priority);
     }
 
     /**
@@ -150,6 +170,39 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
         }
 
         simStartRealtimeNs = System.nanoTime();
+
+        if (performanceLogger.isInfoEnabled()) {
+            metricsExport = MetricsRegistry.getInstance().exportPeriodically(
+                    METRICS_EXPORT_INTERVAL, snapshot -> snapshot.log(performanceLogger)
+            );
+        }
+    }
+
+    /**
+     * Advances the federate of the given event to the given time, notifies the monitor, and records
+     * the duration of the time advance in the {@link MetricsRegistry}.
+     *
+     * @param event the scheduled event causing the time advance
+     * @param time  the time to advance the federate to
+     * @return {@code false}, if no ambassador is known for the federate of the event
+     * @throws InternalFederateException an exception inside of the federate occurs
+     */
+    protected boolean advanceFederate(FederateEvent event, long time) throws InternalFederateException {
+        return federateAdvancer.advance(event, time);
+    }
+
+    /**
+     * Marks the given event as granted after it has been removed from the event queue. Must be called
+     * while holding the lock of the event queue, and before the federate of the event is advanced.
+     *
+     * @param event the event which has been removed from the event queue
+     */
+    protected void grantEvent(FederateEvent event) {
+        federateAdvancer.grant(event);
+    }
+
+    FederateAdvancer getFederateAdvancer() {
+        return federateAdvancer;
     }
 
     @Override
@@ -164,13 +217,39 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
                 fed.finishSimulation();
             }
         } finally {
-            PerformanceMonitor.getInstance().logSummary(logger);
+            if (metricsExport != null) {
+                metricsExport.shutdownNow();
+                metricsExport = null;
+            }
+            if (performanceLogger.isInfoEnabled()) {
+                MetricsRegistry.getInstance().snapshot().log(performanceLogger);
+            }
+            logContentionSummary();
+            if (realtimeSync.isEnabled() && realtimeSync.isPrecise()) {
+                logger.info("Realtime synchronisation: {}", realtimeSync);
+            }
             // always print simulation finished even if federate throws exception on finishing
             printSimulationFinished(durationMs, statusCode);
             federation.getMonitor().onEndSimulation(federation.getFederationManagement(), this, durationMs, statusCode);
         }
     }
 
+    /**
+     * Logs for each federate how many calls to the RTI and how many time advances overlapped
+     * with another call of the same federate.
+     */
+    private void logContentionSummary() {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        for (FederateAmbassador ambassador : federation.getFederationManagement().getAmbassadors()) {
+            final String summary = federation.getContentionSummary(ambassador.getId());
+            if (summary != null) {
+                logger.debug("Contention of {}: {}", ambassador.getId(), summary);
+            }
+        }
+    }
+
     private void printSimulationFinished(long durationMs, int statusCode) {
         //Please leave the blanks there. They override the line completely.
         progressLogger.info("Simulating: {}ns ({}s) - {}%                                         \r",
@@ -202,13 +281,30 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
 
     @Override
     public long getNextEventTimestamp() throws IllegalValueException {
-        if (events.peek() != null) {
-            return events.peek().getRequestedTime();
+        final FederateEvent next = events.peek();
+        if (next != null) {
+            return next.getRequestedTime();
         } else {
             throw new IllegalValueException("No next event in queue.");
         }
     }
 
+    @Override
+    public boolean mayReceiveInteractionsBefore(String federateId, long time, byte priority) {
+        synchronized (this.events) {
+            // granted events must be checked first, since a federate requests its next event before its grant is removed
+            if (federateAdvancer.isGrantedBefore(federateId, time, priority)) {
+                return true;
+            }
+            for (FederateEvent event : this.events) {
+                if (!event.getFederateId().equals(federateId) && FederateAdvancer.maySendInteractionsUntil(event, time, priority)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     @Nonnull
     @Override
     public WatchDog startWatchDog(String simId, int maxIdleTime) {
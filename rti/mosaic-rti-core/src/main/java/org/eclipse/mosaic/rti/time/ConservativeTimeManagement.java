@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conservative parallel implementation of the {@link TimeManagement} interface. In each round, the
+ * lower bound on time stamps (LBTS) of every federate is computed from its pending events and their lookahead
+ * values. A federate declaring a lookahead {@code L} with an event at time {@code t} will neither schedule
+ * events nor send interactions earlier than {@code t + L}. Thus, all federates whose next event lies below the
+ * LBTS of all other federates can be advanced concurrently, regardless of their priority, without changing the
+ * result compared to the {@link SequentialTimeManagement}.
+ *
+ * <p>If all federates use a lookahead of 0, this implementation behaves exactly like the
+ * {@link SequentialTimeManagement}.</p>
+ */
+public class ConservativeTimeManagement extends AbstractTimeManagement {
+
+    private final FederateEventExecutor threadPool;
+
+    /**
+     * Earliest pending event and time bound per federate, reused in each round.
+     */
+    private final Map<String, FederateWindow> federateWindows = new HashMap<>();
+
+    private final List<FederateWindow> candidates = new ArrayList<>();
+
+    private int schedulingId = 0;
+
+    public ConservativeTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
+        super(federation, componentParameters);
+        this.threadPool = new WorkStealingThreadPool(federation, Math.max(1, componentParameters.getNumberOfThreads()));
+        this.threadPool.setEventQueue(new ScheduledEvents());
+    }
+
+    @Override
+    protected void prepareSimulationRun() throws IllegalValueException, InternalFederateException {
+        this.threadPool.setFederateAdvancer(getFederateAdvancer());
+        this.threadPool.initialize();
+        super.prepareSimulationRun();
+    }
+
+    /**
+     * Runs the simulation by advancing all federates in parallel, whose next events are safe to process.
+     *
+     * @throws InternalFederateException an exception inside of a joined federate occurs
+     * @throws IllegalValueException     a parameter has an invalid value
+     */
+    @Override
+    public void runSimulation() throws InternalFederateException, IllegalValueException {
+        federation.getMonitor().onBeginSimulation(
+                federation.getFederationManagement(),
+                this,
+                threadPool.getThreadCount()
+        );
+
+        this.prepareSimulationRun();
+
+        final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
+        final List<FederateEvent> grantedEvents = new ArrayList<>();
+        long currentRealtimeNs;
+
+        while (this.time <= getEndTime()) {
+            grantedEvents.clear();
+            synchronized (this.events) {
+                collectSafeEvents(grantedEvents);
+                if (grantedEvents.isEmpty()) {
+                    this.time = getEndTime();
+                    break;
+                }
+                // advance global time to the earliest granted event
+                this.time = grantedEvents.get(0).getRequestedTime();
+            }
+
+            // sync with real time before advancing any federate to the new time
+            if (this.time > 0) {
+                realtimeSync.sync(this.time);
+            }
+
+            if (grantedEvents.size() == 1) {
+                advanceFederate(grantedEvents.get(0), grantedEvents.get(0).getRequestedTime());
+            } else {
+                final int id = ++schedulingId;
+                for (FederateEvent event : grantedEvents) {
+                    this.logger.trace("Parallel execution: {} time={} lookahead={}",
+                            event.getFederateId(), event.getRequestedTime(), event.getLookahead());
+                    federation.getMonitor().onScheduling(id, event);
+                    this.threadPool.schedule(event);
+                }
+                this.threadPool.awaitCompletion();
+                if (this.threadPool.hasException()) {
+                    throw this.threadPool.getLastException();
+                }
+            }
+
+            // If no more events are in the list, the simulation can be skipped to the endTime.
+            if (this.events.isEmpty()) {
+                logger.debug("No events anymore, skipping to end time: {}", getEndTime());
+                advanceFederate(grantedEvents.get(grantedEvents.size() - 1), getEndTime());
+            }
+
+            currentRealtimeNs = System.nanoTime();
+
+            final PerformanceInformation performanceInformation =
+                    performanceCalculator.update(time, getEndTime(), currentRealtimeNs);
+
+            printProgress(currentRealtimeNs, performanceInformation);
+            updateWatchDog();
+        }
+
+        this.finishSimulationRun(STATUS_CODE_SUCCESS);
+    }
+
+    /**
+     * Determines all events which can be processed concurrently and removes them from the event queue.
+     * The resulting list is sorted in the order the {@link SequentialTimeManagement} would process
+     * the events. Must be called while holding the lock of the event queue.
+     *
+     * @param grantedEvents the list to fill with all events which are safe to process
+     */
+    private void collectSafeEvents(List<FederateEvent> grantedEvents) {
+        final FederateEvent head = this.events.peek();
+        if (head == null || head.getRequestedTime() > getEndTime()) {
+            return;
+        }
+
+        // find earliest event and lower bound on time stamps of each federate
+        federateWindows.values().forEach(FederateWindow::reset);
+        for (FederateEvent event : this.events) {
+            final FederateWindow window = federateWindows.computeIfAbsent(event.getFederateId(), k -> new FederateWindow());
+            window.add(event);
+        }
+
+        // determine the two smallest bounds, to calculate the minimum bound of all other federates in O(1)
+        FederateWindow minWindow = null;
+        long minBound = Long.MAX_VALUE;
+        long secondMinBound = Long.MAX_VALUE;
+        candidates.clear();
+        for (FederateWindow window : federateWindows.values()) {
+            if (window.earliest == null) {
+                continue;
+            }
+            candidates.add(window);
+            if (window.bound < minBound) {
+                secondMinBound = minBound;
+                minBound = window.bound;
+                minWindow = window;
+            } else if (window.bound < secondMinBound) {
+                secondMinBound = window.bound;
+            }
+        }
+
+        final FederateWindow headWindow = federateWindows.get(head.getFederateId());
+        grantedEvents.add(head);
+        for (FederateWindow window : candidates) {
+            if (window == headWindow || window.earliest.getRequestedTime() > getEndTime()) {
+                continue;
+            }
+            final long boundOfOthers = window == minWindow ? secondMinBound : minBound;
+            // no other federate may influence this event, and this federate may not influence the head event
+            if (window.earliest.getRequestedTime() < boundOfOthers && head.getRequestedTime() < window.bound) {
+                grantedEvents.add(window.earliest);
+            }
+        }
+
+        Collections.sort(grantedEvents);
+        for (FederateEvent event : grantedEvents) {
+            this.events.remove(event);
+            grantEvent(event);
+        }
+    }
+
+    @Override
+    public void finishSimulationRun(int statusCode) throws InternalFederateException {
+        this.threadPool.shutdown();
+        super.finishSimulationRun(statusCode);
+    }
+
+    /**
+     * Holds the earliest pending event of a federate, and the lower bound on the time stamps
+     * of all events and interactions this federate may create.
+     */
+    private static class FederateWindow {
+
+        private FederateEvent earliest;
+        private long bound;
+
+        private FederateWindow() {
+            reset();
+        }
+
+        private void reset() {
+            earliest = null;
+            bound = Long.MAX_VALUE;
+        }
+
+        private void add(FederateEvent event) {
+            if (earliest == null || event.compareTo(earliest) < 0) {
+                earliest = event;
+            }
+            final long lookahead = Math.max(0, event.getLookahead());
+            final long eventBound = event.getRequestedTime() > Long.MAX_VALUE - lookahead
+                    ? Long.MAX_VALUE
+                    : event.getRequestedTime() + lookahead;
+            bound = Math.min(bound, eventBound);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.lib.util.metrics.LatencyHistogram;
+import org.eclipse.mosaic.lib.util.metrics.MetricsRegistry;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Advances federates to the time of their events and records the duration of each time advance in
+ * the histogram {@link AbstractTimeManagement#METRIC_ADVANCE_TIME} of the federate. The ambassador and the
+ * histogram are looked up once per federate on its first time advance, thereafter a time advance only resolves
+ * the federate by its id.
+ *
+ * <p>Additionally, the advancer keeps track of all events which have been granted by the time management, i.e. which
+ * have been removed from the event queue, but whose time advance has not been finished yet.</p>
+ */
+final class FederateAdvancer {
+
+    private final ComponentProvider federation;
+
+    private final Map<String, Federate> federates = new ConcurrentHashMap<>();
+
+    FederateAdvancer(ComponentProvider federation) {
+        this.federation = federation;
+    }
+
+    /**
+     * Marks the given event as granted. Must be called by the time management while holding the lock of the
+     * event queue the event has been removed from. The mark is removed as soon as the federate has been advanced.
+     *
+     * @param event the event which has been removed from the event queue
+     */
+    void grant(FederateEvent event) {
+        final Federate federate = getFederate(event.getFederateId());
+        if (federate != null) {
+            federate.granted = event;
+        }
+    }
+
+    /**
+     * Checks, if any federate other than the given one has been granted an event, while processing which it
+     * may send interactions that must be delivered before an event with the given time and priority.
+     *
+     * @param federateId the federate to ignore
+     * @param time       the requested time of the event to compare with
+     * @param priority   the priority of the event to compare with
+     * @return {@code true}, if another federate is advancing to a time from which on it may send such interactions
+     */
+    boolean isGrantedBefore(String federateId, long time, byte priority) {
+        for (Federate federate : federates.values()) {
+            final FederateEvent granted = federate.granted;
+            if (granted != null && !granted.getFederateId().equals(federateId) && maySendInteractionsUntil(granted, time, priority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks, if the federate of the given event may send interactions while processing this event, which are due
+     * until the given time and thus must be delivered before an event with the given time and priority. A federate
+     * declaring a lookahead {@code L} with an event at time {@code t} will not send interactions earlier than
+     * {@code t + L}, and federates which are not time regulating (lookahead {@link Long#MAX_VALUE}) do not send
+     * time stamped interactions at all. Events with the same time and priority are processed in arbitrary order,
+     * or even concurrently, thus, they are considered as preceding.
+     */
+    static boolean maySendInteractionsUntil(FederateEvent event, long time, byte priority) {
+        final long lookahead = Math.max(0, event.getLookahead());
+        if (lookahead == Long.MAX_VALUE || event.getRequestedTime() > time - lookahead) {
+            return false;
+        }
+        return event.getRequestedTime() < time || FederatePriority.compareTo(event.getPriority(), priority) >= 0;
+    }
+
+    /**
+     * Advances the federate of the given event to the given time and notifies the monitor.
+     *
+     * @param event the scheduled event causing the time advance
+     * @param time  the time to advance the federate to
+     * @return {@code false}, if no ambassador is known for the federate of the event
+     * @throws InternalFederateException an exception inside of the federate occurs
+     */
+    boolean advance(FederateEvent event, long time) throws InternalFederateException {
+        final Federate federate = getFederate(event.getFederateId());
+        if (federate == null) {
+            return false;
+        }
+        federation.getMonitor().onBeginActivity(event);
+        final long startNs = System.nanoTime();
+        try {
+            federate.ambassador.advanceTime(time);
+        } finally {
+            federate.granted = null;
+        }
+        final long durationNs = System.nanoTime() - startNs;
+        federate.advanceTimeHistogram.record(durationNs);
+        federation.getMonitor().onEndActivity(event, durationNs / TIME.MILLI_SECOND);
+        return true;
+    }
+
+    private Federate getFederate(String federateId) {
+        final Federate federate = federates.get(federateId);
+        if (federate != null) {
+            return federate;
+        }
+        final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(federateId);
+        return ambassador != null ? federates.computeIfAbsent(federateId, id -> new Federate(id, ambassador)) : null;
+    }
+
+    private static final class Federate {
+
+        private final FederateAmbassador ambassador;
+
+        private final LatencyHistogram advanceTimeHistogram;
+
+        private volatile FederateEvent granted;
+
+        private Federate(String federateId, FederateAmbassador ambassador) {
+            this.ambassador = ambassador;
+            this.advanceTimeHistogram = MetricsRegistry.getInstance().histogram(AbstractTimeManagement.METRIC_ADVANCE_TIME, federateId);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nonnull;
+
+/**
+ * Ordered queue of all {@link FederateEvent}s requested by federates. Events are identified by
+ * their federate, requested time, and priority. Requesting an event which is already pending is
+ * detected in constant time and neither creates a new {@link FederateEvent} nor touches the ordered queue.
+ *
+ * <p>Adding events is safe from any thread and does not acquire the monitor of this calendar. New events are
+ * collected in a concurrent inbox and are moved into the ordered queue as soon as the queue is accessed.
+ * All methods reading the ordered queue (e.g. {@link #peek()}, {@link #poll()}, {@link #iterator()}) synchronize
+ * on this calendar, thus, compound operations can still be made atomic by synchronizing on the calendar.</p>
+ */
+public class FederateEventCalendar extends AbstractQueue<FederateEvent> {
+
+    private final ConcurrentHashMap<String, FederateSlot> federates = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<FederateEvent> inbox = new ConcurrentLinkedQueue<>();
+
+    private final PriorityQueue<FederateEvent> ordered = new PriorityQueue<>();
+
+    /**
+     * Requests a new event for the given federate, if no such event is pending yet.
+     *
+     * @param federateId    identifier of the requesting federate
+     * @param requestedTime simulation time that has been requested
+     * @param lookahead     lookahead of the requesting federate
+     * @param priority      priority of the requesting federate
+     * @return {@code true}, if a new event has been added, {@code false} if an equivalent event was already pending
+     */
+    public boolean add(String federateId, long requestedTime, long lookahead, byte priority) {
+        final FederateSlot slot = getSlot(federateId);
+
+        // lock free fast path, federates usually request the same time several times in a row
+        final FederateEvent last = slot.lastAdded;
+        if (last != null && last.getRequestedTime() == requestedTime && last.getPriority() == priority
+                && last.getLookahead() <= lookahead) {
+            return false;
+        }
+
+        final FederateEvent event;
+        synchronized (slot) {
+            final FederateEvent pending = slot.get(requestedTime, priority);
+            if (pending != null && pending.getLookahead() <= lookahead) {
+                return false;
+            }
+            event = new FederateEvent(federateId, requestedTime, lookahead, priority);
+            slot.put(event);
+            slot.lastAdded = event;
+        }
+        inbox.add(event);
+        return true;
+    }
+
+    /**
+     * Adds the given event, if no event with the same federate, time, and priority is pending yet.
+     *
+     * @param event the event to add
+     * @return {@code true}, if the event has been added
+     */
+    @Override
+    public boolean offer(FederateEvent event) {
+        final FederateSlot slot = getSlot(event.getFederateId());
+        synchronized (slot) {
+            final FederateEvent pending = slot.get(event.getRequestedTime(), event.getPriority());
+            if (pending != null && pending.getLookahead() <= event.getLookahead()) {
+                return false;
+            }
+            slot.put(event);
+            slot.lastAdded = event;
+        }
+        inbox.add(event);
+        return true;
+    }
+
+    @Override
+    public synchronized FederateEvent poll() {
+        drainInbox();
+        final FederateEvent event = ordered.poll();
+        if (event != null) {
+            release(event);
+        }
+        return event;
+    }
+
+    @Override
+    public synchronized FederateEvent peek() {
+        drainInbox();
+        return ordered.peek();
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        drainInbox();
+        if (o instanceof FederateEvent && ordered.remove(o)) {
+            release((FederateEvent) o);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized int size() {
+        drainInbox();
+        return ordered.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        drainInbox();
+        return ordered.isEmpty();
+    }
+
+    @Override
+    public synchronized void clear() {
+        inbox.clear();
+        ordered.clear();
+        federates.values().forEach(FederateSlot::clear);
+    }
+
+    /**
+     * Returns an iterator over all pending events in no particular order. The iterator must only be used
+     * while holding the monitor of this calendar, and does not support removal.
+     */
+    @Nonnull
+    @Override
+    public synchronized Iterator<FederateEvent> iterator() {
+        drainInbox();
+        final Iterator<FederateEvent> delegate = ordered.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public FederateEvent next() {
+                return delegate.next();
+            }
+        };
+    }
+
+    private FederateSlot getSlot(String federateId) {
+        final FederateSlot slot = federates.get(federateId);
+        return slot != null ? slot : federates.computeIfAbsent(federateId, k -> new FederateSlot());
+    }
+
+    private void drainInbox() {
+        FederateEvent event;
+        while ((event = inbox.poll()) != null) {
+            ordered.add(event);
+        }
+    }
+
+    private void release(FederateEvent event) {
+        final FederateSlot slot = federates.get(event.getFederateId());
+        if (slot != null) {
+            synchronized (slot) {
+                slot.remove(event);
+                if (slot.lastAdded == event) {
+                    slot.lastAdded = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pending events of a single federate, stored in an open addressing hash table using
+     * the requested time and priority as key. All methods must be called while holding the monitor of the slot.
+     */
+    private static class FederateSlot {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        /**
+         * The most recently added event of this federate, as long as it is pending.
+         */
+        private volatile FederateEvent lastAdded;
+
+        private FederateEvent[] table = new FederateEvent[INITIAL_CAPACITY];
+
+        private int size = 0;
+
+        private FederateEvent get(long time, byte priority) {
+            final int mask = table.length - 1;
+            for (int i = index(time, priority, mask); table[i] != null; i = (i + 1) & mask) {
+                if (table[i].getRequestedTime() == time && table[i].getPriority() == priority) {
+                    return table[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Stores the given event, replacing any pending event with the same time and priority.
+         */
+        private void put(FederateEvent event) {
+            if ((size + 1) * 2 > table.length) {
+                resize();
+            }
+            final int mask = table.length - 1;
+            int i = index(event.getRequestedTime(), event.getPriority(), mask);
+            while (table[i] != null) {
+                if (table[i].getRequestedTime() == event.getRequestedTime() && table[i].getPriority() == event.getPriority()) {
+                    table[i] = event;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = event;
+            size++;
+        }
+
+        /**
+         * Removes the given event instance, if it is stored in this slot.
+         */
+        private void remove(FederateEvent event) {
+            final int mask = table.length - 1;
+            int i = index(event.getRequestedTime(), event.getPriority(), mask);
+            while (table[i] != event) {
+                if (table[i] == null) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            table[i] = null;
+            size--;
+
+            // shift following entries of the same cluster back, so that lookups do not stop at the gap
+            int gap = i;
+            for (int j = (i + 1) & mask; table[j] != null; j = (j + 1) & mask) {
+                final int home = index(table[j].getRequestedTime(), table[j].getPriority(), mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    table[gap] = table[j];
+                    table[j] = null;
+                    gap = j;
+                }
+            }
+        }
+
+        private synchronized void clear() {
+            table = new FederateEvent[INITIAL_CAPACITY];
+            size = 0;
+            lastAdded = null;
+        }
+
+        private void resize() {
+            final FederateEvent[] old = table;
+            table = new FederateEvent[old.length * 2];
+            size = 0;
+            for (FederateEvent event : old) {
+                if (event != null) {
+                    put(event);
+                }
+            }
+        }
+
+        private static int index(long time, byte priority, int mask) {
+            long hash = (time ^ (time >>> 32)) * 31 + priority;
+            hash *= 0x9E3779B97F4A7C15L;
+            return (int) (hash >>> 32) & mask;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+/**
+ * Base class for the scheduling backends of the {@link MultiThreadedTimeManagement}, which
+ * advance the federates of a block of parallel {@link FederateEvent}s in separate threads.
+ */
+abstract class FederateEventExecutor {
+
+    protected final ComponentProvider federation;
+
+    private FederateAdvancer federateAdvancer;
+
+    protected ScheduledEvents queue = null;
+
+    private volatile InternalFederateException exceptionInThread = null;
+
+    FederateEventExecutor(ComponentProvider federation) {
+        this.federation = federation;
+        this.federateAdvancer = new FederateAdvancer(federation);
+    }
+
+    void setEventQueue(ScheduledEvents events) {
+        this.queue = events;
+    }
+
+    /**
+     * Sets the advancer shared with the time management, which keeps track of all granted events.
+     */
+    void setFederateAdvancer(FederateAdvancer federateAdvancer) {
+        this.federateAdvancer = federateAdvancer;
+    }
+
+    /**
+     * Starts the worker threads of this executor.
+     */
+    abstract void initialize();
+
+    /**
+     * Schedules the given event for parallel execution. The event is added to the
+     * {@link ScheduledEvents} and stays there until it has been processed.
+     *
+     * @param event the event to execute
+     */
+    abstract void schedule(FederateEvent event);
+
+    /**
+     * Blocks the calling thread until all events scheduled so far have been processed.
+     */
+    abstract void awaitCompletion();
+
+    /**
+     * Stops all worker threads and waits for them to finish.
+     */
+    abstract void shutdown();
+
+    /**
+     * Returns the number of worker threads of this executor.
+     *
+     * @return the number of worker threads of this executor.
+     */
+    abstract int getThreadCount();
+
+    boolean hasException() {
+        return this.exceptionInThread != null;
+    }
+
+    InternalFederateException getLastException() {
+        return this.exceptionInThread;
+    }
+
+    /**
+     * Advances the federate associated with the given event. Any exception
+     * is stored and can be requested via {@link #getLastException()}.
+     *
+     * @param ev the event to process
+     */
+    protected void advanceFederate(FederateEvent ev) {
+        try {
+            federateAdvancer.advance(ev, ev.getRequestedTime());
+        } catch (InternalFederateException iex) {
+            exceptionInThread = iex;
+        } catch (Exception ex) {
+            exceptionInThread = new InternalFederateException(ex);
+        }
+    }
+}
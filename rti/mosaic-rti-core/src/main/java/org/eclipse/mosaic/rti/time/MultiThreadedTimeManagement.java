@@ -17,11 +17,12 @@ package org.eclipse.mosaic.rti.time;
 
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
-import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.time.FederateEvent;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -29,15 +30,26 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
 
     private static final AtomicInteger idCounter = new AtomicInteger();
 
-    private final ThreadPool threadPool;
+    private final FederateEventExecutor threadPool;
 
     private final ScheduledEvents scheduledEvents;
 
     private final Semaphore ambassadorRunningSemaphore = new Semaphore(1);
 
+    /**
+     * Identifiers of all federates advanced in the current block of parallel events.
+     */
+    private final Set<String> parallelFederates = new HashSet<>();
+
     public MultiThreadedTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
+        this(federation, componentParameters,
+                new WorkStealingThreadPool(federation, componentParameters.getNumberOfThreads()));
+    }
+
+    MultiThreadedTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters,
+                                FederateEventExecutor threadPool) {
         super(federation, componentParameters);
-        this.threadPool = new ThreadPool(federation, componentParameters.getNumberOfThreads());
+        this.threadPool = threadPool;
         this.scheduledEvents = new ScheduledEvents();
     }
 
@@ -45,6 +57,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
     protected void prepareSimulationRun() throws IllegalValueException, InternalFederateException {
         // initialize thread pool
         this.threadPool.setEventQueue(this.scheduledEvents);
+        this.threadPool.setFederateAdvancer(getFederateAdvancer());
         this.threadPool.initialize();
         // initialize all federates
         super.prepareSimulationRun();
@@ -69,7 +82,6 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
         final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
         long currentRealtimeNs;
 
-        FederateAmbassador ambassador;
         FederateEvent event;
         byte priority;
 
@@ -79,10 +91,17 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
             // remove first event of queue
             synchronized (this.events) {
                 event = this.events.poll();
+                if (event != null) {
+                    grantEvent(event);
+                }
             }
 
             if (event != null) {
                 this.time = event.getRequestedTime();
+                // sync with real time before advancing any federate to the new time
+                if (this.time > 0) {
+                    realtimeSync.sync(this.time);
+                }
             } else {
                 this.logger.trace("No more messages in event queue. Finishing simulation run.");
                 this.time = getEndTime();
@@ -106,56 +125,44 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                 // schedule next event
                 int id = createEventId(); // Acquire scheduling block id
                 federation.getMonitor().onScheduling(id, event);
-                this.scheduledEvents.addEvent(event);
+                this.threadPool.schedule(event);
 
-                // schedule further events that can be executed in parallel
+                // schedule further events that can be executed in parallel, but at most one event per federate,
+                // since time advances of the same federate must not run concurrently
+                parallelFederates.clear();
+                parallelFederates.add(event.getFederateId());
                 while (this.events.peek() != null
                         && priority == this.events.peek().getPriority()
                         && scheduledEvents.getMaximumValidTime() >= this.events.peek().getRequestedTime()
+                        && parallelFederates.add(this.events.peek().getFederateId())
                 ) {
                     synchronized (events) {
                         event = this.events.poll();
+                        grantEvent(event);
                     }
                     this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
                     federation.getMonitor().onScheduling(id, event);
-                    this.scheduledEvents.addEvent(event);
+                    this.threadPool.schedule(event);
                 }
 
                 // wait until all events are processed in parallel
-                synchronized (this.scheduledEvents.isEmptyMutex) {
-                    try {
-                        if (this.threadPool.isActive()) {
-                            this.scheduledEvents.isEmptyMutex.wait();
-                        }
-                    } catch (InterruptedException ignored) {
-                        // nop
-                    }
-                }
+                this.threadPool.awaitCompletion();
                 ambassadorRunningSemaphore.release();
             } else {
                 // call ambassador associated with the scheduled event to
                 // process until the next globally scheduled event
-                ambassador = federation.getFederationManagement().getAmbassador(event.getFederateId());
-                if (ambassador != null) {
-                    this.logger.trace(
-                            "Advancing {} to time {}",
-                            federation.getFederationManagement().getAmbassador(event.getFederateId()).getId(),
-                            event.getRequestedTime()
-                    );
-
-                    try {
-                        ambassadorRunningSemaphore.acquire();
-                    } catch (InterruptedException e) {
-                        this.logger.trace("Error while acquiring semaphore", e);
-                    }
-                    federation.getMonitor().onBeginActivity(event);
-                    long startTime = System.currentTimeMillis();
+                this.logger.trace("Advancing {} to time {}", event.getFederateId(), event.getRequestedTime());
 
-                    ambassador.advanceTime(event.getRequestedTime());
+                try {
+                    ambassadorRunningSemaphore.acquire();
+                } catch (InterruptedException e) {
+                    this.logger.trace("Error while acquiring semaphore", e);
+                }
+                final boolean advanced = advanceFederate(event, event.getRequestedTime());
 
-                    ambassadorRunningSemaphore.release();
-                    federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
+                ambassadorRunningSemaphore.release();
 
+                if (advanced) {
                     updateWatchDog();
                 }
             }
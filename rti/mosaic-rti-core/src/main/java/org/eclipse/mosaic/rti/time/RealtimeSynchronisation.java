@@ -15,21 +15,59 @@
 
 package org.eclipse.mosaic.rti.time;
 
+import org.eclipse.mosaic.lib.util.metrics.LatencyHistogram;
+import org.eclipse.mosaic.lib.util.metrics.MetricsRegistry;
 import org.eclipse.mosaic.rti.TIME;
 
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * Synchronizes the simulation time with the real time according to a given realtime factor.
+ *
+ * <p>In the default mode, the simulation is slowed down by sleeping in slices of a few milliseconds.
+ * In the precise mode, each simulation time is mapped to a deadline on an absolute monotonic schedule,
+ * which is awaited by parking the thread until shortly before the deadline and spinning for the remaining time.
+ * Thereby, errors do not accumulate over time. The precise mode additionally reports how far each sync
+ * drifted from its deadline and how many deadlines have been missed.</p>
  */
 public class RealtimeSynchronisation {
 
+    /**
+     * Name of the histogram measuring the drift of precise syncs from their deadline.
+     */
+    public final static String METRIC_REALTIME_DRIFT = "rti.realtimeDrift";
+
     private static final long MINSYNC = 5 * TIME.MILLI_SECOND;
 
+    /**
+     * The remaining time before a deadline which is awaited by spinning instead of parking.
+     */
+    private static final long SPIN_THRESHOLD = 500 * TIME.MICRO_SECOND;
+
+    /**
+     * If the simulation lags behind the schedule by more than this, the schedule is restarted
+     * instead of catching up, e.g. after pausing a simulator on purpose.
+     */
+    private static final long MAX_LAG = TIME.SECOND;
+
     private final double realtimeFactor;
 
+    private final boolean precise;
+
     private long realNanoTimeLastSync;
     private long simNanoTimeLastSync;
     private long waitOffset;
 
+    private boolean scheduleStarted = false;
+    private long realNanoTimeScheduleStart;
+    private long simNanoTimeScheduleStart;
+
+    private final LatencyHistogram drift = MetricsRegistry.getInstance().histogram(METRIC_REALTIME_DRIFT);
+    private long syncs;
+    private long missedDeadlines;
+    private long maxDriftNs;
+    private long totalDriftNs;
+
     /**
      * If the passed realtimeFactor is greater than 0, the simulation
      * is slowed down to match the given real time factor. If the given
@@ -38,7 +76,28 @@ public class RealtimeSynchronisation {
      * @param realtimeFactor the wanted realtime factor.
      */
     public RealtimeSynchronisation(double realtimeFactor) {
+        this(realtimeFactor, false);
+    }
+
+    /**
+     * If the passed realtimeFactor is greater than 0, the simulation
+     * is slowed down to match the given real time factor. If the given
+     * realtime factor is equal to 0, no synchronization is done.
+     *
+     * @param realtimeFactor the wanted realtime factor.
+     * @param precise        {@code true}, if the simulation should be paced against absolute deadlines
+     */
+    public RealtimeSynchronisation(double realtimeFactor, boolean precise) {
         this.realtimeFactor = realtimeFactor;
+        this.precise = precise;
+    }
+
+    public boolean isEnabled() {
+        return realtimeFactor > 0d;
+    }
+
+    public boolean isPrecise() {
+        return precise;
     }
 
     /**
@@ -50,13 +109,19 @@ public class RealtimeSynchronisation {
      * @param timestamp the current timestamp
      */
     public void sync(long timestamp) {
+        if (precise) {
+            if (isEnabled()) {
+                syncPrecisely(timestamp);
+            }
+            return;
+        }
 
         if (realtimeFactor > 0d && realNanoTimeLastSync > 0) {
             // Consider real time difference of 1s at maximum, to prevent "catching up" behavior when pausing a simulator on purpose
             long realTimeSinceLastSync = Math.min(TIME.SECOND, System.nanoTime() - realNanoTimeLastSync);
             long simTimeSinceLastSync = timestamp - simNanoTimeLastSync;
 
-            // Conversion from simulation to wanted realtime according to the given realtime factor 
+            // Conversion from simulation to wanted realtime according to the given realtime factor
             long realTimeSinceLastSyncWanted = (long) (simTimeSinceLastSync * (1 / realtimeFactor));
 
             // The real nanoseconds we now have to wait to fulfill the requirement above
@@ -79,4 +144,89 @@ public class RealtimeSynchronisation {
         realNanoTimeLastSync = System.nanoTime();
         simNanoTimeLastSync = timestamp;
     }
+
+    private void syncPrecisely(long timestamp) {
+        final long now = System.nanoTime();
+        if (!scheduleStarted) {
+            startSchedule(now, timestamp);
+            return;
+        }
+        final long deadline = realNanoTimeScheduleStart + (long) ((timestamp - simNanoTimeScheduleStart) / realtimeFactor);
+        if (now - deadline > MAX_LAG) {
+            missedDeadlines++;
+            startSchedule(now, timestamp);
+            return;
+        }
+        if (now > deadline) {
+            missedDeadlines++;
+            recordDrift(now - deadline);
+            return;
+        }
+
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > SPIN_THRESHOLD) {
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD);
+        }
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        recordDrift(System.nanoTime() - deadline);
+    }
+
+    private void startSchedule(long realNanoTime, long simNanoTime) {
+        scheduleStarted = true;
+        realNanoTimeScheduleStart = realNanoTime;
+        simNanoTimeScheduleStart = simNanoTime;
+    }
+
+    private void recordDrift(long driftNs) {
+        syncs++;
+        totalDriftNs += driftNs;
+        maxDriftNs = Math.max(maxDriftNs, driftNs);
+        drift.record(driftNs);
+    }
+
+    /**
+     * Returns the number of syncs in precise mode which have been measured against a deadline.
+     *
+     * @return the number of measured syncs
+     */
+    public long getSyncs() {
+        return syncs;
+    }
+
+    /**
+     * Returns the number of syncs in precise mode which took place after their deadline.
+     *
+     * @return the number of missed deadlines
+     */
+    public long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    /**
+     * Returns the largest time by which a sync in precise mode returned after its deadline.
+     *
+     * @return the maximum drift in [ns]
+     */
+    public long getMaxDriftNs() {
+        return maxDriftNs;
+    }
+
+    /**
+     * Returns the mean time by which syncs in precise mode returned after their deadline.
+     *
+     * @return the mean drift in [ns]
+     */
+    public long getMeanDriftNs() {
+        return syncs > 0 ? totalDriftNs / syncs : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "syncs: " + syncs
+                + ", missed deadlines: " + missedDeadlines
+                + ", mean drift: " + getMeanDriftNs() / TIME.MICRO_SECOND + " us"
+                + ", max drift: " + maxDriftNs / TIME.MICRO_SECOND + " us";
+    }
 }
@@ -58,6 +58,16 @@ class ScheduledEvents {
      */
     void addEvent(FederateEvent event) {
         this.events.add(event);
+        addPendingEvent(event);
+    }
+
+    /**
+     * Registers the lookahead of an event which is handed over to a worker directly, without
+     * being appended to the event queue. Must be released by {@link #setEventProcessed}.
+     *
+     * @param event the event which is about to be processed
+     */
+    void addPendingEvent(FederateEvent event) {
         this.lookahead.add(event.getRequestedTime() + event.getLookahead());
     }
 
@@ -17,7 +17,6 @@ package org.eclipse.mosaic.rti.time;
 
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
-import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.TimeManagement;
@@ -29,8 +28,6 @@ import org.eclipse.mosaic.rti.api.time.FederateEvent;
  */
 public class SequentialTimeManagement extends AbstractTimeManagement {
 
-    private final double realtimeBrake;
-
     /**
      * Creates a new instance of the sequential time management.
      *
@@ -40,7 +37,6 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
      */
     public SequentialTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         super(federation, componentParameters);
-        this.realtimeBrake = componentParameters.getRealTimeBreak();
     }
 
     /**
@@ -57,11 +53,9 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
         this.prepareSimulationRun();
 
         final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
-        final RealtimeSynchronisation realtimeSync = new RealtimeSynchronisation(realtimeBrake);
 
         long currentRealtimeNs;
         FederateEvent event;
-        FederateAmbassador ambassador;
 
         while (this.time <= getEndTime()) {
             // the end time is inclusive, in order to schedule events in the last simulation time step
@@ -80,26 +74,19 @@ public class SequentialTimeManagement extends AbstractTimeManagement {
                     break;
                 } else {
                     this.time = event.getRequestedTime();
+                    grantEvent(event);
                 }
             }
 
             // call ambassador associated with the scheduled event
-            ambassador = federation.getFederationManagement().getAmbassador(event.getFederateId());
-            if (ambassador != null) {
-                federation.getMonitor().onBeginActivity(event);
-                long startTime = System.currentTimeMillis();
-                ambassador.advanceTime(event.getRequestedTime());
-                federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
+            if (advanceFederate(event, event.getRequestedTime())) {
 
                 // check, if event queue is empty after the last time advance.
                 // If no more events are in the list, the simulation can be skipped to the endTime.
                 if (this.events.isEmpty()) {
                     logger.debug("No events anymore, skipping to end time: {}", getEndTime());
 
-                    federation.getMonitor().onBeginActivity(event);
-                    startTime = System.currentTimeMillis();
-                    ambassador.advanceTime(getEndTime());
-                    federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
+                    advanceFederate(event, getEndTime());
                 }
             }
             currentRealtimeNs = System.nanoTime();
@@ -16,39 +16,35 @@
 package org.eclipse.mosaic.rti.time;
 
 import org.eclipse.mosaic.rti.api.ComponentProvider;
-import org.eclipse.mosaic.rti.api.FederateAmbassador;
-import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.time.FederateEvent;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class ThreadPool {
+/**
+ * Scheduling backend which lets all workers poll the shared {@link ScheduledEvents} queue.
+ * Idle workers busy-wait on the queue, therefore each worker occupies a CPU core for the whole
+ * simulation run. Superseded by {@link WorkStealingThreadPool}, kept as reference for benchmarks.
+ */
+class ThreadPool extends FederateEventExecutor {
 
     private static final Logger LOG = LoggerFactory.getLogger(ThreadPool.class);
 
 
     private final Worker[] workers;
-    private final ComponentProvider federation;
-    private boolean running = false;
+    private volatile boolean running = false;
 
-    private ScheduledEvents queue = null;
     private int activeCount = 0;
 
-    private InternalFederateException exceptionInThread = null;
-
     ThreadPool(ComponentProvider federation, int numberOfThreads) {
+        super(federation);
         this.workers = new Worker[numberOfThreads];
-        this.federation = federation;
-    }
-
-    void setEventQueue(ScheduledEvents events) {
-        this.queue = events;
     }
 
     /**
      * Initializes the workers of this thread pool.
      */
+    @Override
     void initialize() {
         this.running = true;
         for (int i = 0; i < this.workers.length; i++) {
@@ -57,10 +53,29 @@ class ThreadPool {
         }
     }
 
+    @Override
+    void schedule(FederateEvent event) {
+        this.queue.addEvent(event);
+    }
+
+    @Override
+    void awaitCompletion() {
+        synchronized (this.queue.isEmptyMutex) {
+            try {
+                if (isActive()) {
+                    this.queue.isEmptyMutex.wait();
+                }
+            } catch (InterruptedException ignored) {
+                // nop
+            }
+        }
+    }
+
+    @Override
     void shutdown() {
         this.running = false;
         for (Worker worker : workers) {
-            if (worker.isAlive()) {
+            if (worker != null && worker.isAlive()) {
                 try {
                     worker.join();
                 } catch (Exception e) {
@@ -70,14 +85,6 @@ class ThreadPool {
         }
     }
 
-    boolean hasException() {
-        return this.exceptionInThread != null;
-    }
-
-    InternalFederateException getLastException() {
-        return this.exceptionInThread;
-    }
-
     boolean isActive() {
         synchronized (this.queue.isEmptyMutex) {
             return this.activeCount > 0 || !this.queue.isEmpty();
@@ -89,6 +96,7 @@ class ThreadPool {
      *
      * @return the number of worker threads in this thread pool.
      */
+    @Override
     int getThreadCount() {
         return workers.length;
     }
@@ -102,7 +110,6 @@ class ThreadPool {
         @Override
         public void run() {
             FederateEvent ev;
-            Task task;
 
             while (true) {
                 synchronized (queue.accessMutex) {
@@ -115,11 +122,10 @@ class ThreadPool {
                         ev = queue.getNextScheduledEvent();
                         activeCount++;
                     }
-                    task = new Task(ev);
                 }
 
                 try {
-                    task.run();
+                    advanceFederate(ev);
                 } catch (RuntimeException e) {
                     LOG.error("Could not execute task", e);
                 }
@@ -134,30 +140,4 @@ class ThreadPool {
             }
         }
     }
-
-    private class Task implements Runnable {
-
-        private final FederateEvent ev;
-
-        private Task(FederateEvent ev) {
-            this.ev = ev;
-        }
-
-        @Override
-        public void run() {
-            try {
-                FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(ev.getFederateId());
-                if (ambassador != null) {
-                    federation.getMonitor().onBeginActivity(ev);
-                    long startTime = System.currentTimeMillis();
-                    ambassador.advanceTime(ev.getRequestedTime());
-                    federation.getMonitor().onEndActivity(ev, System.currentTimeMillis() - startTime);
-                }
-            } catch (InternalFederateException iex) {
-                exceptionInThread = iex;
-            } catch (Exception ex) {
-                exceptionInThread = new InternalFederateException(ex);
-            }
-        }
-    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Scheduling backend for the {@link MultiThreadedTimeManagement}. Each worker owns a deque
+ * of events which is filled in a round-robin manner. A worker takes events from the head of its own deque,
+ * and steals from the tail of the deques of other workers once its own deque is empty. Workers without
+ * any work are parked and don't consume CPU time. The scheduling thread waits on a completion barrier
+ * which is released by the worker finishing the last pending event.
+ */
+class WorkStealingThreadPool extends FederateEventExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingThreadPool.class);
+
+    private final Worker[] workers;
+
+    /**
+     * Number of events which have been scheduled but not yet processed.
+     */
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+
+    private volatile boolean running = false;
+
+    /**
+     * The thread waiting in {@link #awaitCompletion()}, if any.
+     */
+    private volatile Thread awaitingThread = null;
+
+    /**
+     * Index of the worker which receives the next scheduled event. Only accessed by the scheduling thread.
+     */
+    private int nextWorker = 0;
+
+    WorkStealingThreadPool(ComponentProvider federation, int numberOfThreads) {
+        super(federation);
+        this.workers = new Worker[numberOfThreads];
+    }
+
+    @Override
+    void initialize() {
+        this.running = true;
+        for (int i = 0; i < this.workers.length; i++) {
+            this.workers[i] = new Worker(i);
+        }
+        for (Worker worker : this.workers) {
+            worker.start();
+        }
+    }
+
+    @Override
+    void schedule(FederateEvent event) {
+        pendingEvents.incrementAndGet();
+        queue.addPendingEvent(event);
+
+        final Worker target = workers[nextWorker];
+        nextWorker = (nextWorker + 1) % workers.length;
+        target.deque.offerLast(event);
+
+        // wake up the owner of the deque, or any other idle worker which is then able to steal the event
+        if (target.idle) {
+            LockSupport.unpark(target);
+            return;
+        }
+        for (Worker worker : workers) {
+            if (worker.idle) {
+                LockSupport.unpark(worker);
+                return;
+            }
+        }
+    }
+
+    @Override
+    void awaitCompletion() {
+        awaitingThread = Thread.currentThread();
+        while (pendingEvents.get() > 0) {
+            LockSupport.park(this);
+        }
+        awaitingThread = null;
+    }
+
+    @Override
+    void shutdown() {
+        this.running = false;
+        for (Worker worker : workers) {
+            if (worker != null && worker.isAlive()) {
+                LockSupport.unpark(worker);
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    // nop
+                }
+            }
+        }
+    }
+
+    @Override
+    int getThreadCount() {
+        return workers.length;
+    }
+
+    private void onEventProcessed(FederateEvent event) {
+        queue.setEventProcessed(event);
+        if (pendingEvents.decrementAndGet() == 0) {
+            final Thread waiting = awaitingThread;
+            if (waiting != null) {
+                LockSupport.unpark(waiting);
+            }
+        }
+    }
+
+    private class Worker extends Thread {
+
+        private final int index;
+
+        private final ConcurrentLinkedDeque<FederateEvent> deque = new ConcurrentLinkedDeque<>();
+
+        /**
+         * Set to {@code true} shortly before this worker parks.
+         */
+        private volatile boolean idle = false;
+
+        private Worker(int index) {
+            super(String.format("%04d", index + 1));
+            this.index = index;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            FederateEvent ev;
+
+            while (running) {
+                ev = nextEvent();
+                if (ev == null) {
+                    idle = true;
+                    // check again after announcing idleness, otherwise a wake-up could be missed
+                    ev = nextEvent();
+                    if (ev == null) {
+                        if (running) {
+                            LockSupport.park(this);
+                        }
+                        idle = false;
+                        continue;
+                    }
+                    idle = false;
+                }
+
+                try {
+                    advanceFederate(ev);
+                } catch (RuntimeException e) {
+                    LOG.error("Could not execute task", e);
+                } finally {
+                    onEventProcessed(ev);
+                }
+            }
+        }
+
+        private FederateEvent nextEvent() {
+            FederateEvent ev = deque.pollFirst();
+            if (ev != null) {
+                return ev;
+            }
+            for (int i = 1; i < workers.length; i++) {
+                ev = workers[(index + i) % workers.length].deque.pollLast();
+                if (ev != null) {
+                    return ev;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.junit.TestDummyInteraction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class MosaicRtiAmbassadorTest {
+
+    private final CountDownLatch publicationStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releasePublication = new CountDownLatch(1);
+
+    private TimeManagement timeManagementMock;
+
+    private MosaicRtiAmbassador rtiAmbassador;
+
+    @Before
+    public void setup() throws Exception {
+        final InteractionManagement interactionManagementMock = mock(InteractionManagement.class);
+        doAnswer(invocation -> {
+            if (publicationStarted.getCount() == 0) {
+                // a second publication releases the first one
+                releasePublication.countDown();
+                return null;
+            }
+            publicationStarted.countDown();
+            releasePublication.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(interactionManagementMock).publishInteraction(any());
+
+        timeManagementMock = mock(TimeManagement.class);
+
+        final ComponentProvider componentProviderMock = mock(ComponentProvider.class);
+        when(componentProviderMock.getInteractionManagement()).thenReturn(interactionManagementMock);
+        when(componentProviderMock.getTimeManagement()).thenReturn(timeManagementMock);
+
+        rtiAmbassador = new MosaicRtiAmbassador(componentProviderMock, "federate");
+    }
+
+    /**
+     * While one thread of the federate publishes an interaction, another thread of the same
+     * federate must still be able to request time advances.
+     */
+    @Test
+    public void requestAdvanceTime_notBlockedByPublication() throws Exception {
+        final Thread publisher = new Thread(() -> {
+            try {
+                rtiAmbassador.triggerInteraction(new TestDummyInteraction(0, "type1"));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        publisher.start();
+        assertTrue(publicationStarted.await(10, TimeUnit.SECONDS));
+
+        // would block if the publication was holding the monitor of the RTI ambassador
+        rtiAmbassador.requestAdvanceTime(10, 0, (byte) 1);
+        verify(timeManagementMock).requestAdvanceTime(eq("federate"), anyLong(), anyLong(), anyByte());
+
+        releasePublication.countDown();
+        publisher.join();
+
+        assertEquals(1, rtiAmbassador.getInteractionContention().getCalls());
+        assertEquals(1, rtiAmbassador.getTimeAdvanceRequestContention().getCalls());
+        assertEquals(0, rtiAmbassador.getTimeAdvanceRequestContention().getOverlappingCalls());
+    }
+
+    /**
+     * Two threads of the same federate publish interactions concurrently, whereas the second
+     * publication is made while the first one is in progress.
+     */
+    @Test
+    public void triggerInteraction_overlappingCallsCounted() throws Exception {
+        final Thread publisher = new Thread(() -> {
+            try {
+                rtiAmbassador.triggerInteraction(new TestDummyInteraction(0, "type1"));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        publisher.start();
+        assertTrue(publicationStarted.await(10, TimeUnit.SECONDS));
+
+        rtiAmbassador.triggerInteraction(new TestDummyInteraction(0, "type1"));
+        publisher.join();
+
+        assertEquals(2, rtiAmbassador.getInteractionContention().getCalls());
+        assertEquals(1, rtiAmbassador.getInteractionContention().getOverlappingCalls());
+    }
+}
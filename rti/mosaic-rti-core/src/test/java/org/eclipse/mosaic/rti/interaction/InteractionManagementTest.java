@@ -15,7 +15,11 @@
 
 package org.eclipse.mosaic.rti.interaction;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -27,6 +31,7 @@ import org.eclipse.mosaic.rti.api.ComponentProvider;
 import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InteractionManagement;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.eclipse.mosaic.rti.api.Monitor;
 import org.eclipse.mosaic.rti.api.parameters.InteractionDescriptor;
 import org.eclipse.mosaic.rti.junit.FederationManagementRule;
@@ -38,18 +43,23 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class InteractionManagementTest {
 
     private InteractionManagement interactionManagement;
 
+    private ComponentProvider componentProviderMock;
+
     @Rule
     public FederationManagementRule fedManagement = new FederationManagementRule("ambassador1", "ambassador2");
 
 
     @Before
     public void setup() {
-        ComponentProvider componentProviderMock = mock(ComponentProvider.class);
+        componentProviderMock = mock(ComponentProvider.class);
         when(componentProviderMock.getMonitor()).thenReturn(new Monitor() {});
         when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
         interactionManagement = spy(new TypeBasedInteractionManagement(componentProviderMock));
@@ -127,4 +137,60 @@ public class InteractionManagementTest {
         verify(ambassadorMock1, times(1)).receiveInteraction(same(interactionType1));
         verify(ambassadorMock1, never()).receiveInteraction(same(interactionType2));
     }
+
+    /**
+     * An interaction is delivered to two ambassadors using delivery threads.
+     * It is verified that both ambassadors receive the interaction concurrently, and that the
+     * publishing thread returns after both ambassadors have received the interaction.
+     */
+    @Test
+    public void subscribe_publishInteraction_parallelDelivery() throws Exception {
+        //SETUP
+        interactionManagement = new TypeBasedInteractionManagement(componentProviderMock, 2);
+        interactionManagement.subscribeInteractions("ambassador1", Lists.newArrayList(new InteractionDescriptor("type1")));
+        interactionManagement.subscribeInteractions("ambassador2", Lists.newArrayList(new InteractionDescriptor("type1")));
+
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+        final CountDownLatch bothReceiving = new CountDownLatch(2);
+        final AtomicInteger concurrentDeliveries = new AtomicInteger();
+        for (FederateAmbassador ambassador : Lists.newArrayList(ambassadorMock1, ambassadorMock2)) {
+            doAnswer(invocation -> {
+                bothReceiving.countDown();
+                if (bothReceiving.await(5, TimeUnit.SECONDS)) {
+                    concurrentDeliveries.incrementAndGet();
+                }
+                return null;
+            }).when(ambassador).receiveInteraction(any());
+        }
+
+        final Interaction interactionType1 = new TestDummyInteraction(0, "type1");
+
+        //RUN
+        interactionManagement.publishInteraction(interactionType1);
+
+        //ASSERT
+        assertEquals(2, concurrentDeliveries.get());
+        verify(ambassadorMock1, times(1)).receiveInteraction(same(interactionType1));
+        verify(ambassadorMock2, times(1)).receiveInteraction(same(interactionType1));
+    }
+
+    /**
+     * An exception thrown by a subscriber during parallel delivery is passed to the publisher.
+     */
+    @Test(expected = InternalFederateException.class)
+    public void subscribe_publishInteraction_parallelDeliveryException() throws Exception {
+        //SETUP
+        interactionManagement = new TypeBasedInteractionManagement(componentProviderMock, 2);
+        interactionManagement.subscribeInteractions("ambassador1", Lists.newArrayList(new InteractionDescriptor("type1")));
+        interactionManagement.subscribeInteractions("ambassador2", Lists.newArrayList(new InteractionDescriptor("type1")));
+
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+        doThrow(new InternalFederateException("failed")).when(ambassadorMock1).receiveInteraction(any());
+        doThrow(new InternalFederateException("failed")).when(ambassadorMock2).receiveInteraction(any());
+
+        //RUN
+        interactionManagement.publishInteraction(new TestDummyInteraction(0, "type1"));
+    }
 }
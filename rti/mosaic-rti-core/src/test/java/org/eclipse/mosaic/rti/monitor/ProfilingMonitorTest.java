@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ProfilingMonitorTest {
+
+    private long clockNs = 0;
+
+    private ProfilingMonitor monitor;
+
+    @Before
+    public void setup() {
+        final FederateAmbassador ambassadorA = mock(FederateAmbassador.class);
+        when(ambassadorA.getId()).thenReturn("a");
+        final FederateAmbassador ambassadorB = mock(FederateAmbassador.class);
+        when(ambassadorB.getId()).thenReturn("b");
+        final FederationManagement federationManagement = mock(FederationManagement.class);
+        when(federationManagement.getAmbassadors()).thenReturn(Arrays.asList(ambassadorA, ambassadorB));
+
+        monitor = new ProfilingMonitor(mock(Logger.class), TIME.SECOND, () -> clockNs);
+        monitor.onBeginSimulation(federationManagement, mock(TimeManagement.class), 1);
+    }
+
+    @Test
+    public void criticalPathAttributedToSlowestFederatePerWindow() {
+        // window [0s, 1s): "a" is the bottleneck
+        activity("a", 0, 30);
+        activity("b", 500 * TIME.MILLI_SECOND, 10);
+        // window [1s, 2s): "b" is the bottleneck
+        activity("b", TIME.SECOND, 50);
+        activity("a", TIME.SECOND, 5);
+
+        final List<String> report = monitor.createReport(2 * TIME.SECOND);
+
+        // FED;id;events;busyNs;idleNs;waitingNs;criticalPathNs;criticalPathShare;maxEventNs
+        assertEquals("FED;a;2;35;60;45;30;0.375;30", report.get(0));
+        assertEquals("FED;b;2;60;35;20;50;0.625;50", report.get(1));
+        assertEquals("WIN;simStartNs;simEndNs;wallNs;bottleneck;a;b", report.get(2));
+        assertEquals("WIN;0;1000000000;40;a;30;10", report.get(3));
+        assertEquals("WIN;1000000000;2000000000;55;b;5;50", report.get(4));
+        assertTrue(report.get(5).startsWith("SIM;2000000000;95;"));
+        assertTrue(report.get(5).endsWith(";80;25000000.000;b"));
+    }
+
+    @Test
+    public void windowsAreBounded() {
+        final int activities = 3 * ProfilingMonitor.MAX_WINDOWS;
+        for (int i = 0; i < activities; i++) {
+            activity("a", i * TIME.SECOND, 1);
+        }
+
+        final List<String> windows = monitor.createReport(activities * TIME.SECOND).stream()
+                .filter(line -> line.startsWith("WIN;") && !line.startsWith("WIN;simStartNs"))
+                .collect(Collectors.toList());
+
+        assertTrue(windows.size() <= ProfilingMonitor.MAX_WINDOWS);
+        final long busyOfA = windows.stream().mapToLong(line -> Long.parseLong(line.split(";")[5])).sum();
+        assertEquals(activities, busyOfA);
+    }
+
+    private void activity(String federateId, long simulationTime, long durationNs) {
+        final FederateEvent event = new FederateEvent(federateId, simulationTime, 0, (byte) 0);
+        monitor.onBeginActivity(event);
+        clockNs += durationNs;
+        monitor.onEndActivity(event, 0);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ConservativeTimeManagementTest extends SequentialTimeManagementTest {
+
+    @Override
+    protected TimeManagement createTimeManagement(ComponentProvider componentProvider) {
+        return new ConservativeTimeManagement(componentProvider, new MosaicComponentParameters().setNumberOfThreads(2).setEndTime(20 * TIME.SECOND));
+    }
+
+    /**
+     * Without lookahead, events are processed in the same order as in the sequential time management.
+     */
+    @Test
+    public void noLookaheadSequentialOrder() throws Exception {
+        //SETUP
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", 0, 0, (byte) 2);
+        timeManagement.requestAdvanceTime("ambassador2", 5 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 5 * TIME.SECOND, 0, (byte) 2);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+        InOrder inOrder = inOrder(ambassadorMock1, ambassadorMock2);
+        inOrder.verify(ambassadorMock1).advanceTime(eq(0L));
+        inOrder.verify(ambassadorMock2).advanceTime(eq(0L));
+        inOrder.verify(ambassadorMock2).advanceTime(eq(5 * TIME.SECOND));
+        inOrder.verify(ambassadorMock1).advanceTime(eq(5 * TIME.SECOND));
+    }
+
+    /**
+     * Both ambassadors declare a lookahead which allows to advance them concurrently, even
+     * if their events have different priorities and time stamps. Each ambassador only returns from its
+     * time advance once the other ambassador has been advanced as well.
+     */
+    @Test
+    public void lookaheadConcurrentAdvance() throws Exception {
+        //SETUP
+        final CountDownLatch bothAdvancing = new CountDownLatch(2);
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+        for (FederateAmbassador ambassador : new FederateAmbassador[]{ambassadorMock1, ambassadorMock2}) {
+            doAnswer(invocation -> {
+                bothAdvancing.countDown();
+                bothAdvancing.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(ambassador).advanceTime(anyLong());
+        }
+        timeManagement.requestAdvanceTime("ambassador1", 0, 2 * TIME.SECOND, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", TIME.SECOND, 2 * TIME.SECOND, (byte) 2);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        assertEquals(0, bothAdvancing.getCount());
+        verify(ambassadorMock1).advanceTime(eq(0L));
+        verify(ambassadorMock2).advanceTime(eq(TIME.SECOND));
+    }
+
+    /**
+     * The real time brake slows down the simulation, here to ten times the real time.
+     */
+    @Test
+    public void realtimeBrake() throws Exception {
+        //SETUP
+        final ComponentProvider componentProviderMock = mock(ComponentProvider.class);
+        when(componentProviderMock.getMonitor()).thenReturn(new Monitor() {});
+        when(componentProviderMock.getFederationManagement()).thenReturn(fedManagement.getFederationManagementMock());
+        final ConservativeTimeManagement realtimeTimeManagement = new ConservativeTimeManagement(componentProviderMock,
+                new MosaicComponentParameters().setNumberOfThreads(2).setEndTime(2 * TIME.SECOND)
+                        .setRealTimeBreak(10).setPreciseRealTimeBreak(true)
+        );
+        for (long time = 0; time <= 2 * TIME.SECOND; time += 500 * TIME.MILLI_SECOND) {
+            realtimeTimeManagement.requestAdvanceTime("ambassador1", time, 0, (byte) 1);
+        }
+
+        //RUN
+        final long startNs = System.nanoTime();
+        realtimeTimeManagement.runSimulation();
+        final long durationNs = System.nanoTime() - startNs;
+
+        //ASSERT
+        // the first sync at 0.5 s starts the schedule, the following ones wait for their deadline
+        assertEquals(3, realtimeTimeManagement.realtimeSync.getSyncs());
+        assertTrue(durationNs >= 150 * TIME.MILLI_SECOND);
+    }
+}
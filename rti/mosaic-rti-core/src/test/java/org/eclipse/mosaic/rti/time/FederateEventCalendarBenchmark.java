@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the {@link FederateEventCalendar} with the previously used synchronized {@link EfficientPriorityQueue}.
+ * Several threads request time advances for their own federate, mostly for times which are already pending,
+ * as it happens when a federate requests a time advance for each event it schedules internally.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.mosaic.rti.time.FederateEventCalendarBenchmark}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class FederateEventCalendarBenchmark {
+
+    /**
+     * Number of distinct times requested by each federate.
+     */
+    private static final int DISTINCT_TIMES = 16;
+
+    @State(Scope.Benchmark)
+    public static class Calendar {
+
+        @Param({"efficientPriorityQueue", "federateEventCalendar"})
+        public String implementation;
+
+        private final AtomicInteger federateCounter = new AtomicInteger();
+
+        private Queue<FederateEvent> events;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            events = "efficientPriorityQueue".equals(implementation)
+                    ? new EfficientPriorityQueue<>()
+                    : new FederateEventCalendar();
+        }
+
+        void requestAdvanceTime(String federateId, long time, long lookahead, byte priority) {
+            if (events instanceof FederateEventCalendar) {
+                ((FederateEventCalendar) events).add(federateId, time, lookahead, priority);
+            } else {
+                // as previously done in AbstractTimeManagement#requestAdvanceTime
+                synchronized (events) {
+                    FederateEvent e = new FederateEvent(federateId, time, lookahead, priority);
+                    if (!events.contains(e)) {
+                        events.add(e);
+                    }
+                }
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Federate {
+
+        private String federateId;
+
+        private int counter = 0;
+
+        @Setup
+        public void setup(Calendar calendar) {
+            federateId = "federate" + calendar.federateCounter.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public void requestAdvanceTime(Calendar calendar, Federate federate) {
+        // mostly repeated requests for the same time, with a new time every 8 requests
+        final long time = ((federate.counter++ >> 3) % DISTINCT_TIMES) * TIME.MILLI_SECOND;
+        calendar.requestAdvanceTime(federate.federateId, time, 0, (byte) 50);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FederateEventCalendarBenchmark.class.getSimpleName()).build()).run();
+    }
+}
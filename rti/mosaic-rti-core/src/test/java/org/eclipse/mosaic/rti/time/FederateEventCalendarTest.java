@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FederateEventCalendarTest {
+
+    private final FederateEventCalendar calendar = new FederateEventCalendar();
+
+    @Test
+    public void eventsOrderedByTimeAndPriority() {
+        calendar.add("a", 5 * TIME.SECOND, 0, (byte) 1);
+        calendar.add("b", TIME.SECOND, 0, (byte) 2);
+        calendar.add("c", TIME.SECOND, 0, (byte) 1);
+
+        assertEquals(3, calendar.size());
+        assertEquals("c", calendar.poll().getFederateId());
+        assertEquals("b", calendar.poll().getFederateId());
+        assertEquals("a", calendar.poll().getFederateId());
+        assertNull(calendar.poll());
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void duplicateRequestsIgnored() {
+        assertTrue(calendar.add("a", TIME.SECOND, 0, (byte) 1));
+        assertTrue(calendar.add("a", 2 * TIME.SECOND, 0, (byte) 1));
+        assertFalse(calendar.add("a", TIME.SECOND, 0, (byte) 1));
+        assertFalse(calendar.add("a", 2 * TIME.SECOND, 0, (byte) 1));
+        // other priority or other federate are different events
+        assertTrue(calendar.add("a", TIME.SECOND, 0, (byte) 2));
+        assertTrue(calendar.add("b", TIME.SECOND, 0, (byte) 1));
+
+        assertEquals(4, calendar.size());
+    }
+
+    @Test
+    public void eventCanBeRequestedAgainAfterPoll() {
+        calendar.add("a", TIME.SECOND, 0, (byte) 1);
+        assertEquals(TIME.SECOND, calendar.poll().getRequestedTime());
+
+        assertTrue(calendar.add("a", TIME.SECOND, 0, (byte) 1));
+        assertEquals(1, calendar.size());
+    }
+
+    @Test
+    public void eventCanBeRequestedAgainAfterRemove() {
+        calendar.add("a", TIME.SECOND, 0, (byte) 1);
+        calendar.add("a", 2 * TIME.SECOND, 0, (byte) 1);
+        final FederateEvent event = calendar.peek();
+
+        assertTrue(calendar.remove(event));
+        assertTrue(calendar.add("a", TIME.SECOND, 0, (byte) 1));
+        assertEquals(2, calendar.size());
+    }
+
+    @Test
+    public void smallerLookaheadIsNotIgnored() {
+        assertTrue(calendar.add("a", TIME.SECOND, 2 * TIME.SECOND, (byte) 1));
+        assertFalse(calendar.add("a", TIME.SECOND, 3 * TIME.SECOND, (byte) 1));
+        assertTrue(calendar.add("a", TIME.SECOND, TIME.SECOND, (byte) 1));
+
+        assertEquals(TIME.SECOND, calendar.poll().getLookahead());
+    }
+
+    @Test
+    public void manyPendingEventsOfOneFederate() {
+        for (int i = 1000; i > 0; i--) {
+            calendar.add("a", i, 0, (byte) 1);
+        }
+        for (int i = 1; i <= 1000; i += 2) {
+            assertFalse(calendar.add("a", i, 0, (byte) 1));
+        }
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i, calendar.poll().getRequestedTime());
+            assertTrue(calendar.add("a", i, 0, (byte) 1));
+            assertFalse(calendar.add("a", i, 0, (byte) 1));
+            calendar.poll();
+        }
+        assertTrue(calendar.isEmpty());
+    }
+
+    @Test
+    public void concurrentRequests() throws Exception {
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final String federateId = "federate" + t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    calendar.add(federateId, i % 100, 0, (byte) 1);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(400, calendar.size());
+        long lastTime = -1;
+        FederateEvent event;
+        while ((event = calendar.poll()) != null) {
+            assertTrue(event.getRequestedTime() >= lastTime);
+            lastTime = event.getRequestedTime();
+        }
+    }
+}
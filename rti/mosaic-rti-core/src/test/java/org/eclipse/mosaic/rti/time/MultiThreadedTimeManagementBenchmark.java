@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.FederationManagement;
+import org.eclipse.mosaic.rti.api.Monitor;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the scheduling backends of the {@link MultiThreadedTimeManagement}. A number of federates
+ * with the same priority advance in fixed steps, each step takes a short amount of time in which the
+ * federate is idle (e.g. waiting for an external simulator). Besides the duration of the simulation run,
+ * the consumed CPU time of the process (in cores) and the resulting real time factor are reported.
+ *
+ * <p>Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.mosaic.rti.time.MultiThreadedTimeManagementBenchmark}.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MultiThreadedTimeManagementBenchmark {
+
+    private static final long STEP = 100 * TIME.MILLI_SECOND;
+    private static final long END_TIME = 100 * TIME.SECOND;
+    private static final long IDLE_TIME_PER_STEP_NS = 200 * TIME.MICRO_SECOND;
+
+    @State(Scope.Benchmark)
+    public static class Federation {
+
+        @Param({"legacy", "workStealing"})
+        public String backend;
+
+        @Param({"4"})
+        public int threads;
+
+        @Param({"4"})
+        public int federates;
+
+        private ComponentProvider componentProvider;
+        private FederationManagement federationManagement;
+        private final List<String> federateIds = new ArrayList<>();
+        private MultiThreadedTimeManagement timeManagement;
+
+        @Setup
+        public void setup() throws Exception {
+            componentProvider = mock(ComponentProvider.class, withSettings().stubOnly());
+            federationManagement = mock(FederationManagement.class, withSettings().stubOnly());
+            when(componentProvider.getFederationManagement()).thenReturn(federationManagement);
+            when(componentProvider.getMonitor()).thenReturn(new Monitor() {});
+
+            final List<FederateAmbassador> ambassadors = new ArrayList<>();
+            for (int i = 0; i < federates; i++) {
+                final String federateId = "federate" + i;
+                final FederateAmbassador ambassador = mock(FederateAmbassador.class, withSettings().stubOnly());
+                doAnswer(invocation -> {
+                    long time = invocation.getArgument(0);
+                    LockSupport.parkNanos(IDLE_TIME_PER_STEP_NS);
+                    if (time + STEP <= END_TIME) {
+                        timeManagement.requestAdvanceTime(federateId, time + STEP, STEP, (byte) 50);
+                    }
+                    return null;
+                }).when(ambassador).advanceTime(anyLong());
+                when(federationManagement.getAmbassador(eq(federateId))).thenReturn(ambassador);
+                ambassadors.add(ambassador);
+                federateIds.add(federateId);
+            }
+            when(federationManagement.getAmbassadors()).thenReturn(ambassadors);
+        }
+
+        MultiThreadedTimeManagement createTimeManagement() throws Exception {
+            final MosaicComponentParameters parameters = new MosaicComponentParameters()
+                    .setNumberOfThreads(threads)
+                    .setEndTime(END_TIME);
+            final FederateEventExecutor executor = "legacy".equals(backend)
+                    ? new ThreadPool(componentProvider, threads)
+                    : new WorkStealingThreadPool(componentProvider, threads);
+            timeManagement = new MultiThreadedTimeManagement(componentProvider, parameters, executor);
+            for (String federateId : federateIds) {
+                timeManagement.requestAdvanceTime(federateId, 0, STEP, (byte) 50);
+            }
+            return timeManagement;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Usage {
+
+        /**
+         * Average number of CPU cores used by the process during the simulation run.
+         */
+        public double cpuCores;
+
+        /**
+         * Simulated time divided by the wall clock time of the simulation run.
+         */
+        public double realTimeFactor;
+    }
+
+    @Benchmark
+    public void runSimulation(Federation federation, Usage usage) throws Exception {
+        final MultiThreadedTimeManagement timeManagement = federation.createTimeManagement();
+
+        final long cpuStart = processCpuTime();
+        final long wallStart = System.nanoTime();
+        timeManagement.runSimulation();
+        final long wallTime = System.nanoTime() - wallStart;
+        final long cpuTime = processCpuTime() - cpuStart;
+
+        usage.cpuCores = cpuTime / (double) wallTime;
+        usage.realTimeFactor = END_TIME / (double) wallTime;
+    }
+
+    private static long processCpuTime() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean()).getProcessCpuTime();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MultiThreadedTimeManagementBenchmark.class.getSimpleName()).build()).run();
+    }
+}
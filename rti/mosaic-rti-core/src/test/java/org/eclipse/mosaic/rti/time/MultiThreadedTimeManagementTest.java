@@ -15,15 +15,46 @@
 
 package org.eclipse.mosaic.rti.time;
 
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
 import org.eclipse.mosaic.rti.api.TimeManagement;
 
+import org.junit.Test;
+
 public class MultiThreadedTimeManagementTest extends SequentialTimeManagementTest {
 
     @Override
     protected TimeManagement createTimeManagement(ComponentProvider componentProvider) {
         return new MultiThreadedTimeManagement(componentProvider, new MosaicComponentParameters().setNumberOfThreads(2).setEndTime(20 * TIME.SECOND));
     }
-}
\ No newline at end of file
+
+    /**
+     * Two ambassadors with a lookahead request the same times, which leads to parallel execution.
+     */
+    @Test
+    public void twoAmbassadorsParallelAdvanceTimeRequests() throws Exception {
+        //SETUP
+        for (long time = 0; time <= 10 * TIME.SECOND; time += TIME.SECOND) {
+            timeManagement.requestAdvanceTime("ambassador1", time, TIME.SECOND, (byte) 1);
+            timeManagement.requestAdvanceTime("ambassador2", time, TIME.SECOND, (byte) 1);
+        }
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        final FederateAmbassador ambassadorMock1 = fedManagement.getAmbassador("ambassador1");
+        final FederateAmbassador ambassadorMock2 = fedManagement.getAmbassador("ambassador2");
+        for (long time = 0; time <= 10 * TIME.SECOND; time += TIME.SECOND) {
+            verify(ambassadorMock1).advanceTime(eq(time));
+            verify(ambassadorMock2).advanceTime(eq(time));
+        }
+        verify(ambassadorMock1).finishSimulation();
+        verify(ambassadorMock2).finishSimulation();
+    }
+}
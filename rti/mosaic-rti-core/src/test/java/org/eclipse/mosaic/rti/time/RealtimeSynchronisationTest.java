@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+public class RealtimeSynchronisationTest {
+
+    @Test
+    public void precise_followsAbsoluteSchedule() {
+        final RealtimeSynchronisation realtimeSync = new RealtimeSynchronisation(2, true);
+
+        final long start = System.nanoTime();
+        realtimeSync.sync(0);
+        for (int step = 1; step <= 10; step++) {
+            realtimeSync.sync(step * 10 * TIME.MILLI_SECOND);
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        // 100 ms of simulation time with realtime factor 2
+        assertTrue(elapsed >= 50 * TIME.MILLI_SECOND);
+        assertEquals(10, realtimeSync.getSyncs());
+        assertTrue(realtimeSync.getMaxDriftNs() >= 0);
+    }
+
+    @Test
+    public void precise_missedDeadlineCounted() throws InterruptedException {
+        final RealtimeSynchronisation realtimeSync = new RealtimeSynchronisation(1, true);
+
+        realtimeSync.sync(0);
+        Thread.sleep(20);
+        realtimeSync.sync(TIME.MILLI_SECOND);
+
+        assertEquals(1, realtimeSync.getMissedDeadlines());
+        assertTrue(realtimeSync.getMaxDriftNs() >= 19 * TIME.MILLI_SECOND);
+    }
+
+    @Test
+    public void disabled_noSyncs() {
+        final RealtimeSynchronisation realtimeSync = new RealtimeSynchronisation(0, true);
+
+        realtimeSync.sync(0);
+        realtimeSync.sync(TIME.HOUR);
+
+        assertEquals(0, realtimeSync.getSyncs());
+        assertEquals(0, realtimeSync.getMissedDeadlines());
+    }
+}
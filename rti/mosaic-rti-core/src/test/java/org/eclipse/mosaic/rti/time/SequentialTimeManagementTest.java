@@ -15,7 +15,9 @@
 
 package org.eclipse.mosaic.rti.time;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -35,6 +37,9 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Test which checks {@link SequentialTimeManagement}
@@ -44,7 +49,7 @@ public class SequentialTimeManagementTest {
     @Rule
     public FederationManagementRule fedManagement = new FederationManagementRule("ambassador1", "ambassador2");
 
-    private TimeManagement timeManagement;
+    protected TimeManagement timeManagement;
 
     @Before
     public void setup() throws Exception {
@@ -97,4 +102,72 @@ public class SequentialTimeManagementTest {
         verify(ambassadorMock2).finishSimulation();
     }
 
+    /**
+     * An ambassador checks during its time advances, if other federates may still send interactions
+     * which are due before its next time advance.
+     */
+    @Test
+    public void mayReceiveInteractionsBefore() throws Exception {
+        //SETUP
+        final List<Boolean> results = new ArrayList<>();
+        doAnswer(invocation -> {
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador1", 2 * TIME.SECOND, (byte) 1));
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador1", TIME.SECOND, (byte) 0));
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador1")).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador1", 2 * TIME.SECOND, (byte) 1));
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador2", 2 * TIME.SECOND, (byte) 0));
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador2")).advanceTime(eq(TIME.SECOND));
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", TIME.SECOND, 0, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT the pending event of ambassador2 precedes the event of ambassador1 at 2s, but not a higher prioritized one at 1s
+        assertEquals(Boolean.TRUE, results.get(0));
+        assertEquals(Boolean.FALSE, results.get(1));
+        //ASSERT the granted event of ambassador2 precedes the event of ambassador1, the own events are ignored
+        assertEquals(Boolean.TRUE, results.get(2));
+        assertEquals(Boolean.FALSE, results.get(3));
+    }
+
+    /**
+     * An ambassador checks during its time advances, if other federates may still send interactions
+     * which are due until its next time advance, considering the lookahead of the other federates.
+     */
+    @Test
+    public void mayReceiveInteractionsBefore_lookahead() throws Exception {
+        //SETUP
+        final List<Boolean> results = new ArrayList<>();
+        doAnswer(invocation -> {
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador1", 2 * TIME.SECOND, (byte) 1));
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador1", 2 * TIME.SECOND - 1, (byte) 1));
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador1")).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            timeManagement.requestAdvanceTime("ambassador2", 3 * TIME.SECOND, Long.MAX_VALUE, (byte) 1);
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador2")).advanceTime(eq(TIME.SECOND));
+        doAnswer(invocation -> {
+            results.add(timeManagement.mayReceiveInteractionsBefore("ambassador1", 4 * TIME.SECOND, (byte) 1));
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador1")).advanceTime(eq(2 * TIME.SECOND));
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 2 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador1", 4 * TIME.SECOND, 0, (byte) 1);
+        timeManagement.requestAdvanceTime("ambassador2", TIME.SECOND, TIME.SECOND, (byte) 1);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT ambassador2 may send interactions at 2s while processing its event at 1s, but none before
+        assertEquals(Boolean.TRUE, results.get(0));
+        assertEquals(Boolean.FALSE, results.get(1));
+        //ASSERT the pending event of ambassador2 is ignored, since it is not time regulating
+        assertEquals(Boolean.FALSE, results.get(2));
+    }
 }
@@ -174,7 +174,10 @@ public class MosaicSimulation {
             printMosaicVersion();
 
             final MosaicComponentParameters simParams = readSimulationParameters(scenarioConfiguration)
-                    .setNumberOfThreads(runtimeConfiguration.threads);
+                    .setNumberOfThreads(runtimeConfiguration.threads)
+                    .setTimeManagementType(runtimeConfiguration.timeManagement)
+                    .setNumberOfInteractionDeliveryThreads(runtimeConfiguration.interactionDeliveryThreads)
+                    .setPreciseRealTimeBreak(runtimeConfiguration.preciseRealtimeBrake);
 
             initializeSingletons(scenarioConfiguration);
 
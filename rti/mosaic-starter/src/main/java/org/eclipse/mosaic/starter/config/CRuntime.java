@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.starter.config;
 
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
 import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
 
 import java.util.ArrayList;
@@ -33,6 +34,27 @@ public class CRuntime {
      */
     public int threads = 1;
 
+    /**
+     * The time management implementation to be used. If not set, the sequential time management is used for one thread,
+     * and the multi-threaded time management for more than one thread. The {@code CONSERVATIVE} time management
+     * advances federates in parallel only if their declared lookahead guarantees the same results as a sequential run.
+     */
+    public MosaicComponentParameters.TimeManagementType timeManagement = null;
+
+    /**
+     * The number of threads used to deliver published interactions to their subscribed federates concurrently.
+     * The publishing federate continues only after all subscribers have received the interaction. If set to {@code 0},
+     * all subscribers receive interactions one after another.
+     */
+    public int interactionDeliveryThreads = 0;
+
+    /**
+     * If enabled, the real time brake keeps to a schedule computed from the start of the simulation, instead of
+     * compensating the sleep duration of the previous step only. Deadlines are met by parking and finally spinning the
+     * time management thread, and missed deadlines as well as the drift from the schedule are logged at the end.
+     */
+    public boolean preciseRealtimeBrake = false;
+
 
     public List<CFederate> federates = new ArrayList<>();
 
@@ -15,9 +15,16 @@
 
 package org.eclipse.mosaic.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.MosaicComponentProvider;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.Monitor;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
 import org.eclipse.mosaic.starter.MosaicSimulation;
 import org.eclipse.mosaic.test.junit.LogAssert;
 import org.eclipse.mosaic.test.junit.MosaicSimulationRule;
@@ -26,15 +33,53 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 public class RtiMultiThreadedTimeManagementIT {
 
     @ClassRule
     public static MosaicSimulationRule simulationRule = new MosaicSimulationRule().logLevelOverride("TRACE");
 
+    @ClassRule
+    public static MosaicSimulationRule sequentialSimulationRule = new MosaicSimulationRule()
+            .componentProviderFactory(params -> new MosaicComponentProvider(params) {
+                @Override
+                protected Monitor createMonitor(MosaicComponentParameters componentParameters) {
+                    return SEQUENTIAL_RECORDING;
+                }
+            });
+
+    @ClassRule
+    public static MosaicSimulationRule conservativeSimulationRule = new MosaicSimulationRule()
+            .componentProviderFactory(params -> new MosaicComponentProvider(params) {
+                @Override
+                protected Monitor createMonitor(MosaicComponentParameters componentParameters) {
+                    return CONSERVATIVE_RECORDING;
+                }
+            });
+
+    private static final ActivityRecorder SEQUENTIAL_RECORDING = new ActivityRecorder();
+    private static final ActivityRecorder CONSERVATIVE_RECORDING = new ActivityRecorder();
+
     private static MosaicSimulation.SimulationResult simulationResult;
+    private static MosaicSimulation.SimulationResult sequentialSimulationResult;
+    private static MosaicSimulation.SimulationResult conservativeSimulationResult;
 
     @BeforeClass
     public static void runSimulation() {
+        // the multi-threaded simulation is executed last, since its log files are checked afterwards
+        sequentialSimulationRule.getRuntimeConfiguration().threads = 1;
+        sequentialSimulationRule.getRuntimeConfiguration().timeManagement = MosaicComponentParameters.TimeManagementType.SEQUENTIAL;
+        sequentialSimulationResult = sequentialSimulationRule.executeTestScenario("rti-multi-threaded-time-management");
+
+        conservativeSimulationRule.getRuntimeConfiguration().threads = 2;
+        conservativeSimulationRule.getRuntimeConfiguration().timeManagement = MosaicComponentParameters.TimeManagementType.CONSERVATIVE;
+        conservativeSimulationResult = conservativeSimulationRule.executeTestScenario("rti-multi-threaded-time-management");
+
         simulationRule.getRuntimeConfiguration().threads = 2;
         simulationResult = simulationRule.executeTestScenario("rti-multi-threaded-time-management");
     }
@@ -49,4 +94,45 @@ public class RtiMultiThreadedTimeManagementIT {
     public void multiThreadingActive() throws Exception {
         LogAssert.contains(simulationRule, "MOSAIC.log", ".*TRACE MultiThreadedTimeManagement - Parallel execution.*");
     }
+
+    @Test
+    public void conservativeExecutionSuccessful() {
+        assertNull(sequentialSimulationResult.exception);
+        assertTrue(sequentialSimulationResult.success);
+        assertNull(conservativeSimulationResult.exception);
+        assertTrue(conservativeSimulationResult.success);
+    }
+
+    @Test
+    public void conservativeTimeManagementEqualsSequentialTimeManagement() {
+        assertFalse(SEQUENTIAL_RECORDING.timeAdvances.isEmpty());
+        assertEquals(SEQUENTIAL_RECORDING.timeAdvances, CONSERVATIVE_RECORDING.timeAdvances);
+        assertEquals(SEQUENTIAL_RECORDING.getSortedInteractions(), CONSERVATIVE_RECORDING.getSortedInteractions());
+    }
+
+    /**
+     * Records the sequence of time advances per federate and all published interactions.
+     */
+    private static class ActivityRecorder implements Monitor {
+
+        private final Map<String, List<Long>> timeAdvances = Collections.synchronizedMap(new TreeMap<>());
+        private final List<String> interactions = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onBeginActivity(FederateEvent event) {
+            timeAdvances.computeIfAbsent(event.getFederateId(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(event.getRequestedTime());
+        }
+
+        @Override
+        public void onInteraction(Interaction interaction) {
+            interactions.add(interaction.getTime() + " " + interaction.getSenderId() + " " + interaction.getTypeId());
+        }
+
+        private List<String> getSortedInteractions() {
+            final List<String> sorted = new ArrayList<>(interactions);
+            Collections.sort(sorted);
+            return sorted;
+        }
+    }
 }